@@ -0,0 +1,186 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.entity.drive.DriveSpot;
+import io.routepickapi.entity.drive.DriveSpotSourceType;
+import io.routepickapi.infrastructure.client.tour.dto.TourItem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 고정 데이터. 서울 → 강릉 경로(영동고속도로 축)와 그 주변에 흩어진 한국어 POI 를 만든다.
+ * 같은 seed 면 항상 같은 데이터를 만든다.
+ */
+final class BenchmarkFixtures {
+
+    static final GeoPoint SEOUL = new GeoPoint(126.9780, 37.5665);
+    static final GeoPoint GANGNEUNG = new GeoPoint(128.8961, 37.7519);
+
+    private static final String[] AREAS = {
+        "하남", "양평", "여주", "원주", "횡성", "둔내", "평창", "봉평", "진부", "대관령", "강릉", "경포", "안목", "정동진"
+    };
+    private static final PlaceKind[] KINDS = {
+        new PlaceKind("전망대", "관광명소", Set.of("전망대", "전망", "관광지")),
+        new PlaceKind("뷰카페", "카페", Set.of("카페", "뷰카페", "디저트")),
+        new PlaceKind("계곡", "관광명소", Set.of("계곡", "자연", "산책")),
+        new PlaceKind("자연휴양림", "관광명소", Set.of("자연휴양림", "숲", "자연")),
+        new PlaceKind("해변", "관광명소", Set.of("해변", "바다", "해안")),
+        new PlaceKind("호수공원", "관광명소", Set.of("호수", "공원", "산책로")),
+        new PlaceKind("브런치 카페", "카페", Set.of("카페", "브런치", "베이커리")),
+        new PlaceKind("휴게소", "휴게소", Set.of("휴게소", "드라이브")),
+        new PlaceKind("수목원", "관광명소", Set.of("수목원", "숲", "자연")),
+        new PlaceKind("야경 명소", "관광명소", Set.of("야경", "노을", "드라이브"))
+    };
+    private static final String[] SOURCES = {"KAKAO", "TOURAPI", "CURATED"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 서울 → 강릉 사이를 120개 구간으로 나눈 경로. 실제 도로처럼 남북으로 조금씩 굽는다.
+     */
+    static List<GeoPoint> routePolyline() {
+        int segments = 120;
+        List<GeoPoint> points = new ArrayList<>(segments + 1);
+        for (int index = 0; index <= segments; index++) {
+            double ratio = index / (double) segments;
+            double lng = SEOUL.x() + (GANGNEUNG.x() - SEOUL.x()) * ratio;
+            double lat = SEOUL.y() + (GANGNEUNG.y() - SEOUL.y()) * ratio
+                - 0.12 * Math.sin(ratio * Math.PI)
+                + 0.02 * Math.sin(ratio * Math.PI * 9);
+            points.add(new GeoPoint(lng, lat));
+        }
+        return points;
+    }
+
+    /**
+     * 경로 주변 0~8km 에 흩어진 POI. 이름/태그는 실제 추천 후보와 비슷한 한국어 조합이다.
+     */
+    static List<Poi> pois(int count, long seed) {
+        Random random = new Random(seed);
+        List<GeoPoint> route = routePolyline();
+        List<Poi> pois = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            GeoPoint anchor = route.get(random.nextInt(route.size()));
+            GeoPoint location = offset(anchor, random, 8.0);
+            String area = AREAS[Math.min(AREAS.length - 1, (int) (progress(anchor) * AREAS.length))];
+            PlaceKind kind = KINDS[random.nextInt(KINDS.length)];
+            String source = SOURCES[random.nextInt(SOURCES.length)];
+            pois.add(new Poi(
+                source,
+                source.toLowerCase(Locale.ROOT) + "-" + index,
+                area + " " + kind.name() + " " + (index % 7 + 1) + "호점",
+                location.y(),
+                location.x(),
+                kind.group(),
+                kind.tags(),
+                random.nextBoolean(),
+                0.3 + random.nextDouble() * 0.7,
+                0.1 + random.nextDouble() * 0.4,
+                Duration.ofMinutes(20 + random.nextInt(5) * 10),
+                0.3 + random.nextDouble() * 0.7
+            ));
+        }
+        return pois;
+    }
+
+    static List<KakaoPlaceDocument> kakaoDocuments(double lat, double lng, String keyword, int count) {
+        Random random = new Random(Double.hashCode(lat) * 31L + Double.hashCode(lng) + keyword.hashCode());
+        GeoPoint center = new GeoPoint(lng, lat);
+        List<KakaoPlaceDocument> documents = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            GeoPoint location = offset(center, random, 5.0);
+            PlaceKind kind = KINDS[random.nextInt(KINDS.length)];
+            String area = AREAS[Math.min(AREAS.length - 1, (int) (progress(center) * AREAS.length))];
+            documents.add(new KakaoPlaceDocument(
+                String.valueOf(Math.abs(random.nextLong() % 100_000_000L)),
+                area + " " + keyword + " " + kind.name(),
+                "여행 > " + kind.group() + " > " + String.join(" > ", kind.tags()),
+                kind.group().equals("카페") ? "CE7" : "AT4",
+                kind.group(),
+                "033-000-" + index,
+                "강원특별자치도 " + area + " " + index,
+                "강원특별자치도 " + area + "로 " + index,
+                "http://place.map.kakao.com/" + index,
+                String.valueOf(location.x()),
+                String.valueOf(location.y()),
+                String.valueOf(random.nextInt(5000))
+            ));
+        }
+        return documents;
+    }
+
+    static List<TourItem> tourItems(double lat, double lng, String contentType, int count) {
+        Random random = new Random(Double.hashCode(lat) * 17L + Double.hashCode(lng) + contentType.hashCode());
+        GeoPoint center = new GeoPoint(lng, lat);
+        List<TourItem> items = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            GeoPoint location = offset(center, random, 8.0);
+            PlaceKind kind = KINDS[random.nextInt(KINDS.length)];
+            String area = AREAS[Math.min(AREAS.length - 1, (int) (progress(center) * AREAS.length))];
+            items.add(new TourItem(
+                String.valueOf(100_000 + random.nextInt(900_000)),
+                contentType,
+                area + " " + kind.name(),
+                "강원특별자치도 " + area,
+                "",
+                String.valueOf(location.x()),
+                String.valueOf(location.y()),
+                "32",
+                "1",
+                "자연",
+                String.join(" ", kind.tags()),
+                kind.name(),
+                "",
+                ""
+            ));
+        }
+        return items;
+    }
+
+    static List<DriveSpot> driveSpots(int count, long seed) {
+        Random random = new Random(seed);
+        List<GeoPoint> route = routePolyline();
+        List<DriveSpot> spots = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            GeoPoint location = offset(route.get(random.nextInt(route.size())), random, 30.0);
+            PlaceKind kind = KINDS[random.nextInt(KINDS.length)];
+            spots.add(new DriveSpot(
+                AREAS[random.nextInt(AREAS.length)] + " " + kind.name(),
+                location.y(),
+                location.x(),
+                "강원",
+                kind.group(),
+                String.join(",", kind.tags()) + (random.nextBoolean() ? ",nature" : ""),
+                0.4 + random.nextDouble() * 0.6,
+                0.4 + random.nextDouble() * 0.6,
+                30 + random.nextInt(4) * 10,
+                true,
+                DriveSpotSourceType.CURATED
+            ));
+        }
+        return spots;
+    }
+
+    private static GeoPoint offset(GeoPoint anchor, Random random, double maxKm) {
+        double distanceKm = random.nextDouble() * maxKm;
+        double bearing = random.nextDouble() * Math.PI * 2;
+        double dLat = distanceKm * Math.cos(bearing) / 111.0;
+        double dLng = distanceKm * Math.sin(bearing) / (111.0 * Math.cos(Math.toRadians(anchor.y())));
+        return new GeoPoint(anchor.x() + dLng, anchor.y() + dLat);
+    }
+
+    private static double progress(GeoPoint point) {
+        double ratio = (point.x() - SEOUL.x()) / (GANGNEUNG.x() - SEOUL.x());
+        return Math.max(0.0, Math.min(0.999, ratio));
+    }
+
+    private record PlaceKind(String name, String group, Set<String> tags) {
+    }
+}
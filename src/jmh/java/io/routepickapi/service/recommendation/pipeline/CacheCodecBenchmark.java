@@ -0,0 +1,199 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.routepickapi.domain.course.Course;
+import io.routepickapi.domain.course.CourseStop;
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
+import io.routepickapi.infrastructure.client.tour.dto.TourItem;
+import io.routepickapi.service.recommendation.CacheFormat;
+import io.routepickapi.service.recommendation.CachePayloadCodec;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추천 캐시 payload 의 JSON / Smile, 압축 여부별 encode/decode 시간 비교.
+ * 저장 크기는 encode 벤치마크의 보조 지표 {@code payloadBytes} 로 함께 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCodecBenchmark {
+
+    private static final TypeReference<DriveCourseResult> RESULT_TYPE = new TypeReference<>() {};
+    private static final TypeReference<RawPoiBundle> BUNDLE_TYPE = new TypeReference<>() {};
+
+    @Param({"json", "json-gzip", "smile", "smile-gzip"})
+    public String codec;
+
+    private CachePayloadCodec payloadCodec;
+    private CacheFormat format;
+    private DriveCourseResult result;
+    private RawPoiBundle bundle;
+    private byte[] encodedResult;
+    private byte[] encodedBundle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        boolean gzip = codec.endsWith("-gzip");
+        format = CacheFormat.from(codec.replace("-gzip", ""));
+        payloadCodec = new CachePayloadCodec(objectMapper, gzip ? 1 : 0);
+        result = driveCourseResult();
+        bundle = rawPoiBundle();
+        encodedResult = payloadCodec.encode(result, format);
+        encodedBundle = payloadCodec.encode(bundle, format);
+    }
+
+    @Benchmark
+    public byte[] encodeDriveCourseResult(PayloadSize size) throws IOException {
+        byte[] encoded = payloadCodec.encode(result, format);
+        size.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public DriveCourseResult decodeDriveCourseResult() throws IOException {
+        return payloadCodec.decode(encodedResult, RESULT_TYPE);
+    }
+
+    @Benchmark
+    public byte[] encodePoiBundle(PayloadSize size) throws IOException {
+        byte[] encoded = payloadCodec.encode(bundle, format);
+        size.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public RawPoiBundle decodePoiBundle() throws IOException {
+        return payloadCodec.decode(encodedBundle, BUNDLE_TYPE);
+    }
+
+    private DriveCourseResult driveCourseResult() {
+        List<Course> courses = new ArrayList<>();
+        List<Poi> stops = new ArrayList<>();
+        for (int courseIndex = 0; courseIndex < 3; courseIndex++) {
+            List<CourseStop> courseStops = new ArrayList<>();
+            for (int stopIndex = 0; stopIndex < 5; stopIndex++) {
+                Poi poi = poi(courseIndex * 10 + stopIndex);
+                stops.add(poi);
+                courseStops.add(new CourseStop(
+                    stopIndex + 1,
+                    poi,
+                    Duration.ofMinutes(40),
+                    12.5 + stopIndex,
+                    Duration.ofMinutes(18 + stopIndex),
+                    stopIndex % 2 == 0
+                ));
+            }
+            courses.add(new Course(
+                null,
+                "강원",
+                "바다",
+                182.4,
+                Duration.ofMinutes(245),
+                87.5 - courseIndex,
+                courseStops,
+                null,
+                LocalDateTime.of(2025, 5, 1, 9, 0)
+            ));
+        }
+        return new DriveCourseResult(
+            "bench-request",
+            37.5665,
+            126.9780,
+            LocalDateTime.of(2025, 5, 1, 9, 0),
+            courses,
+            stops,
+            LocalDateTime.of(2025, 5, 1, 9, 0, 3)
+        );
+    }
+
+    private Poi poi(int index) {
+        return new Poi(
+            "KAKAO",
+            "place-" + index,
+            "강릉 안목해변 카페거리 전망대 " + index,
+            37.7 + index * 0.01,
+            128.9 - index * 0.01,
+            "CAFE",
+            Set.of("바다", "카페", "전망", "드라이브"),
+            true,
+            0.8,
+            0.3,
+            Duration.ofMinutes(40),
+            0.9
+        );
+    }
+
+    private RawPoiBundle rawPoiBundle() {
+        List<KakaoPlaceDocument> places = new ArrayList<>();
+        for (int index = 0; index < 45; index++) {
+            places.add(new KakaoPlaceDocument(
+                String.valueOf(100000 + index),
+                "양평 두물머리 카페 " + index,
+                "음식점 > 카페 > 커피전문점",
+                "CE7",
+                "카페",
+                "031-000-" + index,
+                "경기 양평군 양서면 양수리 " + index,
+                "경기 양평군 양서면 두물머리길 " + index,
+                "http://place.map.kakao.com/" + (100000 + index),
+                String.valueOf(127.31 + index * 0.001),
+                String.valueOf(37.53 + index * 0.001),
+                String.valueOf(index * 120)
+            ));
+        }
+        List<TourItem> tourItems = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            tourItems.add(new TourItem(
+                String.valueOf(200000 + index),
+                "12",
+                "정동진 해안 관광지 " + index,
+                "강원특별자치도 강릉시 강동면 정동진리 " + index,
+                "",
+                String.valueOf(129.03 + index * 0.001),
+                String.valueOf(37.69 + index * 0.001),
+                "32",
+                "1",
+                "A01",
+                "A0101",
+                "A01011100",
+                "http://tong.visitkorea.or.kr/cms/resource/" + index + "_image2_1.jpg",
+                "http://tong.visitkorea.or.kr/cms/resource/" + index + "_image3_1.jpg"
+            ));
+        }
+        return new RawPoiBundle(places, tourItems);
+    }
+
+    /**
+     * 마지막으로 encode 한 payload 의 바이트 수. 입력이 고정이라 매 호출 같은 값이다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
@@ -0,0 +1,100 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.RouteMetrics;
+import io.routepickapi.service.recommendation.RoutePath;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 추천 파이프라인 단계별 벤치마크. 외부 호출이 없는 단계만 다루며, 입력은 {@link BenchmarkFixtures} 로 고정한다.
+ * 코스 다양성 선택은 facade 내부 단계라 {@link RecommendationFacadeBenchmark} 의 전체 파이프라인에서 함께 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PipelineStageBenchmark {
+
+    private static final int DURATION_MINUTES = 240;
+
+    @Param({"50", "200", "500"})
+    public int poiCount;
+
+    @Param({"NATURE", "CAFE"})
+    public String theme;
+
+    private PoiThemePolicy poiThemePolicy;
+    private PoiFilterService poiFilterService;
+    private PoiScoringService poiScoringService;
+    private CourseGenerationService courseGenerationService;
+
+    private DriveTheme driveTheme;
+    private List<Poi> pois;
+    private List<Poi> filteredPois;
+    private List<GeoPoint> polyline;
+    private RoutePath routePath;
+    private RouteMetrics routeMetrics;
+    private CourseGenerationService.SearchSpec searchSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        poiThemePolicy = new PoiThemePolicy();
+        poiFilterService = new PoiFilterService(poiThemePolicy);
+        poiScoringService = new PoiScoringService(poiThemePolicy);
+        courseGenerationService = new CourseGenerationService();
+
+        driveTheme = DriveTheme.valueOf(theme);
+        pois = BenchmarkFixtures.pois(poiCount, 42L);
+        filteredPois = poiFilterService.filter(pois, driveTheme, "bench");
+        polyline = BenchmarkFixtures.routePolyline();
+        routePath = new RoutePath(polyline, true);
+        routeMetrics = new RouteMetrics(250.0, 180.0, 12.0, 25.0, 8.0);
+        // 운영과 같이 필터 단계 점수와 최종 시간 컷으로 탐색하도록 조건을 만든다.
+        searchSpec = CourseGenerationService.SearchSpec.forScored(
+            poiScoringService.score(filteredPois, driveTheme, routeMetrics, routePath),
+            BenchmarkFixtures.SEOUL,
+            BenchmarkFixtures.GANGNEUNG,
+            DURATION_MINUTES
+        );
+    }
+
+    @Benchmark
+    public List<Poi> poiFilter() {
+        return poiFilterService.filter(pois, driveTheme, "bench");
+    }
+
+    @Benchmark
+    public List<PoiScoringService.ScoredPoi> poiScoring() {
+        return poiScoringService.score(filteredPois, driveTheme, routeMetrics, routePath);
+    }
+
+    @Benchmark
+    public List<CoursePlan> courseGeneration() {
+        return courseGenerationService.generate(filteredPois, List.of(), 3, 40, searchSpec);
+    }
+
+    @Benchmark
+    public void routePathQueries(Blackhole blackhole) {
+        for (Poi poi : pois) {
+            GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
+            blackhole.consume(routePath.distanceToPathKm(point));
+            blackhole.consume(routePath.progressRatio(point));
+        }
+    }
+
+    @Benchmark
+    public RoutePath routePathBuild() {
+        return new RoutePath(polyline, true);
+    }
+}
@@ -0,0 +1,63 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 외부 API 와 Redis 를 stub 으로 바꾼 상태에서 {@link RecommendationFacade#recommend} 전체를 측정한다.
+ * 캐시는 항상 miss 이므로 매 호출이 수집부터 코스 선택까지 모든 단계를 거친다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecommendationFacadeBenchmark {
+
+    @Param({"nature", "cafe", "default"})
+    public String theme;
+
+    @Param({"50", "200"})
+    public int curatedSpots;
+
+    private StubbedPipeline pipeline;
+    private DriveCourseCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pipeline = StubbedPipeline.create(new SimpleMeterRegistry(), curatedSpots);
+        command = new DriveCourseCommand(
+            "bench",
+            BenchmarkFixtures.SEOUL.y(),
+            BenchmarkFixtures.SEOUL.x(),
+            BenchmarkFixtures.GANGNEUNG.y(),
+            BenchmarkFixtures.GANGNEUNG.x(),
+            theme,
+            240,
+            3,
+            LocalDateTime.of(2025, 5, 1, 9, 0),
+            false,
+            List.of()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Benchmark
+    public DriveCourseResult recommend() {
+        return pipeline.facade().recommend(command);
+    }
+}
@@ -0,0 +1,179 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.infrastructure.client.kakao.KakaoLocalClient;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.PathResult;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.SegmentResult;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.WaypointResult;
+import io.routepickapi.infrastructure.client.routing.dto.Coordinate;
+import io.routepickapi.infrastructure.client.tour.TourApiClient;
+import io.routepickapi.infrastructure.client.weather.WeatherClient;
+import io.routepickapi.repository.DriveSpotRepository;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
+import io.routepickapi.service.recommendation.ExternalFanOutExecutor;
+import io.routepickapi.service.recommendation.GeoUtils;
+import io.routepickapi.service.recommendation.RecommendationCacheService;
+import io.routepickapi.service.recommendation.RouteMetricsService;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 외부 API(Kakao/Tour/날씨), Redis, DB 를 stub 으로 바꿔 실제 파이프라인 객체를 조립한다.
+ * stub 은 {@link BenchmarkFixtures} 의 고정 데이터를 즉시 돌려주므로 측정값에는 순수 계산 비용만 남는다.
+ * Spring 없이 만들므로 {@code @Value} 필드는 application.yml 기본값으로 직접 채운다.
+ */
+final class StubbedPipeline implements AutoCloseable {
+
+    private static final double ROAD_FACTOR = 1.25;
+    private static final double AVERAGE_SPEED_KMH = 70.0;
+
+    private final RecommendationFacade facade;
+    private final ExternalFanOutExecutor fanOutExecutor;
+
+    private StubbedPipeline(RecommendationFacade facade, ExternalFanOutExecutor fanOutExecutor) {
+        this.facade = facade;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    static StubbedPipeline create(MeterRegistry meterRegistry) {
+        return create(meterRegistry, 100);
+    }
+
+    static StubbedPipeline create(MeterRegistry meterRegistry, int curatedSpots) {
+        KakaoLocalClient kakaoLocalClient = mock(KakaoLocalClient.class);
+        when(kakaoLocalClient.searchKeywordByLocation(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt()))
+            .thenAnswer(invocation -> new KakaoPlaceSearchResponse(
+                new KakaoPlaceSearchResponse.KakaoMeta(true, 15, 15),
+                BenchmarkFixtures.kakaoDocuments(
+                    invocation.getArgument(2),
+                    invocation.getArgument(1),
+                    invocation.getArgument(0),
+                    15
+                )
+            ));
+
+        TourApiClient tourApiClient = mock(TourApiClient.class);
+        when(tourApiClient.fetchLocationBased(anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt(), anyString()))
+            .thenAnswer(invocation -> BenchmarkFixtures.tourItems(
+                invocation.getArgument(0),
+                invocation.getArgument(1),
+                invocation.getArgument(5),
+                30
+            ));
+
+        KakaoRoutingClient routingClient = mock(KakaoRoutingClient.class);
+        when(routingClient.fetchSegmentMetrics(any(Coordinate.class), any(Coordinate.class)))
+            .thenAnswer(invocation -> segment(invocation.getArgument(0), invocation.getArgument(1)));
+        when(routingClient.fetchWaypointSections(any(Coordinate.class), anyList(), any(Coordinate.class)))
+            .thenAnswer(invocation -> sections(
+                invocation.getArgument(0),
+                invocation.getArgument(1),
+                invocation.getArgument(2)
+            ));
+        when(routingClient.fetchRoutePath(any(Coordinate.class), any(Coordinate.class)))
+            .thenReturn(new PathResult(BenchmarkFixtures.routePolyline(), true, 200));
+
+        DriveSpotRepository driveSpotRepository = mock(DriveSpotRepository.class);
+        when(driveSpotRepository.findByIsActiveTrue()).thenReturn(BenchmarkFixtures.driveSpots(curatedSpots, 11L));
+        when(driveSpotRepository.count()).thenReturn((long) curatedSpots);
+
+        WeatherClient weatherClient = mock(WeatherClient.class);
+        RecommendationCacheService cacheService = mock(RecommendationCacheService.class);
+        ExternalFanOutExecutor fanOutExecutor = new ExternalFanOutExecutor();
+        CacheCellPolicy cacheCellPolicy = new CacheCellPolicy();
+
+        ReflectionTestUtils.setField(cacheCellPolicy, "enabled", true);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortMaxMinutes", 60);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumMaxMinutes", 180);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortPrecision", 7);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumPrecision", 6);
+        ReflectionTestUtils.setField(cacheCellPolicy, "longPrecision", 5);
+
+        PoiCollectorService poiCollectorService = new PoiCollectorService(
+            kakaoLocalClient,
+            tourApiClient,
+            cacheService,
+            fanOutExecutor,
+            cacheCellPolicy
+        );
+        ReflectionTestUtils.setField(poiCollectorService, "kakaoCap", 10);
+        ReflectionTestUtils.setField(poiCollectorService, "tourCap", 20);
+        ReflectionTestUtils.setField(poiCollectorService, "concurrentCollect", true);
+        ReflectionTestUtils.setField(poiCollectorService, "collectDeadlineMillis", 3000L);
+        ReflectionTestUtils.setField(poiCollectorService, "kakaoConcurrency", 4);
+        ReflectionTestUtils.setField(poiCollectorService, "tourConcurrency", 2);
+
+        RouteCalculationService routeCalculationService =
+            new RouteCalculationService(routingClient, cacheService, fanOutExecutor);
+        ReflectionTestUtils.setField(routeCalculationService, "concurrentRouting", true);
+        ReflectionTestUtils.setField(routeCalculationService, "routingDeadlineMillis", 4000L);
+        ReflectionTestUtils.setField(routeCalculationService, "routingConcurrency", 4);
+        ReflectionTestUtils.setField(routeCalculationService, "waypointRouting", true);
+
+        PoiThemePolicy poiThemePolicy = new PoiThemePolicy();
+        PoiScoringService poiScoringService = new PoiScoringService(poiThemePolicy);
+        RecommendationFacade facade = new RecommendationFacade(
+            poiCollectorService,
+            new PoiNormalizationService(),
+            new PoiFilterService(poiThemePolicy),
+            new CourseGenerationService(),
+            routeCalculationService,
+            new RecommendationScoringService(poiScoringService),
+            new DriveThemePolicy(),
+            new DriveSpotService(driveSpotRepository, meterRegistry),
+            poiScoringService,
+            poiThemePolicy,
+            new RoutePathService(routingClient),
+            kakaoLocalClient,
+            weatherClient,
+            new RouteMetricsService(routingClient, cacheService),
+            cacheService,
+            cacheCellPolicy
+        );
+        ReflectionTestUtils.setField(facade, "recommendationCacheVersion", "v1");
+        ReflectionTestUtils.setField(facade, "coursePlanCap", 3);
+        ReflectionTestUtils.setField(facade, "routingCandidateCap", 5);
+        return new StubbedPipeline(facade, fanOutExecutor);
+    }
+
+    RecommendationFacade facade() {
+        return facade;
+    }
+
+    @Override
+    public void close() {
+        fanOutExecutor.shutdown();
+    }
+
+    private static WaypointResult sections(Coordinate origin, List<Coordinate> waypoints, Coordinate destination) {
+        List<SegmentResult> sections = new ArrayList<>(waypoints.size() + 1);
+        Coordinate from = origin;
+        for (Coordinate waypoint : waypoints) {
+            sections.add(segment(from, waypoint));
+            from = waypoint;
+        }
+        sections.add(segment(from, destination));
+        return new WaypointResult(sections, 200);
+    }
+
+    private static SegmentResult segment(Coordinate origin, Coordinate destination) {
+        double straightKm = GeoUtils.distanceKm(
+            new GeoPoint(origin.longitude(), origin.latitude()),
+            new GeoPoint(destination.longitude(), destination.latitude())
+        );
+        double roadKm = straightKm * ROAD_FACTOR;
+        return new SegmentResult(roadKm, roadKm / AVERAGE_SPEED_KMH * 60.0, true, 200);
+    }
+}
@@ -0,0 +1,216 @@
+package io.routepickapi.common.concurrent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 느린 호출에 사본 요청을 하나 더 보내고 먼저 성공한 쪽을 쓴다(hedged request).
+ *
+ * <p>최근 응답 시간의 percentile 을 넘기면 사본을 보내며, 사본 수는 호출당 budgetRatio 만큼 쌓이는
+ * 예산(최대 maxBurst)으로 제한한다. 표본이 minSamples 보다 적을 때는 보내지 않는다.
+ * 진 쪽 호출은 취소하지 않고 끝까지 기다려 연결을 풀로 돌려보낸다.
+ */
+public final class Hedger<V> {
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final Executor executor;
+    private final Predicate<V> sample;
+    private final double percentile;
+    private final double budgetRatio;
+    private final double maxBurst;
+    private final int minSamples;
+    private final long minDelayNanos;
+
+    private final long[] window;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long delayNanos = Long.MAX_VALUE;
+    private double budget;
+    private long budgetCalls;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetRejected = new AtomicLong();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    public Hedger(
+        Executor executor,
+        Predicate<V> sample,
+        double percentile,
+        double budgetRatio,
+        int maxBurst,
+        int minSamples,
+        Duration minDelay,
+        int windowSize
+    ) {
+        this.executor = executor;
+        this.sample = sample;
+        this.percentile = Math.min(0.999, Math.max(0.5, percentile));
+        this.budgetRatio = Math.max(0.0, budgetRatio);
+        this.maxBurst = Math.max(1, maxBurst);
+        this.minSamples = Math.max(1, minSamples);
+        this.minDelayNanos = minDelay.toNanos();
+        this.window = new long[Math.max(this.minSamples, windowSize)];
+        this.budget = this.maxBurst;
+    }
+
+    public V call(Supplier<V> supplier) {
+        calls.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<V> primary = CompletableFuture.supplyAsync(supplier, executor);
+        long delay = delayNanos;
+        if (delay == Long.MAX_VALUE) {
+            return recordAndReturn(join(primary), start);
+        }
+        try {
+            return recordAndReturn(primary.get(delay, TimeUnit.NANOSECONDS), start);
+        } catch (TimeoutException ex) {
+            // percentile 을 넘겼으니 예산이 있으면 사본을 보낸다
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        }
+        if (!tryConsumeBudget()) {
+            budgetRejected.incrementAndGet();
+            return recordAndReturn(join(primary), start);
+        }
+        hedged.incrementAndGet();
+        CompletableFuture<V> hedge = CompletableFuture.supplyAsync(supplier, executor);
+        CompletableFuture<Winner<V>> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((value, error) -> offer(first, failures, primary, error, new Winner<>(value, false)));
+        hedge.whenComplete((value, error) -> offer(first, failures, primary, error, new Winner<>(value, true)));
+        Winner<V> winner = join(first);
+        long elapsed = System.nanoTime() - start;
+        if (winner.hedge()) {
+            hedgeWins.incrementAndGet();
+            primary.whenComplete((value, error) -> {
+                if (error == null) {
+                    savedNanos.addAndGet(Math.max(0L, System.nanoTime() - start - elapsed));
+                }
+            });
+        }
+        if (sample.test(winner.value())) {
+            record(elapsed);
+        }
+        return winner.value();
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long hedged() {
+        return hedged.get();
+    }
+
+    public long hedgeWins() {
+        return hedgeWins.get();
+    }
+
+    public long budgetRejected() {
+        return budgetRejected.get();
+    }
+
+    public double savedSeconds() {
+        return savedNanos.get() / 1_000_000_000.0;
+    }
+
+    public double delayMillis() {
+        long delay = delayNanos;
+        return delay == Long.MAX_VALUE ? 0.0 : delay / 1_000_000.0;
+    }
+
+    void record(long latencyNanos) {
+        long count = recorded.getAndIncrement();
+        window[Math.floorMod(count, window.length)] = latencyNanos;
+        int filled = (int) Math.min(count + 1, window.length);
+        if (filled == minSamples || (filled > minSamples && (count + 1) % RECOMPUTE_EVERY == 0)) {
+            long[] copy = Arrays.copyOf(window, filled);
+            Arrays.sort(copy);
+            int index = Math.min(filled - 1, (int) Math.ceil(percentile * filled) - 1);
+            delayNanos = Math.max(minDelayNanos, copy[Math.max(0, index)]);
+        }
+    }
+
+    private V recordAndReturn(V value, long start) {
+        if (sample.test(value)) {
+            record(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    private synchronized boolean tryConsumeBudget() {
+        budget = Math.min(maxBurst, budget + budgetRatio * (calls.get() - budgetCalls));
+        budgetCalls = calls.get();
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    /**
+     * sample 을 통과한 값만 경주에서 이긴다. 빨리 돌아온 실패 값(429 등)이 느리지만 성공할 primary 를
+     * 가리지 않도록, 둘 다 실패하면 primary 의 결과를 그대로 돌려준다.
+     */
+    private void offer(
+        CompletableFuture<Winner<V>> first,
+        AtomicInteger failures,
+        CompletableFuture<V> primary,
+        Throwable error,
+        Winner<V> candidate
+    ) {
+        if (error == null && sample.test(candidate.value())) {
+            first.complete(candidate);
+            return;
+        }
+        if (failures.incrementAndGet() < 2) {
+            return;
+        }
+        primary.whenComplete((value, primaryError) -> {
+            if (primaryError != null) {
+                first.completeExceptionally(primaryError);
+            } else {
+                first.complete(new Winner<>(value, false));
+            }
+        });
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException completion && completion.getCause() != null) {
+            cause = completion.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    private record Winner<V>(V value, boolean hedge) {
+    }
+}
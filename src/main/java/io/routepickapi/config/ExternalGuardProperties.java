@@ -0,0 +1,56 @@
+package io.routepickapi.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 제공자별 호출 한도와 차단기 설정. 상태는 Redis 에 두어 모든 인스턴스가 같이 본다.
+ */
+@ConfigurationProperties(prefix = "external.guard")
+@Getter
+@Setter
+public class ExternalGuardProperties {
+
+    private boolean enabled = true;
+
+    // 연속 실패(5xx, 타임아웃)가 이만큼 쌓이면 차단기를 연다
+    private int failureThreshold = 5;
+
+    // 처음 열릴 때 차단 시간. Retry-After 헤더가 있으면 그 값을 쓴다
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    // 연달아 열릴 때마다 두 배로 늘리되 이 값을 넘지 않는다
+    private Duration maxOpenDuration = Duration.ofMinutes(5);
+
+    // 다른 인스턴스가 연 차단기를 Redis 에서 다시 읽는 간격
+    private Duration stateRefresh = Duration.ofSeconds(1);
+
+    // 스로틀 뒤 호출 속도를 곱할 비율과 초당 회복량
+    private double throttleBackoff = 0.5;
+
+    private double minRateFactor = 0.1;
+
+    private double recoveryPerSecond = 0.02;
+
+    // 여기 등록된 제공자만 보호한다
+    private Map<String, Limit> providers = new HashMap<>();
+
+    public Limit limit(String provider) {
+        return providers.get(provider);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // 클러스터 전체 초당 호출 수. 0 이하면 한도 없이 차단기만 쓴다
+        private double ratePerSecond;
+
+        // 순간적으로 허용할 최대 호출 수
+        private int burst = 1;
+    }
+}
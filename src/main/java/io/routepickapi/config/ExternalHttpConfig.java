@@ -0,0 +1,10 @@
+package io.routepickapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({ExternalHttpProperties.class, ExternalGuardProperties.class})
+public class ExternalHttpConfig {
+
+}
@@ -0,0 +1,74 @@
+package io.routepickapi.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 호출용 HTTP 연결 풀 설정. providers 에 없는 값은 defaults 를 따른다.
+ */
+@ConfigurationProperties(prefix = "external.http")
+@Getter
+@Setter
+public class ExternalHttpProperties {
+
+    private Pool defaults = Pool.builtInDefaults();
+
+    private Map<String, Pool> providers = new HashMap<>();
+
+    public Pool resolve(String provider) {
+        Pool override = providers.get(provider);
+        Pool base = defaults == null ? Pool.builtInDefaults() : defaults.mergedOver(Pool.builtInDefaults());
+        return override == null ? base : override.mergedOver(base);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // TCP/TLS 연결을 맺을 때까지 기다리는 시간
+        private Duration connectTimeout;
+
+        // 응답 바이트 사이 최대 대기 시간
+        private Duration readTimeout;
+
+        // 풀에서 빈 연결을 기다리는 시간
+        private Duration connectionRequestTimeout;
+
+        // 제공자(호스트) 하나에 열어 둘 최대 연결 수
+        private Integer maxConnections;
+
+        // 이 시간 넘게 쉬는 연결은 닫는다
+        private Duration idleEviction;
+
+        // 연결 재사용 최대 수명. DNS 변경이나 서버 쪽 keep-alive 만료에 대비한다
+        private Duration timeToLive;
+
+        static Pool builtInDefaults() {
+            Pool pool = new Pool();
+            pool.connectTimeout = Duration.ofSeconds(2);
+            pool.readTimeout = Duration.ofSeconds(5);
+            pool.connectionRequestTimeout = Duration.ofSeconds(1);
+            pool.maxConnections = 20;
+            pool.idleEviction = Duration.ofSeconds(30);
+            pool.timeToLive = Duration.ofMinutes(5);
+            return pool;
+        }
+
+        Pool mergedOver(Pool base) {
+            Pool merged = new Pool();
+            merged.connectTimeout = connectTimeout != null ? connectTimeout : base.connectTimeout;
+            merged.readTimeout = readTimeout != null ? readTimeout : base.readTimeout;
+            merged.connectionRequestTimeout = connectionRequestTimeout != null
+                ? connectionRequestTimeout
+                : base.connectionRequestTimeout;
+            merged.maxConnections = maxConnections != null ? maxConnections : base.maxConnections;
+            merged.idleEviction = idleEviction != null ? idleEviction : base.idleEviction;
+            merged.timeToLive = timeToLive != null ? timeToLive : base.timeToLive;
+            return merged;
+        }
+    }
+}
@@ -73,10 +73,15 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/courses/recommend").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/recommendations/drive-courses")
                 .permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/recommendations/drive-courses/stream")
+                .permitAll()
                 .requestMatchers(HttpMethod.GET, "/weather/drive-message").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/parking/nearby").permitAll()
                 .requestMatchers(HttpMethod.GET, "/posts/**", "/posts/*/comments/**", "/places/**")
                 .permitAll()
+                // Actuator: health 만 공개, 내부 지표는 관리자만
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             // UsernamePasswordAuthenticationFilter 앞에 JWT 필터 삽입
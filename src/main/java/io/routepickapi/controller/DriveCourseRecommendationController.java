@@ -6,6 +6,7 @@ import io.routepickapi.common.error.ErrorType;
 import io.routepickapi.dto.recommendation.RecommendationRequest;
 import io.routepickapi.dto.recommendation.RecommendationResponse;
 import io.routepickapi.mapper.recommendation.RecommendationResponseMapper;
+import io.routepickapi.service.recommendation.DriveCourseStreamService;
 import io.routepickapi.service.recommendation.pipeline.DriveCourseCommand;
 import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
 import io.routepickapi.service.recommendation.pipeline.RecommendationFacade;
@@ -18,11 +19,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springdoc.core.annotations.ParameterObject;
 
 /**
@@ -37,6 +40,7 @@ public class DriveCourseRecommendationController {
 
     private final RecommendationFacade recommendationFacade;
     private final RecommendationResponseMapper recommendationResponseMapper;
+    private final DriveCourseStreamService driveCourseStreamService;
 
     /**
      * 출발지 기준 드라이브 코스를 추천한다.
@@ -191,12 +195,42 @@ public class DriveCourseRecommendationController {
             request.maxStops(),
             request.includeStops() == null ? 0 : request.includeStops().size()
         );
+        DriveCourseResult result = recommendationFacade.recommend(toCommand(request));
+        return recommendationResponseMapper.map(result);
+    }
+
+    /**
+     * 드라이브 코스 추천 결과를 SSE 로 단계별 전송한다.
+     */
+    @Operation(
+        summary = "드라이브 코스 추천 스트림",
+        description = "큐레이션 스팟만으로 만든 코스(curated), 외부 POI 를 합친 코스(enriched), "
+            + "최종 결과(result) 순서로 추천 응답과 같은 형식의 이벤트를 SSE 로 전달합니다."
+    )
+    @GetMapping(value = "/drive-courses/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDriveCourses(
+        @Valid @ParameterObject @ModelAttribute RecommendationRequest request
+    ) {
+        log.info(
+            "GET /api/recommendations/drive-courses/stream - originLat={}, originLng={}, destinationLat={}, destinationLng={}, theme={}, durationMinutes={}, maxStops={}",
+            request.originLat(),
+            request.originLng(),
+            request.destinationLat(),
+            request.destinationLng(),
+            request.theme(),
+            request.durationMinutes(),
+            request.maxStops()
+        );
+        return driveCourseStreamService.stream(toCommand(request), recommendationResponseMapper::map);
+    }
+
+    private DriveCourseCommand toCommand(RecommendationRequest request) {
         if (request.destinationLat() == null || request.destinationLng() == null) {
             log.warn("drive-courses destination missing - originLat={}, originLng={}",
                 request.originLat(), request.originLng());
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "destination 좌표가 필요합니다.");
         }
-        DriveCourseCommand facadeRequest = new DriveCourseCommand(
+        return new DriveCourseCommand(
             null,
             request.originLat(),
             request.originLng(),
@@ -209,8 +243,5 @@ public class DriveCourseRecommendationController {
             request.weatherAware(),
             request.includeStops()
         );
-
-        DriveCourseResult result = recommendationFacade.recommend(facadeRequest);
-        return recommendationResponseMapper.map(result);
     }
 }
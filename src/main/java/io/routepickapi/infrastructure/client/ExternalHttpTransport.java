@@ -0,0 +1,85 @@
+package io.routepickapi.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.routepickapi.config.ExternalHttpProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 제공자별 HTTP 연결 풀. 같은 제공자 이름을 쓰는 클라이언트는 풀 하나를 나눠 쓴다.
+ *
+ * <p>keep-alive 연결을 재사용해 요청마다 TLS 핸드셰이크를 하지 않고, 연결/응답 타임아웃으로 느린 제공자에
+ * 스레드가 묶이지 않게 한다. gzip 응답은 HttpClient 가 Accept-Encoding 을 붙이고 풀어 준다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 지표로, 요청 지표는 Boot 의 RestClient.Builder 가 남긴다.
+ * 모든 요청은 {@link ExternalProviderGuard} 를 거쳐 제공자별 호출 한도와 차단기를 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalHttpTransport {
+
+    private final ExternalHttpProperties properties;
+    private final ExternalProviderGuard guard;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    public ClientHttpRequestFactory requestFactory(String provider) {
+        return new InterceptingClientHttpRequestFactory(
+            new HttpComponentsClientHttpRequestFactory(clients.computeIfAbsent(provider, this::createClient)),
+            List.of(guard.interceptor(provider))
+        );
+    }
+
+    private CloseableHttpClient createClient(String provider) {
+        ExternalHttpProperties.Pool pool = properties.resolve(provider);
+        int maxConnections = Math.max(1, pool.getMaxConnections());
+        Timeout readTimeout = Timeout.ofMilliseconds(pool.getReadTimeout().toMillis());
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeout().toMillis()))
+                .setSocketTimeout(readTimeout)
+                .setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLive().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        CloseableHttpClient client = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(readTimeout)
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEviction().toMillis()))
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, provider).bindTo(meterRegistry);
+        log.info("External HTTP pool - provider={}, maxConnections={}, connectTimeout={}, readTimeout={}",
+            provider, maxConnections, pool.getConnectTimeout(), pool.getReadTimeout());
+        return client;
+    }
+
+    @PreDestroy
+    void close() {
+        clients.values().forEach(client -> client.close(CloseMode.GRACEFUL));
+        clients.clear();
+    }
+}
@@ -0,0 +1,307 @@
+package io.routepickapi.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.routepickapi.config.ExternalGuardProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 제공자별 토큰 버킷 + 차단기. 버킷과 차단 상태는 Redis 에 두어 인스턴스 전체가 같은 한도를 나눠 쓴다.
+ *
+ * <p>한 인스턴스가 429 를 받으면 차단기를 Redis 에 열고, 다른 인스턴스는 stateRefresh 간격 안에 이를 읽어
+ * 호출 없이 바로 429 응답을 돌려준다. 각 클라이언트는 원래 429 처리 경로(직선거리 대체, 빈 결과)를 그대로 탄다.
+ * 스로틀 뒤에는 버킷 속도를 줄였다가 시간이 지나며 천천히 되돌린다. Redis 가 안 되면 호출을 막지 않는다.
+ * external.guard.providers 에 없는 제공자(LLM, OAuth 등)는 그대로 통과시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalProviderGuard {
+
+    static final String SHORT_CIRCUIT_HEADER = "X-RoutePick-Short-Circuit";
+
+    private static final String BUCKET_PREFIX = "external-bucket:";
+    private static final String CIRCUIT_PREFIX = "external-circuit:";
+    private static final long BUCKET_TTL_MILLIS = 60_000L;
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local rate = tonumber(ARGV[1])
+        local burst = tonumber(ARGV[2])
+        local now = tonumber(ARGV[3])
+        local recovery = tonumber(ARGV[4])
+        local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'factor')
+        local tokens = tonumber(state[1]) or burst
+        local ts = tonumber(state[2]) or now
+        local factor = tonumber(state[3]) or 1
+        local elapsed = math.max(0, now - ts) / 1000
+        factor = math.min(1, factor + elapsed * recovery)
+        tokens = math.min(burst, tokens + elapsed * rate * factor)
+        local allowed = 0
+        if tokens >= 1 then
+          tokens = tokens - 1
+          allowed = 1
+        end
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now), 'factor', tostring(factor))
+        redis.call('PEXPIRE', KEYS[1], ARGV[5])
+        return allowed
+        """, Long.class);
+
+    private static final RedisScript<Long> PENALIZE_SCRIPT = new DefaultRedisScript<>("""
+        local factor = tonumber(redis.call('HGET', KEYS[1], 'factor')) or 1
+        factor = math.max(tonumber(ARGV[1]), factor * tonumber(ARGV[2]))
+        redis.call('HSET', KEYS[1], 'factor', tostring(factor))
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final ExternalGuardProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderState> states = new ConcurrentHashMap<>();
+
+    public ClientHttpRequestInterceptor interceptor(String provider) {
+        return (request, body, execution) -> {
+            if (!properties.isEnabled() || properties.limit(provider) == null) {
+                return execution.execute(request, body);
+            }
+            long now = System.currentTimeMillis();
+            Decision decision = tryAcquire(provider, now);
+            if (decision != Decision.ALLOWED) {
+                record(provider, decision == Decision.CIRCUIT_OPEN ? "circuit_open" : "rate_limited");
+                return new ShortCircuitResponse(provider, decision, retryAfterSeconds(provider, now));
+            }
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException ex) {
+                onFailure(provider, System.currentTimeMillis());
+                record(provider, "io_error");
+                throw ex;
+            }
+            int status = response.getStatusCode().value();
+            onResponse(provider, status, response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER),
+                System.currentTimeMillis());
+            record(provider, status == 429 ? "throttled" : status >= 500 ? "server_error" : "allowed");
+            return response;
+        };
+    }
+
+    Decision tryAcquire(String provider, long now) {
+        if (isOpen(provider, now)) {
+            return Decision.CIRCUIT_OPEN;
+        }
+        ExternalGuardProperties.Limit limit = properties.limit(provider);
+        if (limit == null || limit.getRatePerSecond() <= 0) {
+            return Decision.ALLOWED;
+        }
+        try {
+            Long allowed = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(BUCKET_PREFIX + provider),
+                Double.toString(limit.getRatePerSecond()),
+                Integer.toString(Math.max(1, limit.getBurst())),
+                Long.toString(now),
+                Double.toString(properties.getRecoveryPerSecond()),
+                Long.toString(BUCKET_TTL_MILLIS)
+            );
+            return allowed == null || allowed == 1L ? Decision.ALLOWED : Decision.RATE_LIMITED;
+        } catch (Exception ex) {
+            log.debug("External guard bucket unavailable - provider={}", provider, ex);
+            return Decision.ALLOWED;
+        }
+    }
+
+    boolean isOpen(String provider, long now) {
+        ProviderState state = state(provider);
+        if (now < state.openUntil) {
+            return true;
+        }
+        if (now - state.checkedAt < properties.getStateRefresh().toMillis()) {
+            return false;
+        }
+        state.checkedAt = now;
+        try {
+            String value = redisTemplate.opsForValue().get(CIRCUIT_PREFIX + provider);
+            if (value != null) {
+                state.openUntil = Math.max(state.openUntil, Long.parseLong(value));
+            }
+        } catch (Exception ex) {
+            log.debug("External guard circuit unavailable - provider={}", provider, ex);
+        }
+        return now < state.openUntil;
+    }
+
+    void onResponse(String provider, int status, String retryAfter, long now) {
+        ProviderState state = state(provider);
+        if (status == 429) {
+            if (now < state.openUntil) {
+                return;
+            }
+            penalize(provider);
+            open(provider, state, throttleOpenDuration(state, retryAfter), now, "throttled");
+            return;
+        }
+        if (status >= 500) {
+            onFailure(provider, now);
+            return;
+        }
+        state.consecutiveFailures.set(0);
+        state.consecutiveOpens.set(0);
+    }
+
+    void onFailure(String provider, long now) {
+        ProviderState state = state(provider);
+        if (now < state.openUntil) {
+            return;
+        }
+        if (state.consecutiveFailures.incrementAndGet() >= Math.max(1, properties.getFailureThreshold())) {
+            state.consecutiveFailures.set(0);
+            open(provider, state, backoffDuration(state), now, "failures");
+        }
+    }
+
+    private void open(String provider, ProviderState state, Duration duration, long now, String reason) {
+        long openUntil = now + duration.toMillis();
+        state.openUntil = Math.max(state.openUntil, openUntil);
+        state.checkedAt = now;
+        log.warn("External provider circuit open - provider={}, reason={}, duration={}", provider, reason, duration);
+        try {
+            redisTemplate.opsForValue().set(
+                CIRCUIT_PREFIX + provider,
+                Long.toString(openUntil),
+                duration.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        } catch (Exception ex) {
+            log.debug("External guard circuit write failed - provider={}", provider, ex);
+        }
+    }
+
+    private void penalize(String provider) {
+        ExternalGuardProperties.Limit limit = properties.limit(provider);
+        if (limit == null || limit.getRatePerSecond() <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(
+                PENALIZE_SCRIPT,
+                List.of(BUCKET_PREFIX + provider),
+                Double.toString(properties.getMinRateFactor()),
+                Double.toString(properties.getThrottleBackoff()),
+                Long.toString(BUCKET_TTL_MILLIS)
+            );
+        } catch (Exception ex) {
+            log.debug("External guard penalize failed - provider={}", provider, ex);
+        }
+    }
+
+    private Duration throttleOpenDuration(ProviderState state, String retryAfter) {
+        Duration backoff = backoffDuration(state);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return backoff;
+        }
+        try {
+            long seconds = Long.parseLong(retryAfter.trim());
+            if (seconds > 0) {
+                Duration requested = Duration.ofSeconds(seconds);
+                return requested.compareTo(properties.getMaxOpenDuration()) > 0
+                    ? properties.getMaxOpenDuration()
+                    : requested;
+            }
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식은 쓰지 않고 지수 백오프로 대신한다
+        }
+        return backoff;
+    }
+
+    private Duration backoffDuration(ProviderState state) {
+        int opens = Math.min(state.consecutiveOpens.getAndIncrement(), 16);
+        Duration duration = properties.getOpenDuration().multipliedBy(1L << opens);
+        return duration.compareTo(properties.getMaxOpenDuration()) > 0 ? properties.getMaxOpenDuration() : duration;
+    }
+
+    private long retryAfterSeconds(String provider, long now) {
+        long remaining = state(provider).openUntil - now;
+        return remaining <= 0 ? 1L : Math.max(1L, (remaining + 999L) / 1000L);
+    }
+
+    private ProviderState state(String provider) {
+        return states.computeIfAbsent(provider, key -> new ProviderState());
+    }
+
+    private void record(String provider, String outcome) {
+        meterRegistry.counter("external.guard.calls", "provider", provider, "outcome", outcome).increment();
+    }
+
+    enum Decision {
+        ALLOWED,
+        RATE_LIMITED,
+        CIRCUIT_OPEN
+    }
+
+    private static final class ProviderState {
+
+        private volatile long openUntil;
+        private volatile long checkedAt;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicInteger consecutiveOpens = new AtomicInteger();
+    }
+
+    private static final class ShortCircuitResponse implements ClientHttpResponse {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        private ShortCircuitResponse(String provider, Decision decision, long retryAfterSeconds) {
+            String reason = decision.name().toLowerCase(Locale.ROOT);
+            headers.set(SHORT_CIRCUIT_HEADER, reason);
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            this.body = ("short-circuited: provider=" + provider + ", reason=" + reason)
+                .getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
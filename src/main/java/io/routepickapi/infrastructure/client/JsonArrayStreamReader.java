@@ -0,0 +1,90 @@
+package io.routepickapi.infrastructure.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 큰 JSON 응답에서 경로 하나에 있는 배열만 토큰 단위로 읽는다.
+ *
+ * <p>응답 전체를 DTO 트리로 만들지 않고 원소를 하나씩 바인딩해 keep 을 통과한 것만 남기며,
+ * limit 개가 모이면 나머지 본문은 읽지 않는다. 경로 중간 필드는 skipChildren 으로 건너뛴다.
+ * 경로의 값이 배열이 아니라 객체 하나면 원소 하나짜리로, 그 밖의 값(빈 문자열 등)이면 빈 목록으로 본다.
+ */
+public final class JsonArrayStreamReader {
+
+    private JsonArrayStreamReader() {
+    }
+
+    public static <T> List<T> read(
+        ObjectMapper objectMapper,
+        InputStream body,
+        List<String> path,
+        Class<T> type,
+        Predicate<T> keep,
+        int limit
+    ) throws IOException {
+        if (body == null || limit <= 0) {
+            return List.of();
+        }
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = seek(parser, path);
+            if (token == JsonToken.START_OBJECT) {
+                T item = objectMapper.readValue(parser, type);
+                return item != null && keep.test(item) ? List.of(item) : List.of();
+            }
+            if (token != JsonToken.START_ARRAY) {
+                return List.of();
+            }
+            List<T> items = new ArrayList<>();
+            for (token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                T item = objectMapper.readValue(parser, type);
+                if (item != null && keep.test(item)) {
+                    items.add(item);
+                    if (items.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return items;
+        }
+    }
+
+    private static JsonToken seek(JsonParser parser, List<String> path) throws IOException {
+        if (path.isEmpty() || parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        for (int depth = 0; depth < path.size(); depth++) {
+            String target = path.get(depth);
+            JsonToken value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken next = parser.nextToken();
+                if (target.equals(field)) {
+                    value = next;
+                    break;
+                }
+                parser.skipChildren();
+            }
+            if (value == null) {
+                return null;
+            }
+            if (depth == path.size() - 1) {
+                return value;
+            }
+            if (value != JsonToken.START_OBJECT) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package io.routepickapi.infrastructure.client.kakao;
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
 import io.routepickapi.dto.place.KakaoPlaceSearchResponse;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import io.routepickapi.infrastructure.client.kakao.dto.KakaoCoordToAddressResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,10 +19,13 @@ public class KakaoLocalClient {
 
     public KakaoLocalClient(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
         @Value("${external.kakao.base-url}") String baseUrl,
         @Value("${external.kakao.api-key:}") String restApiKey
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("kakao-local"))
+            .build();
         this.restApiKey = restApiKey;
     }
 
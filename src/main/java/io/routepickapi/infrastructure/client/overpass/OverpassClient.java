@@ -1,35 +1,59 @@
 package io.routepickapi.infrastructure.client.overpass;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
+import io.routepickapi.infrastructure.client.JsonArrayStreamReader;
+import io.routepickapi.infrastructure.client.overpass.dto.OverpassElement;
 import io.routepickapi.infrastructure.client.overpass.dto.OverpassResponse;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestClientResponseException;
 
 @Slf4j
 @Component
 public class OverpassClient {
+    private static final List<String> ELEMENTS_PATH = List.of("elements");
+
     private final RestClient restClient;
+    private final ObjectMapper objectMapper;
     private final int timeoutSeconds;
+    private final int maxElements;
 
     public OverpassClient(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
+        ObjectMapper objectMapper,
         @Value("${external.overpass.base-url}") String baseUrl,
-        @Value("${external.overpass.timeout-seconds:25}") int timeoutSeconds
+        @Value("${external.overpass.timeout-seconds:25}") int timeoutSeconds,
+        @Value("${external.overpass.max-elements:200}") int maxElements
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("overpass"))
+            .build();
+        this.objectMapper = objectMapper;
         this.timeoutSeconds = timeoutSeconds;
+        this.maxElements = maxElements;
     }
 
     public OverpassResponse executeQuery(String query) {
+        return executeQuery(query, element -> true);
+    }
+
+    /**
+     * 응답의 elements 를 스트리밍으로 읽어 keep 을 통과한 원소만 남긴다.
+     * max-elements 개가 모이면 나머지 본문은 읽지 않는다. keep 은 요청마다 달라지지 않는 조건이어야 한다
+     * (결과가 검색 지점 단위로 캐시된다).
+     */
+    public OverpassResponse executeQuery(String query, Predicate<OverpassElement> keep) {
         if (query == null || query.isBlank()) {
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "Overpass query는 필수입니다.");
         }
@@ -42,15 +66,20 @@ public class OverpassClient {
                 .uri("/api/interpreter")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(requestBody)
-                .retrieve()
-                .body(OverpassResponse.class);
-        } catch (RestClientResponseException exception) {
-            log.warn(
-                "Overpass API request failed: status={}, body={}",
-                exception.getStatusCode(),
-                exception.getResponseBodyAsString()
-            );
-            return new OverpassResponse(List.of());
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        log.warn("Overpass API request failed: status={}", response.getStatusCode());
+                        return new OverpassResponse(List.of());
+                    }
+                    return new OverpassResponse(JsonArrayStreamReader.read(
+                        objectMapper,
+                        response.getBody(),
+                        ELEMENTS_PATH,
+                        OverpassElement.class,
+                        keep,
+                        Math.max(1, maxElements)
+                    ));
+                });
         } catch (RestClientException exception) {
             log.warn("Overpass API request failed");
             return new OverpassResponse(List.of());
@@ -1,19 +1,31 @@
 package io.routepickapi.infrastructure.client.routing;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.routepickapi.common.concurrent.Hedger;
+import io.routepickapi.common.concurrent.SingleFlight;
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
 import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import io.routepickapi.infrastructure.client.routing.dto.Coordinate;
 import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoDirectionsResponse;
 import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoRoad;
 import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoRoute;
 import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoSection;
 import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoSummary;
+import io.routepickapi.infrastructure.client.routing.kakao.dto.KakaoWaypointRequest;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -24,17 +36,56 @@ import org.springframework.web.client.RestClientResponseException;
 public class KakaoRoutingClient {
 
     private static final String AUTH_PREFIX = "KakaoAK ";
+    private static final int MAX_WAYPOINTS = 30;
 
     private final RestClient restClient;
     private final String apiKey;
+    private final SingleFlight<String, KakaoDirectionsResult> directionsFlight = new SingleFlight<>();
+    private final ExecutorService hedgeExecutor;
+    private final Hedger<KakaoDirectionsResult> directionsHedger;
 
     public KakaoRoutingClient(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
+        MeterRegistry meterRegistry,
         @Value("${external.routing.kakao-base-url}") String baseUrl,
-        @Value("${external.routing.kakao-api-key:}") String apiKey
+        @Value("${external.routing.kakao-api-key:}") String apiKey,
+        @Value("${external.routing.hedge.enabled:false}") boolean hedgeEnabled,
+        @Value("${external.routing.hedge.percentile:0.9}") double hedgePercentile,
+        @Value("${external.routing.hedge.budget-ratio:0.05}") double hedgeBudgetRatio,
+        @Value("${external.routing.hedge.max-burst:10}") int hedgeMaxBurst,
+        @Value("${external.routing.hedge.min-samples:50}") int hedgeMinSamples,
+        @Value("${external.routing.hedge.min-delay-millis:100}") long hedgeMinDelayMillis,
+        @Value("${external.routing.hedge.window:512}") int hedgeWindow
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("kakao-routing"))
+            .build();
         this.apiKey = apiKey;
+        if (hedgeEnabled) {
+            this.hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            this.directionsHedger = new Hedger<>(
+                hedgeExecutor,
+                result -> result.response() != null,
+                hedgePercentile,
+                hedgeBudgetRatio,
+                hedgeMaxBurst,
+                hedgeMinSamples,
+                Duration.ofMillis(hedgeMinDelayMillis),
+                hedgeWindow
+            );
+            bindHedgeMetrics(meterRegistry, directionsHedger);
+        } else {
+            this.hedgeExecutor = null;
+            this.directionsHedger = null;
+        }
+    }
+
+    @PreDestroy
+    void shutdownHedgeExecutor() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdown();
+        }
     }
 
     public SegmentResult fetchSegmentMetrics(Coordinate origin, Coordinate destination) {
@@ -71,6 +122,79 @@ public class KakaoRoutingClient {
         return new PathResult(points, true, result.statusCode());
     }
 
+    /**
+     * 출발지 → 경유지들 → 도착지를 한 번의 호출로 계산해 구간별 거리/시간을 순서대로 돌려준다.
+     * 구간 수가 맞지 않거나 경로를 찾지 못하면 빈 목록을 돌려주므로 호출부는 구간별 조회로 대체한다.
+     */
+    public WaypointResult fetchWaypointSections(
+        Coordinate origin,
+        List<Coordinate> waypoints,
+        Coordinate destination
+    ) {
+        validateApiKey();
+
+        if (origin == null || destination == null) {
+            throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "directions 계산에는 2개 이상의 좌표가 필요합니다.");
+        }
+        List<Coordinate> stops = waypoints == null ? List.of() : waypoints;
+        if (stops.size() > MAX_WAYPOINTS) {
+            return new WaypointResult(List.of(), null);
+        }
+
+        KakaoWaypointRequest request = new KakaoWaypointRequest(
+            toWaypointPoint(origin),
+            toWaypointPoint(destination),
+            stops.stream().map(this::toWaypointPoint).toList(),
+            "RECOMMEND",
+            true
+        );
+        KakaoDirectionsResponse response;
+        try {
+            response = restClient.post()
+                .uri("/v1/waypoints/directions")
+                .header(HttpHeaders.AUTHORIZATION, AUTH_PREFIX + apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(KakaoDirectionsResponse.class);
+        } catch (RestClientResponseException exception) {
+            log.warn(
+                "Kakao waypoint routing failed: status={}, body={}",
+                exception.getStatusCode(),
+                exception.getResponseBodyAsString()
+            );
+            return new WaypointResult(List.of(), exception.getStatusCode().value());
+        } catch (RestClientException exception) {
+            log.warn("Kakao waypoint routing failed");
+            return new WaypointResult(List.of(), null);
+        }
+
+        KakaoRoute route = firstRoute(response);
+        if (route == null
+            || (route.resultCode() != null && route.resultCode() != 0)
+            || route.sections() == null
+            || route.sections().size() != stops.size() + 1) {
+            return new WaypointResult(List.of(), null);
+        }
+        List<SegmentResult> sections = new ArrayList<>(route.sections().size());
+        for (KakaoSection section : route.sections()) {
+            if (section == null) {
+                sections.add(new SegmentResult(0.0, 0.0, false, null));
+                continue;
+            }
+            double distanceKm = section.distance() / 1000.0;
+            double durationMinutes = section.duration() <= 0 ? 0.0 : section.duration() / 60.0;
+            boolean routed = distanceKm > 0 || durationMinutes > 0;
+            sections.add(new SegmentResult(
+                routed ? distanceKm : 0.0,
+                routed ? durationMinutes : 0.0,
+                routed,
+                null
+            ));
+        }
+        return new WaypointResult(sections, null);
+    }
+
     private KakaoDirectionsResult fetchDirections(Coordinate origin, Coordinate destination) {
         validateApiKey();
 
@@ -78,6 +202,20 @@ public class KakaoRoutingClient {
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "directions 계산에는 2개 이상의 좌표가 필요합니다.");
         }
 
+        // 같은 구간에 대한 동시 요청은 하나의 upstream 호출을 공유한다.
+        String flightKey = buildFlightKey(origin, destination);
+        KakaoDirectionsResult result = directionsFlight.execute(
+            flightKey,
+            () -> directionsHedger == null
+                ? requestDirections(origin, destination)
+                : directionsHedger.call(() -> requestDirections(origin, destination))
+        );
+        log.debug("Kakao directions single-flight - key={}, executions={}, shared={}",
+            flightKey, directionsFlight.executions(), directionsFlight.shared());
+        return result;
+    }
+
+    private KakaoDirectionsResult requestDirections(Coordinate origin, Coordinate destination) {
         try {
             KakaoDirectionsResponse response = restClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -103,6 +241,30 @@ public class KakaoRoutingClient {
         }
     }
 
+    // 사본 비율 = hedged / calls, 사본 1건당 절약 시간 = saved / wins
+    private static void bindHedgeMetrics(MeterRegistry meterRegistry, Hedger<?> hedger) {
+        FunctionCounter.builder("routing.hedge.calls", hedger, Hedger::calls)
+            .tag("provider", "kakao")
+            .register(meterRegistry);
+        FunctionCounter.builder("routing.hedge.hedged", hedger, Hedger::hedged)
+            .tag("provider", "kakao")
+            .register(meterRegistry);
+        FunctionCounter.builder("routing.hedge.wins", hedger, Hedger::hedgeWins)
+            .tag("provider", "kakao")
+            .register(meterRegistry);
+        FunctionCounter.builder("routing.hedge.budget.rejected", hedger, Hedger::budgetRejected)
+            .tag("provider", "kakao")
+            .register(meterRegistry);
+        FunctionCounter.builder("routing.hedge.saved", hedger, Hedger::savedSeconds)
+            .tag("provider", "kakao")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("routing.hedge.delay", hedger, Hedger::delayMillis)
+            .tag("provider", "kakao")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
     private KakaoRoute firstRoute(KakaoDirectionsResponse response) {
         if (response == null || response.routes() == null || response.routes().isEmpty()) {
             return null;
@@ -141,6 +303,20 @@ public class KakaoRoutingClient {
         return new GeoPoint(coordinate.longitude(), coordinate.latitude());
     }
 
+    private String buildFlightKey(Coordinate origin, Coordinate destination) {
+        return String.format(
+            "%.5f,%.5f:%.5f,%.5f",
+            origin.latitude(),
+            origin.longitude(),
+            destination.latitude(),
+            destination.longitude()
+        );
+    }
+
+    private KakaoWaypointRequest.Point toWaypointPoint(Coordinate coordinate) {
+        return new KakaoWaypointRequest.Point(coordinate.longitude(), coordinate.latitude());
+    }
+
     private String formatCoordinate(Coordinate coordinate) {
         return coordinate.longitude() + "," + coordinate.latitude();
     }
@@ -178,4 +354,13 @@ public class KakaoRoutingClient {
             return statusCode != null && (statusCode == 401 || statusCode == 403 || statusCode == 429);
         }
     }
+
+    public record WaypointResult(
+        List<SegmentResult> sections,
+        Integer statusCode
+    ) {
+        public boolean isBlocked() {
+            return statusCode != null && (statusCode == 401 || statusCode == 403 || statusCode == 429);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package io.routepickapi.infrastructure.client.routing.kakao.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
 public record KakaoRoute(
+    @JsonProperty("result_code") Integer resultCode,
     KakaoSummary summary,
     List<KakaoSection> sections
 ) {
@@ -2,5 +2,9 @@ package io.routepickapi.infrastructure.client.routing.kakao.dto;
 
 import java.util.List;
 
-public record KakaoSection(List<KakaoRoad> roads) {
+public record KakaoSection(
+    double distance,
+    double duration,
+    List<KakaoRoad> roads
+) {
 }
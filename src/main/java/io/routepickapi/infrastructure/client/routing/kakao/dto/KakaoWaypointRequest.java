@@ -0,0 +1,18 @@
+package io.routepickapi.infrastructure.client.routing.kakao.dto;
+
+import java.util.List;
+
+/**
+ * POST /v1/waypoints/directions 요청 본문. summary=true 면 도로 좌표 없이 구간별 거리/시간만 받는다.
+ */
+public record KakaoWaypointRequest(
+    Point origin,
+    Point destination,
+    List<Point> waypoints,
+    String priority,
+    boolean summary
+) {
+
+    public record Point(double x, double y) {
+    }
+}
@@ -1,10 +1,11 @@
 package io.routepickapi.infrastructure.client.tour;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
-import io.routepickapi.infrastructure.client.tour.dto.TourApiResponse;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
+import io.routepickapi.infrastructure.client.JsonArrayStreamReader;
 import io.routepickapi.infrastructure.client.tour.dto.TourItem;
-import io.routepickapi.infrastructure.client.tour.dto.TourResponse;
 import java.util.Collections;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -12,29 +13,40 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestClientResponseException;
 
 @Slf4j
 @Component
 public class TourApiClient {
+    private static final List<String> ITEMS_PATH = List.of("response", "body", "items", "item");
+
     private final RestClient restClient;
+    private final ObjectMapper objectMapper;
     private final String serviceKey;
     private final String mobileOs;
     private final String mobileApp;
 
     public TourApiClient(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
+        ObjectMapper objectMapper,
         @Value("${external.tourapi.base-url}") String baseUrl,
         @Value("${external.tourapi.service-key:}") String serviceKey,
         @Value("${external.tourapi.mobile-os:ETC}") String mobileOs,
         @Value("${external.tourapi.mobile-app:RoutePick}") String mobileApp
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("tourapi"))
+            .build();
+        this.objectMapper = objectMapper;
         this.serviceKey = serviceKey;
         this.mobileOs = mobileOs;
         this.mobileApp = mobileApp;
     }
 
+    /**
+     * 응답을 스트리밍으로 읽어 좌표나 식별자가 없는 항목은 바인딩 직후 버린다.
+     * 정규화 단계(PoiNormalizationService, TourPlaceNormalizer)도 같은 항목을 버리므로 결과는 같다.
+     */
     public List<TourItem> fetchLocationBased(
         double latitude,
         double longitude,
@@ -51,7 +63,7 @@ public class TourApiClient {
         boolean encodedKey = serviceKey.contains("%");
 
         try {
-            TourApiResponse response = restClient.get()
+            return restClient.get()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder
                     .path("/locationBasedList2")
@@ -69,35 +81,43 @@ public class TourApiClient {
                     }
                     return builder.build(encodedKey);
                 })
-                .retrieve()
-                .body(TourApiResponse.class);
-
-            return extractItems(response);
-        } catch (RestClientResponseException exception) {
-            log.debug(
-                "Tour API request failed: status={}, body={}",
-                exception.getStatusCode(),
-                exception.getResponseBodyAsString()
-            );
-            return Collections.emptyList();
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        log.debug("Tour API request failed: status={}", response.getStatusCode());
+                        return Collections.<TourItem>emptyList();
+                    }
+                    return JsonArrayStreamReader.read(
+                        objectMapper,
+                        response.getBody(),
+                        ITEMS_PATH,
+                        TourItem.class,
+                        TourApiClient::isLocatable,
+                        safeSize
+                    );
+                });
         } catch (RestClientException exception) {
             log.debug("Tour API request failed");
             return Collections.emptyList();
         }
     }
 
-    private List<TourItem> extractItems(TourApiResponse response) {
-        if (response == null || response.response() == null) {
-            return Collections.emptyList();
-        }
+    private static boolean isLocatable(TourItem item) {
+        return item.contentid() != null
+            && item.title() != null
+            && isNumber(item.mapx())
+            && isNumber(item.mapy());
+    }
 
-        TourResponse payload = response.response();
-        if (payload.body() == null || payload.body().items() == null) {
-            return Collections.emptyList();
+    private static boolean isNumber(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
         }
-
-        List<TourItem> items = payload.body().items().item();
-        return items == null ? Collections.emptyList() : items;
     }
 
     private void validateServiceKey() {
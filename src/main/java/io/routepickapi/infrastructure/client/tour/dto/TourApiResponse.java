@@ -1,4 +0,0 @@
-package io.routepickapi.infrastructure.client.tour.dto;
-
-public record TourApiResponse(TourResponse response) {
-}
@@ -1,6 +0,0 @@
-package io.routepickapi.infrastructure.client.tour.dto;
-
-import java.util.List;
-
-public record TourItems(List<TourItem> item) {
-}
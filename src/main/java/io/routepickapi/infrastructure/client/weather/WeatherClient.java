@@ -2,6 +2,7 @@ package io.routepickapi.infrastructure.client.weather;
 
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import io.routepickapi.infrastructure.client.weather.dto.WeatherApiResponse;
 import io.routepickapi.infrastructure.client.weather.dto.WeatherItem;
 import io.routepickapi.infrastructure.client.weather.dto.WeatherResponse;
@@ -27,10 +28,13 @@ public class WeatherClient {
 
     public WeatherClient(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
         @Value("${external.weather.kma.base-url}") String baseUrl,
         @Value("${external.weather.kma.service-key:}") String serviceKey
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("kma"))
+            .build();
         this.serviceKey = serviceKey;
     }
 
@@ -5,6 +5,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseRecommendationSaveRepository
@@ -14,4 +16,6 @@ public interface CourseRecommendationSaveRepository
     Page<CourseRecommendationSave> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
     Optional<CourseRecommendationSave> findByIdAndUserId(Long id, Long userId);
+
+    List<CourseRecommendationSave> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime since, Pageable pageable);
 }
@@ -7,8 +7,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface DriveSpotRepository extends JpaRepository<DriveSpot, Long> {
 
     List<DriveSpot> findByIsActiveTrue();
-
-    long countByIsActiveTrue();
-
-    long countByIsActiveTrueAndThemesContainingIgnoreCase(String theme);
 }
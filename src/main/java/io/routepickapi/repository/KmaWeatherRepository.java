@@ -2,6 +2,7 @@ package io.routepickapi.repository;
 
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import io.routepickapi.weather.WeatherBaseTimeCalculator.BaseDateTime;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -27,9 +28,12 @@ public class KmaWeatherRepository implements WeatherRepository {
 
     public KmaWeatherRepository(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
         @Value("${external.weather.kma.base-url}") String baseUrl
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("kma"))
+            .build();
     }
 
     @Override
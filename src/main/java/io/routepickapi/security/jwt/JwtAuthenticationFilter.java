@@ -153,7 +153,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return true;
         }
         if ("GET".equalsIgnoreCase(method)) {
-            if ("/api/recommendations/drive-courses".equals(path)) {
+            if ("/api/recommendations/drive-courses".equals(path)
+                || "/api/recommendations/drive-courses/stream".equals(path)) {
                 return true;
             }
             if ("/weather/drive-message".equals(path)) {
@@ -16,6 +16,7 @@ import io.routepickapi.dto.recommendation.CandidatePlace;
 import io.routepickapi.dto.recommendation.CourseCandidate;
 import io.routepickapi.dto.recommendation.DrivePreference;
 import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.CandidateDistanceMatrix;
 import io.routepickapi.service.recommendation.CandidatePlaceCollector;
 import io.routepickapi.service.recommendation.CourseCandidateBuilder;
 import io.routepickapi.service.recommendation.CourseScoreCalculator;
@@ -57,6 +58,9 @@ public class CourseRecommendationService {
     private final RecommendationFallbackPolicy recommendationFallbackPolicy;
     private final RouteMetricsService routeMetricsService;
 
+    @org.springframework.beans.factory.annotation.Value("${recommendation.course-builder.best-first:true}")
+    private boolean bestFirstCourseSearch;
+
     public CourseRecommendationResponse recommend(CourseRecommendationRequest request) {
         if (request == null) {
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "요청값이 비어있습니다.");
@@ -231,6 +235,7 @@ public class CourseRecommendationService {
                 origin,
                 destination,
                 run.candidates(),
+                run.distances(),
                 preference,
                 maxStops,
                 corridor,
@@ -259,12 +264,19 @@ public class CourseRecommendationService {
             corridor
         );
         List<CandidatePlace> deduplicated = placeDeduplicator.deduplicate(candidates);
+        // 코스 조합과 점수 계산이 같은 후보 쌍 거리를 함께 쓴다. 중복 제거로 빠질 장소는 행렬에 넣지 않는다.
+        CandidateDistanceMatrix distances = CandidateDistanceMatrix.of(origin, destination, deduplicated);
+        CourseScoreCalculator.CourseEstimator estimator = bestFirstCourseSearch
+            ? courseScoreCalculator.estimator(origin, destination, preference, maxStops, routeMetrics)
+            : null;
         List<CourseCandidate> courses = courseCandidateBuilder.buildCourses(
             origin,
             destination,
             deduplicated,
             MIN_STOPS,
-            maxStops
+            maxStops,
+            distances,
+            estimator
         );
 
         List<CourseCandidate> scored = courseScoreCalculator.scoreCourses(
@@ -273,7 +285,8 @@ public class CourseRecommendationService {
             destination,
             preference,
             maxStops,
-            routeMetrics
+            routeMetrics,
+            distances
         );
         List<CourseCandidate> validated = finalRecommendationValidator.validateCourses(
             scored,
@@ -281,7 +294,7 @@ public class CourseRecommendationService {
             destination,
             routeMetrics
         );
-        return new RecommendationRun(deduplicated, validated);
+        return new RecommendationRun(deduplicated, validated, distances);
     }
 
     private List<CourseCandidate> filterByConditions(
@@ -309,12 +322,14 @@ public class CourseRecommendationService {
         GeoPoint origin,
         GeoPoint destination,
         List<CandidatePlace> candidates,
+        CandidateDistanceMatrix distances,
         DrivePreference preference,
         int maxStops,
         RouteCorridor corridor,
         RouteMetrics routeMetrics
     ) {
         List<CandidatePlace> baseCandidates = candidates;
+        CandidateDistanceMatrix baseDistances = distances;
         if (baseCandidates == null || baseCandidates.isEmpty()) {
             CandidateSearchOption fallbackOption = CandidateSearchOption.defaultOption()
                 .withSearchRadiusMeters(EXPANDED_SEARCH_RADIUS_METERS)
@@ -327,6 +342,7 @@ public class CourseRecommendationService {
                 corridor
             );
             baseCandidates = placeDeduplicator.deduplicate(baseCandidates);
+            baseDistances = CandidateDistanceMatrix.of(origin, destination, baseCandidates);
         }
 
         List<CourseCandidate> fallback = recommendationFallbackPolicy.fallback(
@@ -341,7 +357,8 @@ public class CourseRecommendationService {
             destination,
             preference,
             maxStops,
-            routeMetrics
+            routeMetrics,
+            baseDistances
         );
     }
 
@@ -787,7 +804,8 @@ public class CourseRecommendationService {
 
     private record RecommendationRun(
         List<CandidatePlace> candidates,
-        List<CourseCandidate> courses
+        List<CourseCandidate> courses,
+        CandidateDistanceMatrix distances
     ) {
     }
 
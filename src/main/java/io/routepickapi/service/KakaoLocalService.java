@@ -3,10 +3,12 @@ package io.routepickapi.service;
 import io.routepickapi.common.error.CustomException;
 import io.routepickapi.common.error.ErrorType;
 import io.routepickapi.dto.place.KakaoPlaceSearchResponse;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
 @Slf4j
@@ -19,9 +21,12 @@ public class KakaoLocalService {
 
     public KakaoLocalService(
         RestClient.Builder builder,
+        ExternalHttpTransport transport,
         @Value("${external.kakao.base-url}") String baseUrl
     ) {
-        this.restClient = builder.baseUrl(baseUrl).build();
+        this.restClient = builder.baseUrl(baseUrl)
+            .requestFactory(transport.requestFactory("kakao-local"))
+            .build();
     }
 
     public KakaoPlaceSearchResponse searchKeyword(String keyword, int page, int size) {
@@ -34,16 +39,22 @@ public class KakaoLocalService {
         int safePage = Math.max(1, Math.min(page, 45));
         int safeSize = Math.max(1, Math.min(size, 15));
 
-        return restClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/v2/local/search/keyword.json")
-                .queryParam("query", keyword)
-                .queryParam("page", safePage)
-                .queryParam("size", safeSize)
-                .build())
-            .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + restApiKey)
-            .retrieve()
-            .body(KakaoPlaceSearchResponse.class);
+        try {
+            return restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                    .path("/v2/local/search/keyword.json")
+                    .queryParam("query", keyword)
+                    .queryParam("page", safePage)
+                    .queryParam("size", safeSize)
+                    .build())
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + restApiKey)
+                .retrieve()
+                .body(KakaoPlaceSearchResponse.class);
+        } catch (HttpClientErrorException.TooManyRequests ex) {
+            // 카카오 스로틀이나 외부 호출 가드의 한도 초과는 500 이 아니라 429 로 돌려준다
+            log.warn("Kakao keyword search throttled - keyword={}", keyword);
+            throw new CustomException(ErrorType.COMMON_RATE_LIMIT);
+        }
     }
 
     public KakaoPlaceSearchResponse searchKeywordByLocation(
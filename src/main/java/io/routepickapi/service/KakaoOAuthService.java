@@ -10,8 +10,10 @@ import io.routepickapi.entity.user.UserAuthProvider;
 import io.routepickapi.entity.user.UserIdentity;
 import io.routepickapi.entity.user.UserIdentityProvider;
 import io.routepickapi.entity.user.UserStatus;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
 import io.routepickapi.repository.UserIdentityRepository;
 import io.routepickapi.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
@@ -41,9 +43,11 @@ public class KakaoOAuthService {
     private static final String AUTH_BASE_URL = "https://kauth.kakao.com";
     private static final String API_BASE_URL = "https://kapi.kakao.com";
 
-    private final RestClient authClient = RestClient.create(AUTH_BASE_URL);
-    private final RestClient apiClient = RestClient.create(API_BASE_URL);
+    private RestClient authClient;
+    private RestClient apiClient;
 
+    private final RestClient.Builder restClientBuilder;
+    private final ExternalHttpTransport transport;
     private final UserRepository userRepository;
     private final UserIdentityRepository userIdentityRepository;
     private final AuthService authService;
@@ -64,6 +68,18 @@ public class KakaoOAuthService {
     @Value("${kakao.oauth.logout-redirect-uri:}")
     private String logoutRedirectUri;
 
+    @PostConstruct
+    void initRestClients() {
+        authClient = restClientBuilder.clone()
+            .baseUrl(AUTH_BASE_URL)
+            .requestFactory(transport.requestFactory("kakao-oauth"))
+            .build();
+        apiClient = restClientBuilder.clone()
+            .baseUrl(API_BASE_URL)
+            .requestFactory(transport.requestFactory("kakao-oauth"))
+            .build();
+    }
+
     public String buildAuthorizeUrl(String state) {
         validateConfig();
 
@@ -2,6 +2,8 @@ package io.routepickapi.service;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
+import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +24,9 @@ public class LlmClient {
     private static final double DEFAULT_TEMPERATURE = 0.4;
 
     private final ObjectMapper objectMapper;
-    private final RestClient restClient = RestClient.create();
+    private final RestClient.Builder restClientBuilder;
+    private final ExternalHttpTransport transport;
+    private RestClient restClient;
 
     @Value("${llm.api-url:}")
     private String apiUrl;
@@ -33,6 +37,11 @@ public class LlmClient {
     @Value("${llm.model:gpt-4o-mini}")
     private String model;
 
+    @PostConstruct
+    void initRestClient() {
+        restClient = restClientBuilder.requestFactory(transport.requestFactory("llm")).build();
+    }
+
     public <T> Optional<T> requestJson(String prompt, Class<T> responseType) {
         if (prompt == null || prompt.isBlank()) {
             return Optional.empty();
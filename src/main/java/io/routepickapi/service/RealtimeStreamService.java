@@ -65,6 +65,34 @@ public class RealtimeStreamService {
         return emitter;
     }
 
+    /**
+     * 요청 하나에만 응답하는 단발성 스트림. 구독 목록에 넣지 않으며, 호출 측이 다 보내고 나면 {@link #complete} 한다.
+     */
+    public SseEmitter openRequestStream(long timeoutMillis) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        sendConnected(emitter);
+        return emitter;
+    }
+
+    /**
+     * 이벤트 하나를 보낸다. 클라이언트가 끊겨 전송에 실패하면 emitter 를 닫고 false 를 돌려준다.
+     */
+    public boolean send(SseEmitter emitter, String eventName, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(payload));
+            return true;
+        } catch (Exception ex) {
+            safeComplete(emitter);
+            log.debug("SSE emitter removed: event={}, reason={}", eventName,
+                ex.getMessage());
+            return false;
+        }
+    }
+
+    public void complete(SseEmitter emitter) {
+        safeComplete(emitter);
+    }
+
     public void publishNewPost(Post post) {
         if (post == null) {
             return;
@@ -165,13 +193,8 @@ public class RealtimeStreamService {
     private void broadcast(List<SseEmitter> emitters, String eventName, Object payload) {
         List<SseEmitter> staleEmitters = new ArrayList<>();
         for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event().name(eventName).data(payload));
-            } catch (Exception ex) {
-                safeComplete(emitter);
+            if (!send(emitter, eventName, payload)) {
                 staleEmitters.add(emitter);
-                log.debug("SSE emitter removed: event={}, reason={}", eventName,
-                    ex.getMessage());
             }
         }
 
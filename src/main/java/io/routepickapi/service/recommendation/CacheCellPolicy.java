@@ -0,0 +1,55 @@
+package io.routepickapi.service.recommendation;
+
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결과/번들 캐시 key 에 넣을 좌표를 geohash 칸으로 뭉갠다.
+ * 같은 역이나 명소에서 몇 m 떨어져 출발한 요청도 같은 key 를 쓰도록 하고,
+ * 드라이브 시간이 길수록 출발 위치 차이가 결과에 덜 드러나므로 칸을 키운다.
+ */
+@Component
+public class CacheCellPolicy {
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.enabled:true}")
+    private boolean enabled;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.short-max-minutes:60}")
+    private int shortMaxMinutes;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.medium-max-minutes:180}")
+    private int mediumMaxMinutes;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.short-precision:7}")
+    private int shortPrecision;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.medium-precision:6}")
+    private int mediumPrecision;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.cell.long-precision:5}")
+    private int longPrecision;
+
+    /**
+     * 꺼져 있으면 기존처럼 소수점 5자리 좌표를 그대로 쓴다.
+     * durationMinutes 가 없으면 가장 촘촘한 칸을 쓴다.
+     */
+    public String cellKey(double lat, double lng, Integer durationMinutes) {
+        if (!enabled) {
+            return String.format(Locale.ROOT, "%.5f,%.5f", lat, lng);
+        }
+        int precision = precisionFor(durationMinutes);
+        return "gh" + precision + "=" + GeoUtils.geohash(lat, lng, precision);
+    }
+
+    int precisionFor(Integer durationMinutes) {
+        int precision;
+        if (durationMinutes == null || durationMinutes <= shortMaxMinutes) {
+            precision = shortPrecision;
+        } else if (durationMinutes <= mediumMaxMinutes) {
+            precision = mediumPrecision;
+        } else {
+            precision = longPrecision;
+        }
+        return Math.max(1, Math.min(12, precision));
+    }
+}
@@ -0,0 +1,37 @@
+package io.routepickapi.service.recommendation;
+
+import java.util.Locale;
+
+/**
+ * Redis 에 저장하는 추천 캐시 payload 의 직렬화 형식.
+ */
+public enum CacheFormat {
+    JSON((byte) 'J'),
+    SMILE((byte) 'S');
+
+    private final byte id;
+
+    CacheFormat(byte id) {
+        this.id = id;
+    }
+
+    public byte id() {
+        return id;
+    }
+
+    public static CacheFormat fromId(byte id) {
+        for (CacheFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("unknown cache format id: " + id);
+    }
+
+    public static CacheFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
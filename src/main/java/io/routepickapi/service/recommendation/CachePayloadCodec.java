@@ -0,0 +1,87 @@
+package io.routepickapi.service.recommendation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 추천 캐시 payload 를 byte[] 로 인코딩/디코딩한다.
+ *
+ * <p>압축하지 않은 JSON 은 기존과 같은 UTF-8 JSON 그대로 저장한다.
+ * 그 외(Smile 또는 압축)는 [0x00][형식 id][flag] 헤더를 붙인다. JSON 은 0x00 으로 시작할 수 없으므로
+ * 헤더 유무로 기존 JSON 값과 구분되고, 형식을 바꿔도 이미 저장된 값을 그대로 읽을 수 있다.
+ */
+public final class CachePayloadCodec {
+
+    private static final byte MAGIC = 0x00;
+    private static final byte FLAG_GZIP = 0x01;
+    private static final int HEADER_LENGTH = 3;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final int compressThresholdBytes;
+
+    /**
+     * @param compressThresholdBytes 직렬화 결과가 이 크기 이상이면 gzip 으로 압축한다. 0 이하이면 압축하지 않는다.
+     */
+    public CachePayloadCodec(ObjectMapper jsonMapper, int compressThresholdBytes) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = jsonMapper.copyWith(new SmileFactory());
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    public byte[] encode(Object value, CacheFormat format) throws IOException {
+        byte[] body = mapper(format).writeValueAsBytes(value);
+        boolean compress = compressThresholdBytes > 0 && body.length >= compressThresholdBytes;
+        if (format == CacheFormat.JSON && !compress) {
+            return body;
+        }
+        if (compress) {
+            body = gzip(body);
+        }
+        byte[] payload = new byte[HEADER_LENGTH + body.length];
+        payload[0] = MAGIC;
+        payload[1] = format.id();
+        payload[2] = compress ? FLAG_GZIP : 0;
+        System.arraycopy(body, 0, payload, HEADER_LENGTH, body.length);
+        return payload;
+    }
+
+    public <T> T decode(byte[] payload, TypeReference<T> type) throws IOException {
+        if (payload == null || payload.length == 0) {
+            return null;
+        }
+        if (payload[0] != MAGIC) {
+            return jsonMapper.readValue(payload, type);
+        }
+        if (payload.length < HEADER_LENGTH) {
+            throw new IOException("truncated cache payload");
+        }
+        ObjectMapper mapper = mapper(CacheFormat.fromId(payload[1]));
+        if ((payload[2] & FLAG_GZIP) != 0) {
+            try (InputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH))) {
+                return mapper.readValue(in, type);
+            }
+        }
+        return mapper.readValue(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, type);
+    }
+
+    private ObjectMapper mapper(CacheFormat format) {
+        return format == CacheFormat.SMILE ? smileMapper : jsonMapper;
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 3));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,190 @@
+package io.routepickapi.service.recommendation;
+
+import io.routepickapi.dto.recommendation.CandidatePlace;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 요청 하나의 후보 장소(와 출발지/도착지) 사이 직선 거리(km)를 담는 대칭 행렬.
+ *
+ * <p>중복 제거를 마친 후보에 대해 인접 그래프, DFS, 점수 계산이 같은 쌍의 거리를 반복해서 구하므로 좌표를 {@code double[]} 로
+ * 한 번 펼쳐 두고, 쌍 거리는 위삼각 배열에 처음 조회할 때 한 번만 계산해 채운다. 출발지/도착지와의 거리는
+ * 생성 시점에 모두 계산한다. 후보는 인스턴스 동일성으로 찾으며, 행렬에 없는 장소는 그때그때 계산한다.
+ * 요청 스레드 안에서만 쓰는 전제라 동기화하지 않는다.
+ */
+public final class CandidateDistanceMatrix {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final GeoPoint origin;
+    private final GeoPoint destination;
+    private final List<CandidatePlace> candidates;
+    private final Map<CandidatePlace, Integer> indexes;
+    private final double[] latRadians;
+    private final double[] lngRadians;
+    private final double[] cosLat;
+    private final double[] fromOrigin;
+    private final double[] toDestination;
+    private final double originToDestination;
+    private final double[] pairs;
+
+    private CandidateDistanceMatrix(GeoPoint origin, GeoPoint destination, List<CandidatePlace> candidates) {
+        this.origin = origin;
+        this.destination = destination;
+        this.candidates = candidates;
+        int size = candidates.size();
+        this.indexes = new IdentityHashMap<>(size * 2);
+        this.latRadians = new double[size];
+        this.lngRadians = new double[size];
+        this.cosLat = new double[size];
+        this.fromOrigin = new double[size];
+        this.toDestination = new double[size];
+        for (int index = 0; index < size; index++) {
+            CandidatePlace candidate = candidates.get(index);
+            indexes.putIfAbsent(candidate, index);
+            latRadians[index] = Math.toRadians(candidate.y());
+            lngRadians[index] = Math.toRadians(candidate.x());
+            cosLat[index] = Math.cos(latRadians[index]);
+            fromOrigin[index] = origin == null ? Double.NaN : distanceTo(index, origin);
+            toDestination[index] = destination == null ? Double.NaN : distanceTo(index, destination);
+        }
+        this.originToDestination = origin == null || destination == null
+            ? Double.NaN
+            : GeoUtils.distanceKm(origin, destination);
+        this.pairs = new double[size * (size - 1) / 2];
+        Arrays.fill(pairs, Double.NaN);
+    }
+
+    /**
+     * 출발지/도착지를 모르면 {@code null} 을 넘긴다. 이때 해당 거리는 {@link Double#NaN} 이다.
+     */
+    public static CandidateDistanceMatrix of(
+        GeoPoint origin,
+        GeoPoint destination,
+        List<CandidatePlace> candidates
+    ) {
+        List<CandidatePlace> safeCandidates = candidates == null ? List.of() : List.copyOf(candidates);
+        return new CandidateDistanceMatrix(origin, destination, safeCandidates);
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    public CandidatePlace candidate(int index) {
+        return candidates.get(index);
+    }
+
+    /**
+     * 행렬에 없는 장소면 -1.
+     */
+    public int indexOf(CandidatePlace candidate) {
+        Integer index = indexes.get(candidate);
+        return index == null ? -1 : index;
+    }
+
+    public double between(int first, int second) {
+        if (first == second) {
+            return 0.0;
+        }
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        int slot = low * (2 * candidates.size() - low - 1) / 2 + (high - low - 1);
+        double cached = pairs[slot];
+        if (Double.isNaN(cached)) {
+            cached = haversine(latRadians[low], lngRadians[low], cosLat[low],
+                latRadians[high], lngRadians[high], cosLat[high]);
+            pairs[slot] = cached;
+        }
+        return cached;
+    }
+
+    public double fromOrigin(int index) {
+        return fromOrigin[index];
+    }
+
+    public double toDestination(int index) {
+        return toDestination[index];
+    }
+
+    public double originToDestination() {
+        return originToDestination;
+    }
+
+    /**
+     * 두 장소가 모두 행렬에 있으면 저장된 값을, 아니면 직접 계산한 값을 돌려준다.
+     */
+    public double distanceKm(CandidatePlace first, CandidatePlace second) {
+        int firstIndex = indexOf(first);
+        int secondIndex = indexOf(second);
+        if (firstIndex >= 0 && secondIndex >= 0) {
+            return between(firstIndex, secondIndex);
+        }
+        return GeoUtils.distanceKm(new GeoPoint(first.x(), first.y()), new GeoPoint(second.x(), second.y()));
+    }
+
+    /**
+     * 출발지 → 정차지들 → 도착지 순서의 구간별 직선 거리. 길이는 {@code stops.size() + 1} 이다.
+     * 출발지/도착지 없이 만든 행렬이면 양 끝 구간은 {@link Double#NaN} 이다.
+     */
+    public double[] legDistancesKm(List<CandidatePlace> stops) {
+        if (stops == null || stops.isEmpty()) {
+            return new double[] {originToDestination};
+        }
+        double[] legs = new double[stops.size() + 1];
+        int previous = indexOf(stops.getFirst());
+        legs[0] = previous >= 0 ? fromOrigin[previous] : distanceKm(origin, stops.getFirst());
+        for (int index = 1; index < stops.size(); index++) {
+            int current = indexOf(stops.get(index));
+            legs[index] = previous >= 0 && current >= 0
+                ? between(previous, current)
+                : distanceKm(stops.get(index - 1), stops.get(index));
+            previous = current;
+        }
+        legs[stops.size()] = previous >= 0 ? toDestination[previous] : distanceKm(destination, stops.getLast());
+        return legs;
+    }
+
+    /**
+     * 출발지 → 정차지들 → 도착지 총 직선 거리.
+     */
+    public double pathDistanceKm(List<CandidatePlace> stops) {
+        double total = 0.0;
+        for (double leg : legDistancesKm(stops)) {
+            total += leg;
+        }
+        return total;
+    }
+
+    private double distanceKm(GeoPoint point, CandidatePlace place) {
+        if (point == null) {
+            return Double.NaN;
+        }
+        return GeoUtils.distanceKm(point, new GeoPoint(place.x(), place.y()));
+    }
+
+    private double distanceTo(int index, GeoPoint point) {
+        double pointLat = Math.toRadians(point.y());
+        return haversine(latRadians[index], lngRadians[index], cosLat[index],
+            pointLat, Math.toRadians(point.x()), Math.cos(pointLat));
+    }
+
+    // GeoUtils.distanceKm 과 같은 식이며, 라디안 변환과 cos(lat) 만 후보별로 미리 계산해 둔다.
+    private static double haversine(
+        double startLat,
+        double startLng,
+        double startCosLat,
+        double endLat,
+        double endLng,
+        double endCosLat
+    ) {
+        double sinLat = Math.sin((endLat - startLat) / 2);
+        double sinLng = Math.sin((endLng - startLng) / 2);
+        double a = sinLat * sinLat + startCosLat * endCosLat * sinLng * sinLng;
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+}
@@ -26,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Component
@@ -119,10 +120,16 @@ public class CandidatePlaceCollector {
             counter.overpassCap(),
             searchPoints.size());
 
+        Set<String> kakaoKeywords = buildKakaoKeywords(preference);
+        SearchCacheBatch searchCache = prefetchSearchCaches(searchPoints, searchRadius, kakaoKeywords);
+
         Map<String, CandidatePlace> results = new LinkedHashMap<>();
-        collectTourPlaces(searchPoints, searchRadius, preference, option, corridor, counter, results);
-        collectKakaoPlaces(searchPoints, searchRadius, preference, option, corridor, counter, results);
+        collectTourPlaces(searchPoints, searchRadius, preference, option, corridor, counter, results, searchCache);
+        collectKakaoPlaces(searchPoints, searchRadius, kakaoKeywords, preference, option, corridor, counter, results,
+            searchCache);
         collectOverpassPlaces(searchPoints, searchRadius, preference, option, corridor, counter, results);
+        cacheService.putTourItems(searchCache.fetchedTour());
+        cacheService.putKakaoPlaces(searchCache.fetchedKakao());
 
         log.info("Candidate caps applied - kakao={}, tour={}, overpass={}",
             counter.kakaoCount(), counter.tourCount(), counter.overpassCount());
@@ -140,7 +147,8 @@ public class CandidatePlaceCollector {
         CandidateSearchOption option,
         RouteCorridor corridor,
         SourceCounter counter,
-        Map<String, CandidatePlace> results
+        Map<String, CandidatePlace> results,
+        SearchCacheBatch searchCache
     ) {
         List<DriveStopType> stopTypes = preference == null ? List.of() : preference.stopTypes();
         for (GeoPoint point : searchPoints) {
@@ -149,7 +157,7 @@ public class CandidatePlaceCollector {
                     return;
                 }
                 String cacheKey = buildSearchCacheKey("tour", point, searchRadius, contentType);
-                List<TourItem> cached = cacheService.getTourItems(cacheKey);
+                List<TourItem> cached = searchCache.cachedTour().get(cacheKey);
                 if (cached != null) {
                     for (TourItem item : cached) {
                         if (!addTourCandidate(item, stopTypes, option, corridor, counter, results)) {
@@ -169,7 +177,7 @@ public class CandidatePlaceCollector {
 
                 if (items != null) {
                     List<TourItem> docs = items.stream().filter(Objects::nonNull).toList();
-                    cacheService.putTourItems(cacheKey, docs);
+                    searchCache.fetchedTour().put(cacheKey, docs);
                     for (TourItem item : docs) {
                         if (!addTourCandidate(item, stopTypes, option, corridor, counter, results)) {
                             return;
@@ -183,21 +191,22 @@ public class CandidatePlaceCollector {
     private void collectKakaoPlaces(
         List<GeoPoint> searchPoints,
         int searchRadius,
+        Set<String> keywords,
         DrivePreference preference,
         CandidateSearchOption option,
         RouteCorridor corridor,
         SourceCounter counter,
-        Map<String, CandidatePlace> results
+        Map<String, CandidatePlace> results,
+        SearchCacheBatch searchCache
     ) {
         List<DriveStopType> stopTypes = preference == null ? List.of() : preference.stopTypes();
-        Set<String> keywords = buildKakaoKeywords(preference);
         for (GeoPoint point : searchPoints) {
             for (String keyword : keywords) {
                 if (counter.kakaoReached()) {
                     return;
                 }
                 String cacheKey = buildSearchCacheKey("kakao", point, searchRadius, keyword);
-                List<KakaoPlaceDocument> cached = cacheService.getKakaoPlaces(cacheKey);
+                List<KakaoPlaceDocument> cached = searchCache.cachedKakao().get(cacheKey);
                 if (cached != null) {
                     for (KakaoPlaceDocument document : cached) {
                         if (!addKakaoCandidate(document, stopTypes, option, corridor, counter, results)) {
@@ -206,14 +215,20 @@ public class CandidatePlaceCollector {
                     }
                     continue;
                 }
-                KakaoPlaceSearchResponse response = kakaoLocalService.searchKeywordByLocation(
-                    keyword,
-                    point.x(),
-                    point.y(),
-                    searchRadius,
-                    SEARCH_PAGE,
-                    SEARCH_SIZE
-                );
+                KakaoPlaceSearchResponse response;
+                try {
+                    response = kakaoLocalService.searchKeywordByLocation(
+                        keyword,
+                        point.x(),
+                        point.y(),
+                        searchRadius,
+                        SEARCH_PAGE,
+                        SEARCH_SIZE
+                    );
+                } catch (RestClientException ex) {
+                    log.warn("Kakao 후보 검색 건너뜀 - keyword={}, reason={}", keyword, ex.getMessage());
+                    continue;
+                }
 
                 if (response == null || response.documents() == null) {
                     continue;
@@ -222,7 +237,7 @@ public class CandidatePlaceCollector {
                 List<KakaoPlaceDocument> docs = response.documents().stream()
                     .filter(Objects::nonNull)
                     .toList();
-                cacheService.putKakaoPlaces(cacheKey, docs);
+                searchCache.fetchedKakao().put(cacheKey, docs);
                 for (KakaoPlaceDocument document : docs) {
                     if (!addKakaoCandidate(document, stopTypes, option, corridor, counter, results)) {
                         return;
@@ -254,7 +269,10 @@ public class CandidatePlaceCollector {
             String cacheKey = buildSearchCacheKey("overpass", point, searchRadius, "osm");
             List<OverpassElement> elements = cacheService.getOverpassElements(cacheKey);
             if (elements == null) {
-                OverpassResponse response = overpassClient.executeQuery(buildOverpassQuery(point, searchRadius));
+                OverpassResponse response = overpassClient.executeQuery(
+                    buildOverpassQuery(point, searchRadius),
+                    element -> overpassPlaceNormalizer.normalize(element) != null
+                );
                 if (response == null || response.elements() == null) {
                     continue;
                 }
@@ -286,6 +304,29 @@ public class CandidatePlaceCollector {
         }
     }
 
+    /**
+     * tour/kakao 검색 캐시 key 를 모두 만들어 MGET 한 번으로 조회한다.
+     */
+    private SearchCacheBatch prefetchSearchCaches(List<GeoPoint> searchPoints, int searchRadius, Set<String> keywords) {
+        List<String> tourKeys = new ArrayList<>();
+        List<String> kakaoKeys = new ArrayList<>();
+        for (GeoPoint point : searchPoints) {
+            for (String contentType : DEFAULT_TOUR_TYPES) {
+                tourKeys.add(buildSearchCacheKey("tour", point, searchRadius, contentType));
+            }
+            for (String keyword : keywords) {
+                kakaoKeys.add(buildSearchCacheKey("kakao", point, searchRadius, keyword));
+            }
+        }
+        SearchCacheBatch batch = SearchCacheBatch.prefetched(
+            cacheService.getKakaoPlaces(kakaoKeys),
+            cacheService.getTourItems(tourKeys)
+        );
+        log.info("Candidate search cache prefetch - tourHits={}/{}, kakaoHits={}/{}",
+            batch.cachedTour().size(), tourKeys.size(), batch.cachedKakao().size(), kakaoKeys.size());
+        return batch;
+    }
+
     private List<GeoPoint> buildSearchPoints(GeoPoint origin, GeoPoint destination) {
         List<GeoPoint> points = new ArrayList<>();
         points.add(origin);
@@ -4,16 +4,11 @@ import io.routepickapi.dto.recommendation.CandidatePlace;
 import io.routepickapi.dto.recommendation.CourseCandidate;
 import io.routepickapi.dto.recommendation.GeoPoint;
 import io.routepickapi.dto.recommendation.ScoreDetail;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +17,8 @@ import org.springframework.stereotype.Component;
 public class CourseCandidateBuilder {
 
     private static final int MAX_COURSES = 60;
+    private static final int BEST_FIRST_MAX_COURSES = 30;
+    private static final int BEST_FIRST_MAX_EXPANSIONS = 5000;
     private static final int MAX_NEIGHBORS = 6;
     private static final double MAX_EDGE_DISTANCE_KM = 15.0;
     private static final double MAX_START_DISTANCE_KM = 25.0;
@@ -33,21 +30,61 @@ public class CourseCandidateBuilder {
         List<CandidatePlace> candidates,
         int minStops,
         int maxStops
+    ) {
+        return buildCourses(origin, destination, candidates, minStops, maxStops, null);
+    }
+
+    /**
+     * {@code distances} 는 같은 요청에서 만든 행렬이며, 후보가 모두 들어 있지 않으면 후보만으로 새로 만든다.
+     */
+    public List<CourseCandidate> buildCourses(
+        GeoPoint origin,
+        GeoPoint destination,
+        List<CandidatePlace> candidates,
+        int minStops,
+        int maxStops,
+        CandidateDistanceMatrix distances
+    ) {
+        return buildCourses(origin, destination, candidates, minStops, maxStops, distances, null);
+    }
+
+    /**
+     * {@code estimator} 가 있으면 추정 점수가 높은 부분 경로부터 넓혀 가는 best-first 탐색으로 코스를 만들고,
+     * 추정 점수 내림차순으로 최대 {@value #BEST_FIRST_MAX_COURSES}개를 돌려준다. 없으면 기존 깊이 우선 탐색이다.
+     */
+    public List<CourseCandidate> buildCourses(
+        GeoPoint origin,
+        GeoPoint destination,
+        List<CandidatePlace> candidates,
+        int minStops,
+        int maxStops,
+        CandidateDistanceMatrix distances,
+        CourseScoreCalculator.CourseEstimator estimator
     ) {
         if (candidates == null || candidates.isEmpty()) {
             return List.of();
         }
 
-        Map<CandidatePlace, List<CandidatePlace>> adjacency = buildAdjacency(candidates);
+        CandidateDistanceMatrix matrix = distances;
+        int[] indexes = matrix == null ? null : resolveIndexes(matrix, candidates);
+        if (indexes == null) {
+            matrix = CandidateDistanceMatrix.of(origin, destination, candidates);
+            indexes = resolveIndexes(matrix, candidates);
+        }
+
+        int[][] adjacency = buildAdjacency(matrix, candidates, indexes);
         List<CourseCandidate> courses = new ArrayList<>();
+        SearchState state = new SearchState(matrix, candidates, indexes, adjacency, minStops, maxStops);
+        if (estimator != null) {
+            buildBestFirst(state, estimator, courses);
+            return courses;
+        }
 
-        for (CandidatePlace start : candidates) {
-            if (distanceKm(origin, start) > MAX_START_DISTANCE_KM) {
+        for (int start = 0; start < candidates.size(); start++) {
+            if (matrix.fromOrigin(indexes[start]) > MAX_START_DISTANCE_KM) {
                 continue;
             }
-            Deque<CandidatePlace> path = new ArrayDeque<>();
-            Set<CandidatePlace> visited = new HashSet<>();
-            dfs(origin, destination, start, adjacency, path, visited, courses, minStops, maxStops);
+            dfs(start, state, courses);
             if (courses.size() >= MAX_COURSES) {
                 break;
             }
@@ -57,66 +94,158 @@ public class CourseCandidateBuilder {
         return courses;
     }
 
-    private void dfs(
-        GeoPoint origin,
-        GeoPoint destination,
-        CandidatePlace current,
-        Map<CandidatePlace, List<CandidatePlace>> adjacency,
-        Deque<CandidatePlace> path,
-        Set<CandidatePlace> visited,
-        List<CourseCandidate> courses,
-        int minStops,
-        int maxStops
-    ) {
+    private void dfs(int current, SearchState state, List<CourseCandidate> courses) {
         if (courses.size() >= MAX_COURSES) {
             return;
         }
 
-        path.addLast(current);
-        visited.add(current);
+        state.path[state.depth++] = current;
+        state.visited[current] = true;
 
-        if (path.size() >= minStops && distanceKm(destination, current) <= MAX_END_DISTANCE_KM) {
-            courses.add(buildCourse(origin, destination, path));
+        if (state.depth >= state.minStops
+            && state.matrix.toDestination(state.indexes[current]) <= MAX_END_DISTANCE_KM) {
+            courses.add(buildCourse(state));
         }
 
-        if (path.size() < maxStops) {
-            List<CandidatePlace> neighbors = adjacency.getOrDefault(current, List.of());
-            for (CandidatePlace next : neighbors) {
-                if (visited.contains(next)) {
+        if (state.depth < state.maxStops) {
+            for (int next : state.adjacency[current]) {
+                if (state.visited[next]) {
                     continue;
                 }
-                dfs(origin, destination, next, adjacency, path, visited, courses, minStops, maxStops);
+                dfs(next, state, courses);
                 if (courses.size() >= MAX_COURSES) {
                     break;
                 }
             }
         }
 
-        visited.remove(current);
-        path.removeLast();
+        state.visited[current] = false;
+        state.depth--;
     }
 
-    private Map<CandidatePlace, List<CandidatePlace>> buildAdjacency(List<CandidatePlace> candidates) {
-        Map<CandidatePlace, List<CandidatePlace>> adjacency = new HashMap<>();
-        for (CandidatePlace candidate : candidates) {
-            List<CandidatePlace> neighbors = candidates.stream()
-                .filter(other -> !other.equals(candidate))
-                .filter(other -> distanceKm(candidate, other) <= MAX_EDGE_DISTANCE_KM)
-                .sorted((first, second) -> Double.compare(distanceKm(candidate, first), distanceKm(candidate, second)))
-                .limit(MAX_NEIGHBORS)
-                .collect(Collectors.toList());
-            adjacency.put(candidate, neighbors);
+    /**
+     * 우선순위 큐에는 "여기서 끝내는 코스"(추정 점수)와 "더 넓힐 부분 경로"(상한)를 따로 넣는다. 상한이 자손 코스의
+     * 추정 점수보다 작지 않으므로, 완성 코스는 남은 후보 중 추정 점수가 가장 높은 순서로 꺼내진다.
+     */
+    private void buildBestFirst(
+        SearchState state,
+        CourseScoreCalculator.CourseEstimator estimator,
+        List<CourseCandidate> courses
+    ) {
+        int size = state.candidates.size();
+        CourseScoreCalculator.EstimatedStop[] stops = new CourseScoreCalculator.EstimatedStop[size];
+        for (int index = 0; index < size; index++) {
+            stops[index] = estimator.stop(state.candidates.get(index));
         }
-        return adjacency;
+
+        PriorityQueue<SearchNode> queue = new PriorityQueue<>();
+        long[] sequence = {0L};
+        for (int start = 0; start < size; start++) {
+            double fromOrigin = state.matrix.fromOrigin(state.indexes[start]);
+            if (fromOrigin > MAX_START_DISTANCE_KM) {
+                continue;
+            }
+            offer(queue, sequence, new PathNode(null, start, 1, fromOrigin), state, estimator, stops);
+        }
+
+        int expansions = 0;
+        while (!queue.isEmpty() && courses.size() < BEST_FIRST_MAX_COURSES) {
+            SearchNode node = queue.poll();
+            PathNode path = node.path();
+            if (node.terminal()) {
+                courses.add(buildCourse(state, path));
+                continue;
+            }
+            if (expansions++ >= BEST_FIRST_MAX_EXPANSIONS) {
+                break;
+            }
+            int lastIndex = state.indexes[path.candidate()];
+            for (int next : state.adjacency[path.candidate()]) {
+                if (path.contains(next)) {
+                    continue;
+                }
+                double pathKm = path.pathKm() + state.matrix.between(lastIndex, state.indexes[next]);
+                offer(queue, sequence, new PathNode(path, next, path.depth() + 1, pathKm), state, estimator, stops);
+            }
+        }
+
+        log.info("코스 후보 생성 완료 - count={}, mode=best-first, expansions={}, queued={}",
+            courses.size(), expansions, sequence[0]);
     }
 
-    private CourseCandidate buildCourse(
-        GeoPoint origin,
-        GeoPoint destination,
-        Deque<CandidatePlace> path
+    private void offer(
+        PriorityQueue<SearchNode> queue,
+        long[] sequence,
+        PathNode path,
+        SearchState state,
+        CourseScoreCalculator.CourseEstimator estimator,
+        CourseScoreCalculator.EstimatedStop[] stops
     ) {
-        List<CandidatePlace> stops = new ArrayList<>(path);
-        double totalDistanceKm = calculateTotalDistance(origin, destination, stops);
+        List<CourseScoreCalculator.EstimatedStop> estimated = path.stops(stops);
+        double toDestination = state.matrix.toDestination(state.indexes[path.candidate()]);
+        double straightKm = path.pathKm() + toDestination;
+        if (path.depth() >= state.minStops && toDestination <= MAX_END_DISTANCE_KM) {
+            queue.add(new SearchNode(path, true, estimator.estimate(estimated, straightKm), sequence[0]++));
+        }
+        if (path.depth() < state.maxStops) {
+            double bound = estimator.upperBound(estimated, straightKm, state.maxStops);
+            queue.add(new SearchNode(path, false, bound, sequence[0]++));
+        }
+    }
+
+    /**
+     * 후보별로 가까운 순서의 이웃 인덱스(최대 {@value #MAX_NEIGHBORS}개). 거리가 같으면 후보 목록 순서를 따른다.
+     */
+    private int[][] buildAdjacency(CandidateDistanceMatrix matrix, List<CandidatePlace> candidates, int[] indexes) {
+        int size = candidates.size();
+        int[][] adjacency = new int[size][];
+        int[] nearest = new int[MAX_NEIGHBORS];
+        double[] nearestDistances = new double[MAX_NEIGHBORS];
+        for (int candidate = 0; candidate < size; candidate++) {
+            int count = 0;
+            for (int other = 0; other < size; other++) {
+                if (other == candidate) {
+                    continue;
+                }
+                double distance = matrix.between(indexes[candidate], indexes[other]);
+                if (distance > MAX_EDGE_DISTANCE_KM) {
+                    continue;
+                }
+                if (count == MAX_NEIGHBORS && distance >= nearestDistances[count - 1]) {
+                    continue;
+                }
+                if (candidates.get(other).equals(candidates.get(candidate))) {
+                    continue;
+                }
+                int position = Math.min(count, MAX_NEIGHBORS - 1);
+                while (position > 0 && nearestDistances[position - 1] > distance) {
+                    nearest[position] = nearest[position - 1];
+                    nearestDistances[position] = nearestDistances[position - 1];
+                    position--;
+                }
+                nearest[position] = other;
+                nearestDistances[position] = distance;
+                count = Math.min(count + 1, MAX_NEIGHBORS);
+            }
+            adjacency[candidate] = Arrays.copyOf(nearest, count);
+        }
+        return adjacency;
+    }
+
+    private CourseCandidate buildCourse(SearchState state, PathNode path) {
+        state.depth = path.depth();
+        for (PathNode node = path; node != null; node = node.parent()) {
+            state.path[node.depth() - 1] = node.candidate();
+        }
+        return buildCourse(state);
+    }
+
+    private CourseCandidate buildCourse(SearchState state) {
+        List<CandidatePlace> stops = new ArrayList<>(state.depth);
+        for (int position = 0; position < state.depth; position++) {
+            stops.add(state.candidates.get(state.path[position]));
+        }
+        double totalDistanceKm = calculateTotalDistance(state);
         int estimatedMinutes = GeoUtils.estimateMinutes(totalDistanceKm);
         return new CourseCandidate(
             UUID.randomUUID().toString(),
@@ -129,31 +258,101 @@ public class CourseCandidateBuilder {
         );
     }
 
-    private double calculateTotalDistance(
-        GeoPoint origin,
-        GeoPoint destination,
-        List<CandidatePlace> stops
-    ) {
-        if (stops.isEmpty()) {
+    private double calculateTotalDistance(SearchState state) {
+        if (state.depth == 0) {
             return 0;
         }
 
-        double distance = distanceKm(origin, stops.getFirst());
-        for (int index = 0; index < stops.size() - 1; index++) {
-            distance += distanceKm(stops.get(index), stops.get(index + 1));
+        CandidateDistanceMatrix matrix = state.matrix;
+        int[] indexes = state.indexes;
+        int[] path = state.path;
+        double distance = matrix.fromOrigin(indexes[path[0]]);
+        for (int position = 0; position < state.depth - 1; position++) {
+            distance += matrix.between(indexes[path[position]], indexes[path[position + 1]]);
         }
-        distance += distanceKm(destination, stops.getLast());
+        distance += matrix.toDestination(indexes[path[state.depth - 1]]);
         return distance;
     }
 
-    private double distanceKm(GeoPoint point, CandidatePlace place) {
-        return GeoUtils.distanceKm(point, new GeoPoint(place.x(), place.y()));
+    private int[] resolveIndexes(CandidateDistanceMatrix matrix, List<CandidatePlace> candidates) {
+        int[] indexes = new int[candidates.size()];
+        for (int position = 0; position < candidates.size(); position++) {
+            int index = matrix.indexOf(candidates.get(position));
+            if (index < 0 || Double.isNaN(matrix.fromOrigin(index)) || Double.isNaN(matrix.toDestination(index))) {
+                return null;
+            }
+            indexes[position] = index;
+        }
+        return indexes;
     }
 
-    private double distanceKm(CandidatePlace first, CandidatePlace second) {
-        return GeoUtils.distanceKm(
-            new GeoPoint(first.x(), first.y()),
-            new GeoPoint(second.x(), second.y())
-        );
+    /**
+     * DFS 동안 공유하는 상태. 경로와 방문 여부는 후보 목록 인덱스 기준이다.
+     */
+    private static final class SearchState {
+
+        private final CandidateDistanceMatrix matrix;
+        private final List<CandidatePlace> candidates;
+        private final int[] indexes;
+        private final int[][] adjacency;
+        private final int minStops;
+        private final int maxStops;
+        private final int[] path;
+        private final boolean[] visited;
+        private int depth;
+
+        private SearchState(
+            CandidateDistanceMatrix matrix,
+            List<CandidatePlace> candidates,
+            int[] indexes,
+            int[][] adjacency,
+            int minStops,
+            int maxStops
+        ) {
+            this.matrix = matrix;
+            this.candidates = candidates;
+            this.indexes = indexes;
+            this.adjacency = adjacency;
+            this.minStops = minStops;
+            this.maxStops = maxStops;
+            this.path = new int[Math.max(1, Math.min(maxStops, candidates.size()))];
+            this.visited = new boolean[candidates.size()];
+        }
+    }
+
+    /**
+     * best-first 탐색의 부분 경로. 부모를 공유하는 연결 리스트이며 {@code pathKm} 은 출발지부터 마지막 정차지까지 직선 거리다.
+     */
+    private record PathNode(PathNode parent, int candidate, int depth, double pathKm) {
+
+        private boolean contains(int index) {
+            for (PathNode node = this; node != null; node = node.parent()) {
+                if (node.candidate() == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<CourseScoreCalculator.EstimatedStop> stops(CourseScoreCalculator.EstimatedStop[] estimated) {
+            CourseScoreCalculator.EstimatedStop[] ordered = new CourseScoreCalculator.EstimatedStop[depth];
+            for (PathNode node = this; node != null; node = node.parent()) {
+                ordered[node.depth() - 1] = estimated[node.candidate()];
+            }
+            return Arrays.asList(ordered);
+        }
+    }
+
+    /**
+     * 우선순위가 같으면 먼저 넣은 항목을 먼저 꺼내 결과가 입력 순서에 대해 결정적이다.
+     */
+    private record SearchNode(PathNode path, boolean terminal, double priority, long sequence)
+        implements Comparable<SearchNode> {
+
+        @Override
+        public int compareTo(SearchNode other) {
+            int compared = Double.compare(other.priority, priority);
+            return compared != 0 ? compared : Long.compare(sequence, other.sequence);
+        }
     }
 }
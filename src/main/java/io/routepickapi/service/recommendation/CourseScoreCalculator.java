@@ -11,7 +11,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -30,7 +32,7 @@ public class CourseScoreCalculator {
     private static final double STOP_DIVERSITY_BONUS = 6.0;
     private static final double ROUTING_FALLBACK_PENALTY = 12.0;
 
-    private static final List<String> SCENIC_KEYWORDS = List.of(
+    private static final KeywordMatcher SCENIC_KEYWORDS = KeywordMatcher.of(List.of(
         "전망",
         "해변",
         "해안",
@@ -49,9 +51,9 @@ public class CourseScoreCalculator {
         "scenic",
         "lookout",
         "coast"
-    );
+    ));
 
-    private static final List<String> BRAND_KEYWORDS = List.of(
+    private static final KeywordMatcher BRAND_KEYWORDS = KeywordMatcher.of(List.of(
         "스타벅스",
         "이디야",
         "투썸",
@@ -60,9 +62,11 @@ public class CourseScoreCalculator {
         "메가커피",
         "빽다방",
         "할리스"
-    );
+    ));
 
     private final RouteMetricsService routeMetricsService;
+    // 선호 키워드 목록은 mood/stopType/routeStyle enum 조합에서만 나오므로 컴파일 결과를 그대로 재사용한다.
+    private final Map<List<String>, KeywordMatcher> keywordMatchers = new ConcurrentHashMap<>();
 
     public List<CourseCandidate> scoreCourses(
         List<CourseCandidate> courses,
@@ -71,14 +75,40 @@ public class CourseScoreCalculator {
         DrivePreference preference,
         int targetStops,
         RouteMetrics routeMetrics
+    ) {
+        return scoreCourses(courses, origin, destination, preference, targetStops, routeMetrics, null);
+    }
+
+    /**
+     * {@code distances} 는 라우팅이 실패한 구간의 직선 거리 계산에 쓴다.
+     */
+    public List<CourseCandidate> scoreCourses(
+        List<CourseCandidate> courses,
+        GeoPoint origin,
+        GeoPoint destination,
+        DrivePreference preference,
+        int targetStops,
+        RouteMetrics routeMetrics,
+        CandidateDistanceMatrix distances
     ) {
         if (courses == null || courses.isEmpty()) {
             return List.of();
         }
 
+        RouteMetrics safeMetrics = routeMetrics == null
+            ? routeMetricsService.buildMetrics(origin, destination, 10)
+            : routeMetrics;
         List<CourseCandidate> scored = new ArrayList<>();
         for (CourseCandidate course : courses) {
-            CourseCandidate scoredCourse = score(course, origin, destination, preference, targetStops, routeMetrics);
+            CourseCandidate scoredCourse = score(
+                course,
+                origin,
+                destination,
+                preference,
+                targetStops,
+                safeMetrics,
+                distances
+            );
             if (scoredCourse != null) {
                 scored.add(scoredCourse);
             }
@@ -87,8 +117,10 @@ public class CourseScoreCalculator {
         return scored;
     }
 
-    private CourseCandidate score(
-        CourseCandidate course,
+    /**
+     * 코스 후보를 만드는 동안 쓰는 라우팅 없는 점수 추정기. 같은 가중치/감점을 직선 거리로 계산한다.
+     */
+    public CourseEstimator estimator(
         GeoPoint origin,
         GeoPoint destination,
         DrivePreference preference,
@@ -98,10 +130,23 @@ public class CourseScoreCalculator {
         RouteMetrics safeMetrics = routeMetrics == null
             ? routeMetricsService.buildMetrics(origin, destination, 10)
             : routeMetrics;
+        return new CourseEstimator(GeoUtils.distanceKm(origin, destination), preference, targetStops, safeMetrics);
+    }
+
+    private CourseCandidate score(
+        CourseCandidate course,
+        GeoPoint origin,
+        GeoPoint destination,
+        DrivePreference preference,
+        int targetStops,
+        RouteMetrics safeMetrics,
+        CandidateDistanceMatrix distances
+    ) {
         RouteMetricsService.RouteLegMetrics legMetrics = routeMetricsService.calculateMetrics(
             origin,
             destination,
-            course.stops()
+            course.stops(),
+            distances
         );
         boolean routingFallback = !legMetrics.routingSuccess();
         if (legMetrics.distanceKm() <= 1.0 || legMetrics.durationMinutes() <= 0.0) {
@@ -308,8 +353,9 @@ public class CourseScoreCalculator {
             return 0.5;
         }
 
+        KeywordMatcher matcher = keywordMatchers.computeIfAbsent(keywords, KeywordMatcher::of);
         long matched = stops.stream()
-            .filter(stop -> containsAny(stop, keywords))
+            .filter(stop -> containsAny(stop, matcher))
             .count();
         return matched / (double) stops.size();
     }
@@ -351,15 +397,10 @@ public class CourseScoreCalculator {
         return reasons;
     }
 
-    private boolean containsAny(CandidatePlace stop, List<String> keywords) {
+    private boolean containsAny(CandidatePlace stop, KeywordMatcher keywords) {
         String value = (stop.name() + " " + stop.categoryName() + " "
             + String.join(" ", stop.safeTags())).toLowerCase(Locale.ROOT);
-        for (String keyword : keywords) {
-            if (value.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
+        return keywords.matches(value);
     }
 
     private boolean sameCategory(CandidatePlace first, CandidatePlace second) {
@@ -384,12 +425,8 @@ public class CourseScoreCalculator {
         if (name == null) {
             return "";
         }
-        for (String brand : BRAND_KEYWORDS) {
-            if (name.contains(brand)) {
-                return brand;
-            }
-        }
-        return "";
+        String brand = BRAND_KEYWORDS.findFirst(name);
+        return brand == null ? "" : brand;
     }
 
     private double calculateOnTheWayScore(double deviationKm, double maxDetourKm) {
@@ -461,4 +498,215 @@ public class CourseScoreCalculator {
         double normalized = Math.min(1.0, (categoryScore + sourceScore) / 2.0);
         return normalized * STOP_DIVERSITY_BONUS;
     }
+
+    /**
+     * 정차지 하나에서 미리 뽑아 둔 점수 요소. 테마 값은 mood/경로 스타일/정차 유형 키워드 일치를 평균한 것이다.
+     */
+    public record EstimatedStop(
+        double scenic,
+        double drive,
+        double theme,
+        String category,
+        String brand,
+        CandidateSource source
+    ) {
+    }
+
+    /**
+     * {@link #scoreCourses} 의 점수를 라우팅 대신 직선 거리로 근사한다.
+     *
+     * <p>{@link #estimate} 는 완성된 코스의 근사 점수이고, {@link #upperBound} 는 부분 코스에 정차지를 더해 만들 수 있는
+     * 어떤 코스의 {@link #estimate} 보다도 작지 않은 값이다. 남은 자리는 모든 항목이 만점이라고 보고, 거리/감점처럼
+     * 정차지를 더할수록 나빠지기만 하는 항목은 지금 값을 쓴다.
+     */
+    public final class CourseEstimator {
+
+        private final double straightBaseKm;
+        private final DrivePreference preference;
+        private final int targetStops;
+        private final RouteMetrics routeMetrics;
+        private final KeywordMatcher moodMatcher;
+        private final KeywordMatcher stopTypeMatcher;
+        private final List<KeywordMatcher> styleMatchers;
+        private final boolean windingStyle;
+
+        private CourseEstimator(
+            double straightBaseKm,
+            DrivePreference preference,
+            int targetStops,
+            RouteMetrics routeMetrics
+        ) {
+            this.straightBaseKm = straightBaseKm;
+            this.preference = preference;
+            this.targetStops = targetStops;
+            this.routeMetrics = routeMetrics;
+            if (preference == null) {
+                this.moodMatcher = null;
+                this.stopTypeMatcher = null;
+                this.styleMatchers = List.of();
+                this.windingStyle = false;
+                return;
+            }
+            this.moodMatcher = matcherOrNull(preference.moods().stream()
+                .flatMap(mood -> mood.keywords().stream())
+                .toList());
+            this.stopTypeMatcher = matcherOrNull(preference.stopTypes().stream()
+                .flatMap(type -> type.keywords().stream())
+                .toList());
+            List<DriveRouteStyle> activeStyles = preference.routeStyles() == null
+                ? List.of()
+                : preference.routeStyles().stream().filter(style -> style != DriveRouteStyle.NORMAL).toList();
+            this.windingStyle = activeStyles.contains(DriveRouteStyle.WINDING);
+            this.styleMatchers = activeStyles.stream()
+                .filter(style -> style != DriveRouteStyle.WINDING)
+                .map(style -> matcherOrNull(style.keywords()))
+                .filter(matcher -> matcher != null)
+                .toList();
+        }
+
+        public EstimatedStop stop(CandidatePlace place) {
+            double scenic = scenicScore(place);
+            double drive = containsAny(place, SCENIC_KEYWORDS) ? 1.0 : 0.0;
+            return new EstimatedStop(
+                scenic,
+                drive,
+                themeFit(place),
+                normalizeCategory(place.categoryName()),
+                findBrand(place.name()),
+                place.source()
+            );
+        }
+
+        /**
+         * 출발지 → 정차지 → 도착지 직선 총거리가 {@code straightKm} 인 코스의 근사 점수.
+         */
+        public double estimate(List<EstimatedStop> stops, double straightKm) {
+            int size = stops.size();
+            if (size == 0) {
+                return 0.0;
+            }
+            double scenic = 0.0;
+            double drive = 0.0;
+            double theme = 0.0;
+            for (EstimatedStop stop : stops) {
+                scenic += stop.scenic();
+                drive += stop.drive();
+                theme += stop.theme();
+            }
+            int minutes = GeoUtils.estimateMinutes(straightKm);
+            double weighted = ON_THE_WAY_WEIGHT * onTheWay(straightKm)
+                + SCENIC_WEIGHT * clamp(scenic / size)
+                + THEME_WEIGHT * theme / size
+                + DRIVE_WEIGHT * drive / size
+                + DIVERSITY_WEIGHT * distinctCategories(stops) / (double) size
+                + TIME_WEIGHT * calculateTimeFit(minutes)
+                + STOP_COUNT_WEIGHT * calculateStopCountFit(size, targetStops);
+            return 100 * weighted + diversityBonus(stops) - penalty(stops, straightKm);
+        }
+
+        /**
+         * {@code stops} 뒤에 정차지를 더해 최대 {@code maxStops} 개로 만든 코스의 {@link #estimate} 상한.
+         * {@code straightKm} 는 지금 정차지들을 거쳐 도착지로 가는 직선 총거리이며, 정차지를 더하면 늘기만 한다.
+         */
+        public double upperBound(List<EstimatedStop> stops, double straightKm, int maxStops) {
+            int size = stops.size();
+            int remaining = maxStops - size;
+            if (remaining <= 0) {
+                return estimate(stops, straightKm);
+            }
+            double scenic = 0.0;
+            double drive = 0.0;
+            double theme = 0.0;
+            for (EstimatedStop stop : stops) {
+                scenic += stop.scenic();
+                drive += stop.drive();
+                theme += stop.theme();
+            }
+            // 만점 정차지를 더할수록 평균이 오르므로 maxStops 개일 때가 가장 높다.
+            int minutes = GeoUtils.estimateMinutes(straightKm);
+            double timeFit = minutes > 120 ? calculateTimeFit(minutes) : 1.0;
+            double stopCountFit = 0.0;
+            for (int count = size + 1; count <= maxStops; count++) {
+                stopCountFit = Math.max(stopCountFit, calculateStopCountFit(count, targetStops));
+            }
+            double weighted = ON_THE_WAY_WEIGHT * onTheWay(straightKm)
+                + SCENIC_WEIGHT * (scenic + remaining) / maxStops
+                + THEME_WEIGHT * (theme + remaining) / maxStops
+                + DRIVE_WEIGHT * (drive + remaining) / maxStops
+                + DIVERSITY_WEIGHT * (distinctCategories(stops) + remaining) / (double) maxStops
+                + TIME_WEIGHT * timeFit
+                + STOP_COUNT_WEIGHT * stopCountFit;
+            return 100 * weighted + STOP_DIVERSITY_BONUS - penalty(stops, straightKm);
+        }
+
+        private double themeFit(CandidatePlace place) {
+            if (preference == null) {
+                return 0.5;
+            }
+            double moodFit = moodMatcher == null ? 0.5 : (containsAny(place, moodMatcher) ? 1.0 : 0.0);
+            double stopFit = stopTypeMatcher == null ? 0.5 : (containsAny(place, stopTypeMatcher) ? 1.0 : 0.0);
+            double routeFit;
+            if (windingStyle) {
+                // 굽은 정도는 정차지 배치로 정해지므로 추정에서는 만점으로 둔다.
+                routeFit = 1.0;
+            } else if (styleMatchers.isEmpty()) {
+                routeFit = 0.5;
+            } else {
+                routeFit = styleMatchers.stream().anyMatch(matcher -> containsAny(place, matcher)) ? 1.0 : 0.0;
+            }
+            return (moodFit + routeFit + stopFit) / 3.0;
+        }
+
+        private double onTheWay(double straightKm) {
+            return calculateOnTheWayScore(Math.max(0.0, straightKm - straightBaseKm), routeMetrics.maxDetourKm());
+        }
+
+        private double penalty(List<EstimatedStop> stops, double straightKm) {
+            double deviationKm = Math.max(0.0, straightKm - straightBaseKm);
+            double delayMinutes = Math.max(
+                0.0,
+                GeoUtils.estimateMinutes(straightKm) - GeoUtils.estimateMinutes(straightBaseKm)
+            );
+            double penalty = calculateDeviationPenalty(deviationKm, routeMetrics.maxDetourKm())
+                + calculateDelayPenalty(delayMinutes, routeMetrics.maxDelayMinutes());
+            for (int index = 0; index < stops.size() - 1; index++) {
+                EstimatedStop current = stops.get(index);
+                EstimatedStop next = stops.get(index + 1);
+                if (current.category().equals(next.category())) {
+                    penalty += 4;
+                }
+                if (!current.brand().isBlank() && current.brand().equals(next.brand())) {
+                    penalty += 6;
+                }
+            }
+            return penalty;
+        }
+
+        private int distinctCategories(List<EstimatedStop> stops) {
+            Set<String> categories = new HashSet<>();
+            for (EstimatedStop stop : stops) {
+                categories.add(stop.category());
+            }
+            return categories.size();
+        }
+
+        private double diversityBonus(List<EstimatedStop> stops) {
+            Set<CandidateSource> sources = new HashSet<>();
+            for (EstimatedStop stop : stops) {
+                if (stop.source() != null) {
+                    sources.add(stop.source());
+                }
+            }
+            double categoryScore = distinctCategories(stops) / (double) stops.size();
+            double sourceScore = sources.isEmpty() ? 0.0 : sources.size() / (double) stops.size();
+            return Math.min(1.0, (categoryScore + sourceScore) / 2.0) * STOP_DIVERSITY_BONUS;
+        }
+
+        private KeywordMatcher matcherOrNull(List<String> keywords) {
+            if (keywords == null || keywords.isEmpty()) {
+                return null;
+            }
+            return keywordMatchers.computeIfAbsent(keywords, KeywordMatcher::of);
+        }
+    }
 }
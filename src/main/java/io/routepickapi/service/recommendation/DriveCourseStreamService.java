@@ -0,0 +1,116 @@
+package io.routepickapi.service.recommendation;
+
+import io.routepickapi.common.error.ApiErrorResponse;
+import io.routepickapi.common.error.CustomException;
+import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.service.RealtimeStreamService;
+import io.routepickapi.service.recommendation.pipeline.DriveCourseCommand;
+import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
+import io.routepickapi.service.recommendation.pipeline.RecommendationFacade;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 드라이브 코스 추천을 SSE 로 단계별 전송한다.
+ *
+ * <p>이벤트 순서: {@code connected} → {@code curated}(DB 큐레이션 스팟만으로 만든 코스)
+ * → {@code enriched}(외부 POI 포함, 라우팅 전 추정치) → {@code result}(기존 응답과 같은 최종 결과).
+ * 중간 이벤트는 후보가 없거나 캐시에 적중하면 생략된다. 실패하면 {@code error} 이벤트로 표준 에러 바디를 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DriveCourseStreamService {
+
+    private static final String STREAM_PATH = "/api/recommendations/drive-courses/stream";
+
+    private final RecommendationFacade recommendationFacade;
+    private final RealtimeStreamService realtimeStreamService;
+    private final ExternalFanOutExecutor fanOutExecutor;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.stream.timeout-millis:30000}")
+    private long streamTimeoutMillis;
+
+    public SseEmitter stream(DriveCourseCommand command, Function<DriveCourseResult, ?> payloadMapper) {
+        DriveCourseCommand resolved = withRequestId(command);
+        SseEmitter emitter = realtimeStreamService.openRequestStream(streamTimeoutMillis);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(ex -> open.set(false));
+
+        fanOutExecutor.submit(() -> {
+            run(resolved, payloadMapper, emitter, open);
+            return null;
+        });
+        return emitter;
+    }
+
+    private void run(
+        DriveCourseCommand command,
+        Function<DriveCourseResult, ?> payloadMapper,
+        SseEmitter emitter,
+        AtomicBoolean open
+    ) {
+        String requestId = command == null ? null : command.requestId();
+        long startedAt = System.nanoTime();
+        try {
+            DriveCourseResult result = recommendationFacade.recommend(command, (stage, partial) -> {
+                sendIfOpen(emitter, open, stage.eventName(), payloadMapper.apply(partial));
+                log.info("Drive course stream partial - requestId={}, stage={}, courses={}, elapsedMs={}",
+                    requestId, stage.eventName(), partial.courses().size(), elapsedMillis(startedAt));
+            });
+            sendIfOpen(emitter, open, "result", payloadMapper.apply(result));
+            log.info("Drive course stream completed - requestId={}, courses={}, elapsedMs={}",
+                requestId, result.courses().size(), elapsedMillis(startedAt));
+        } catch (CustomException ex) {
+            log.warn("Drive course stream rejected - requestId={}, code={}, reason={}",
+                requestId, ex.getType().code, ex.getMessage());
+            sendIfOpen(emitter, open, "error",
+                ApiErrorResponse.of(ex.getType(), ex.getMessage(), STREAM_PATH, requestId, null));
+        } catch (RuntimeException ex) {
+            log.error("Drive course stream failed - requestId={}", requestId, ex);
+            sendIfOpen(emitter, open, "error",
+                ApiErrorResponse.of(ErrorType.COMMON_INTERNAL, null, STREAM_PATH, requestId, null));
+        } finally {
+            realtimeStreamService.complete(emitter);
+        }
+    }
+
+    private void sendIfOpen(SseEmitter emitter, AtomicBoolean open, String eventName, Object payload) {
+        if (!open.get()) {
+            return;
+        }
+        if (!realtimeStreamService.send(emitter, eventName, payload)) {
+            open.set(false);
+        }
+    }
+
+    private DriveCourseCommand withRequestId(DriveCourseCommand command) {
+        if (command == null || (command.requestId() != null && !command.requestId().isBlank())) {
+            return command;
+        }
+        return new DriveCourseCommand(
+            UUID.randomUUID().toString(),
+            command.originLat(),
+            command.originLng(),
+            command.destinationLat(),
+            command.destinationLng(),
+            command.theme(),
+            command.durationMinutes(),
+            command.maxStops(),
+            command.departureTime(),
+            command.weatherAware(),
+            command.includeStops()
+        );
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000L;
+    }
+}
@@ -0,0 +1,132 @@
+package io.routepickapi.service.recommendation;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 호출을 virtual thread 로 병렬 실행한다.
+ * 제공자별 동시 호출 수를 Semaphore 로 제한하고, 결과는 입력 순서를 그대로 유지한다.
+ */
+@Slf4j
+@Component
+public class ExternalFanOutExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Semaphore> providerPermits = new ConcurrentHashMap<>();
+
+    /**
+     * 작업을 병렬로 실행하고 입력 순서대로 결과를 돌려준다.
+     * 실패하거나 deadline 안에 끝나지 않은 작업의 자리에는 null 이 들어간다.
+     */
+    public <T> List<T> invokeOrdered(
+        String provider,
+        int maxConcurrency,
+        Instant deadline,
+        List<Callable<T>> tasks
+    ) {
+        if (tasks == null || tasks.isEmpty()) {
+            return List.of();
+        }
+        Semaphore permits = providerPermits.computeIfAbsent(
+            provider,
+            key -> new Semaphore(Math.max(1, maxConcurrency), true)
+        );
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> callWithPermit(permits, deadline, task)));
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+        int timedOut = 0;
+        int failed = 0;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                results.add(null);
+                timedOut++;
+            } catch (ExecutionException ex) {
+                log.debug("Fan-out task failed - provider={}", provider, ex.getCause());
+                results.add(null);
+                failed++;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.add(null);
+                timedOut++;
+            }
+        }
+        if (timedOut > 0 || failed > 0) {
+            log.info("Fan-out incomplete - provider={}, tasks={}, timedOut={}, failed={}",
+                provider, tasks.size(), timedOut, failed);
+        }
+        return results;
+    }
+
+    /**
+     * 단일 작업을 비동기로 실행한다. 호출 측에서 deadline 에 맞춰 {@link #await} 로 회수한다.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    public <T> T await(Future<T> future, Instant deadline, T fallback) {
+        try {
+            return future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            log.info("Fan-out await timed out - fallback applied");
+            return fallback;
+        } catch (ExecutionException ex) {
+            log.debug("Fan-out await failed", ex.getCause());
+            return fallback;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return fallback;
+        }
+    }
+
+    public Instant deadlineAfter(Duration timeout) {
+        return Instant.now().plus(timeout == null ? Duration.ZERO : timeout);
+    }
+
+    private <T> T callWithPermit(Semaphore permits, Instant deadline, Callable<T> task) throws Exception {
+        if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+            return null;
+        }
+        try {
+            return task.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long remainingNanos(Instant deadline) {
+        if (deadline == null) {
+            return 0L;
+        }
+        return Math.max(0L, Duration.between(Instant.now(), deadline).toNanos());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
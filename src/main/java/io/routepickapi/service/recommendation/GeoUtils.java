@@ -6,6 +6,7 @@ public final class GeoUtils {
 
     private static final double EARTH_RADIUS_KM = 6371.0;
     private static final double AVERAGE_SPEED_KMH = 40.0;
+    private static final char[] GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
 
     private GeoUtils() {
     }
@@ -52,4 +53,47 @@ public final class GeoUtils {
         double projY = startY + t * dy;
         return Math.hypot(pointX - projX, pointY - projY);
     }
+
+    /**
+     * 표준 geohash 문자열. 경도/위도 비트를 번갈아 반으로 나눠 5비트씩 base32 한 글자로 만든다.
+     * 자릿수 6 이면 약 1.2km x 0.6km, 7 이면 약 150m x 150m 칸이다.
+     */
+    public static String geohash(double lat, double lng, int precision) {
+        double minLat = -90.0;
+        double maxLat = 90.0;
+        double minLng = -180.0;
+        double maxLng = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    value = (value << 1) | 1;
+                    minLng = mid;
+                } else {
+                    value <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(GEOHASH_BASE32[value]);
+                bit = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
 }
@@ -0,0 +1,206 @@
+package io.routepickapi.service.recommendation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * 키워드 집합을 미리 컴파일해 둔 다중 패턴 매처(Aho–Corasick).
+ *
+ * <p>입력 문자열을 한 번만 훑어서 포함된 키워드를 모두 찾는다. 결과는 키워드마다 {@code contains} 를
+ * 호출한 것과 같고, 여러 개가 걸리면 선언 순서대로 돌려준다.
+ * 키워드와 입력의 정규화(소문자화, 공백 제거 등)는 호출 측에서 맞춰야 한다. 불변이라 여러 스레드가 공유해도 된다.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<String> keywords;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+
+    private KeywordMatcher(List<String> keywords, char[][] labels, int[][] targets, int[] fail, int[][] outputs) {
+        this.keywords = keywords;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 빈 키워드와 중복은 버리고 나머지를 선언 순서대로 컴파일한다.
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        Set<String> unique = new LinkedHashSet<>();
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                if (keyword != null && !keyword.isEmpty()) {
+                    unique.add(keyword);
+                }
+            }
+        }
+        List<String> ordered = List.copyOf(unique);
+
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        children.add(new HashMap<>());
+        terminal.add(new ArrayList<>());
+        for (int index = 0; index < ordered.size(); index++) {
+            String keyword = ordered.get(index);
+            int node = ROOT;
+            for (int offset = 0; offset < keyword.length(); offset++) {
+                char ch = keyword.charAt(offset);
+                Integer next = children.get(node).get(ch);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(ch, next);
+                    children.add(new HashMap<>());
+                    terminal.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            terminal.get(node).add(index);
+        }
+
+        int size = children.size();
+        int[] fail = new int[size];
+        int[][] outputs = new int[size][];
+        outputs[ROOT] = new int[0];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(ROOT).values()) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            // 실패 링크는 더 얕은 노드를 가리키므로 BFS 순서상 이미 출력이 확정되어 있다.
+            outputs[node] = mergeOutputs(terminal.get(node), outputs[fail[node]]);
+            for (Map.Entry<Character, Integer> entry : children.get(node).entrySet()) {
+                char ch = entry.getKey();
+                int child = entry.getValue();
+                int candidate = fail[node];
+                while (candidate != ROOT && !children.get(candidate).containsKey(ch)) {
+                    candidate = fail[candidate];
+                }
+                Integer target = children.get(candidate).get(ch);
+                fail[child] = target == null ? ROOT : target;
+                queue.add(child);
+            }
+        }
+
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = children.get(node);
+            char[] nodeLabels = new char[edges.size()];
+            int cursor = 0;
+            for (char ch : edges.keySet()) {
+                nodeLabels[cursor++] = ch;
+            }
+            Arrays.sort(nodeLabels);
+            int[] nodeTargets = new int[nodeLabels.length];
+            for (int index = 0; index < nodeLabels.length; index++) {
+                nodeTargets[index] = edges.get(nodeLabels[index]);
+            }
+            labels[node] = nodeLabels;
+            targets[node] = nodeTargets;
+        }
+        return new KeywordMatcher(ordered, labels, targets, fail, outputs);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    /**
+     * 키워드가 하나라도 포함되어 있으면 첫 매칭 위치에서 바로 멈춘다.
+     */
+    public boolean matches(String text) {
+        if (text == null || keywords.isEmpty()) {
+            return false;
+        }
+        int state = ROOT;
+        for (int offset = 0; offset < text.length(); offset++) {
+            state = next(state, text.charAt(offset));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포함된 키워드를 모두 선언 순서대로 돌려준다.
+     */
+    public List<String> findAll(String text) {
+        BitSet hits = scan(text);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<String> matched = new ArrayList<>(hits.cardinality());
+        for (int index = hits.nextSetBit(0); index >= 0; index = hits.nextSetBit(index + 1)) {
+            matched.add(keywords.get(index));
+        }
+        return List.copyOf(matched);
+    }
+
+    /**
+     * 포함된 키워드 중 선언 순서가 가장 앞선 것. 없으면 {@code null}.
+     */
+    public String findFirst(String text) {
+        BitSet hits = scan(text);
+        int first = hits.nextSetBit(0);
+        return first < 0 ? null : keywords.get(first);
+    }
+
+    private BitSet scan(String text) {
+        BitSet hits = new BitSet(keywords.size());
+        if (text == null || keywords.isEmpty()) {
+            return hits;
+        }
+        int state = ROOT;
+        for (int offset = 0; offset < text.length(); offset++) {
+            state = next(state, text.charAt(offset));
+            for (int keyword : outputs[state]) {
+                hits.set(keyword);
+            }
+        }
+        return hits;
+    }
+
+    private int next(int state, char ch) {
+        int current = state;
+        while (true) {
+            int edge = Arrays.binarySearch(labels[current], ch);
+            if (edge >= 0) {
+                return targets[current][edge];
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = fail[current];
+        }
+    }
+
+    private static int[] mergeOutputs(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = new int[own.size() + inherited.length];
+        for (int index = 0; index < own.size(); index++) {
+            merged[index] = own.get(index);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
@@ -0,0 +1,88 @@
+package io.routepickapi.service.recommendation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 앞단에 두는 프로세스 내 캐시.
+ * 역직렬화가 끝난 객체를 그대로 보관하며, 항목 수(LRU)와 TTL 두 기준으로 제거한다.
+ * 보관된 객체는 여러 요청이 공유하므로 호출 측에서 수정하지 않아야 한다.
+ */
+public final class NearCache {
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Map<String, Entry> entries;
+
+    public NearCache(int maxEntries) {
+        this(maxEntries, System::nanoTime);
+    }
+
+    NearCache(int maxEntries, LongSupplier clock) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > NearCache.this.maxEntries;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        });
+    }
+
+    public Object get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAtNanos() - clock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value();
+    }
+
+    public void put(String key, Object value, Duration ttl) {
+        if (value == null || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        entries.put(key, new Entry(value, clock.getAsLong() + ttl.toNanos()));
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+}
@@ -1,6 +1,5 @@
 package io.routepickapi.service.recommendation;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -14,15 +13,15 @@ public class PlaceCategoryClassifier {
         "CE7"
     );
 
-    private static final List<String> ALLOWED_CATEGORY_KEYWORDS = List.of(
+    private static final KeywordMatcher ALLOWED_CATEGORY_KEYWORDS = KeywordMatcher.of(List.of(
         "카페",
         "식당",
         "음식점",
         "맛집",
         "레스토랑"
-    );
+    ));
 
-    private static final List<String> BLACKLIST_KEYWORDS = List.of(
+    private static final KeywordMatcher BLACKLIST_KEYWORDS = KeywordMatcher.of(List.of(
         "도서관",
         "병원",
         "약국",
@@ -59,7 +58,7 @@ public class PlaceCategoryClassifier {
         "주민센터",
         "청사",
         "법원"
-    );
+    ));
 
     public CategoryDecision classify(String categoryGroupCode, String categoryName) {
         String normalizedCategory = normalize(categoryName);
@@ -79,17 +78,11 @@ public class PlaceCategoryClassifier {
         return raw.toLowerCase(Locale.ROOT);
     }
 
-    private List<String> matchKeywords(String value, List<String> keywords) {
-        List<String> matches = new ArrayList<>();
+    private List<String> matchKeywords(String value, KeywordMatcher keywords) {
         if (value == null || value.isBlank()) {
-            return matches;
-        }
-        for (String keyword : keywords) {
-            if (value.contains(keyword)) {
-                matches.add(keyword);
-            }
+            return List.of();
         }
-        return matches;
+        return keywords.findAll(value);
     }
 
     public record CategoryDecision(
@@ -3,6 +3,7 @@ package io.routepickapi.service.recommendation;
 import io.routepickapi.dto.recommendation.CandidatePlace;
 import io.routepickapi.dto.recommendation.GeoPoint;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,9 @@ import org.springframework.stereotype.Component;
 public class PlaceDeduplicator {
 
     private static final double DUPLICATE_DISTANCE_KM = 0.15;
+    private static final double KM_PER_DEGREE = Math.toRadians(6371.0);
+    private static final double CELL_MARGIN = 1.05;
+    private static final double MIN_COS_LAT = 0.01;
 
     public List<CandidatePlace> deduplicate(List<CandidatePlace> candidates) {
         if (candidates == null || candidates.isEmpty()) {
@@ -29,25 +33,75 @@ public class PlaceDeduplicator {
             }
         }
 
-        List<CandidatePlace> result = new ArrayList<>();
-        for (CandidatePlace candidate : byName.values()) {
-            CandidatePlace duplicate = result.stream()
-                .filter(existing -> distanceKm(existing, candidate) <= DUPLICATE_DISTANCE_KM)
-                .findFirst()
-                .orElse(null);
-            if (duplicate == null) {
-                result.add(candidate);
+        return deduplicateByProximity(List.copyOf(byName.values()));
+    }
+
+    /**
+     * 이미 남긴 장소 중 150m 안에 있는 첫 장소(남긴 순서 기준)와 비교해 더 나은 쪽만 남긴다.
+     *
+     * <p>남긴 장소를 약 150m 격자 칸에 넣어 두고 주변 3x3 칸만 확인한다. "첫 장소" 와 결과 순서는 남긴 순번으로
+     * 판단하므로 전체 목록을 훑던 방식과 결과가 같다.
+     */
+    private List<CandidatePlace> deduplicateByProximity(List<CandidatePlace> candidates) {
+        double maxAbsLat = 0.0;
+        for (CandidatePlace candidate : candidates) {
+            maxAbsLat = Math.max(maxAbsLat, Math.abs(candidate.y()));
+        }
+        // 경도 한 칸은 가장 고위도 후보 기준으로 잡아야 어느 위치에서든 150m 가 한 칸을 넘지 않는다.
+        double latStep = DUPLICATE_DISTANCE_KM / KM_PER_DEGREE * CELL_MARGIN;
+        double lngStep = DUPLICATE_DISTANCE_KM
+            / (KM_PER_DEGREE * Math.max(MIN_COS_LAT, Math.cos(Math.toRadians(maxAbsLat))))
+            * CELL_MARGIN;
+
+        Map<Long, List<Kept>> cells = new HashMap<>();
+        List<Kept> kept = new ArrayList<>(candidates.size());
+        long sequence = 0L;
+        for (CandidatePlace candidate : candidates) {
+            long cellX = (long) Math.floor(candidate.x() / lngStep);
+            long cellY = (long) Math.floor(candidate.y() / latStep);
+            Kept duplicate = null;
+            for (long dx = -1; dx <= 1; dx++) {
+                for (long dy = -1; dy <= 1; dy++) {
+                    List<Kept> cell = cells.get(cellKey(cellX + dx, cellY + dy));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Kept existing : cell) {
+                        if (duplicate != null && existing.sequence > duplicate.sequence) {
+                            continue;
+                        }
+                        if (distanceKm(existing.place, candidate) <= DUPLICATE_DISTANCE_KM) {
+                            duplicate = existing;
+                        }
+                    }
+                }
+            }
+
+            if (duplicate != null && !isPreferred(candidate, duplicate.place)) {
                 continue;
             }
-            if (isPreferred(candidate, duplicate)) {
-                result.remove(duplicate);
-                result.add(candidate);
+            if (duplicate != null) {
+                duplicate.removed = true;
+                cells.get(duplicate.cell).remove(duplicate);
             }
+            Kept entry = new Kept(candidate, sequence++, cellKey(cellX, cellY));
+            cells.computeIfAbsent(entry.cell, key -> new ArrayList<>(2)).add(entry);
+            kept.add(entry);
         }
 
+        List<CandidatePlace> result = new ArrayList<>(kept.size());
+        for (Kept entry : kept) {
+            if (!entry.removed) {
+                result.add(entry.place);
+            }
+        }
         return result;
     }
 
+    private long cellKey(long cellX, long cellY) {
+        return (cellX << 32) ^ (cellY & 0xffffffffL);
+    }
+
     private double distanceKm(CandidatePlace first, CandidatePlace second) {
         GeoPoint start = new GeoPoint(first.x(), first.y());
         GeoPoint end = new GeoPoint(second.x(), second.y());
@@ -62,4 +116,18 @@ public class PlaceDeduplicator {
         }
         return candidate.safeTags().size() > other.safeTags().size();
     }
+
+    private static final class Kept {
+
+        private final CandidatePlace place;
+        private final long sequence;
+        private final long cell;
+        private boolean removed;
+
+        private Kept(CandidatePlace place, long sequence, long cell) {
+            this.place = place;
+            this.sequence = sequence;
+            this.cell = cell;
+        }
+    }
 }
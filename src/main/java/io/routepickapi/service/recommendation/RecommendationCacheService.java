@@ -1,19 +1,34 @@
 package io.routepickapi.service.recommendation;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
 import io.routepickapi.dto.recommendation.CandidatePlace;
 import io.routepickapi.infrastructure.client.overpass.dto.OverpassElement;
 import io.routepickapi.infrastructure.client.tour.dto.TourItem;
 import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
 import io.routepickapi.service.recommendation.pipeline.RawPoiBundle;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -32,67 +47,190 @@ public class RecommendationCacheService {
     @org.springframework.beans.factory.annotation.Value("${recommendation.cache.short-ttl-seconds:10}")
     private long resultShortTtlSeconds;
 
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.stale-while-revalidate.enabled:true}")
+    private boolean staleWhileRevalidate;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.stale-while-revalidate.stale-seconds:300}")
+    private long resultStaleSeconds;
+
+    @org.springframework.beans.factory.annotation.Value(
+        "${recommendation.cache.stale-while-revalidate.refresh-lock-seconds:30}"
+    )
+    private long refreshLockSeconds;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.near.enabled:true}")
+    private boolean nearCacheEnabled;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.near.max-entries:2000}")
+    private int nearCacheMaxEntries;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.near.ttl-seconds:30}")
+    private long nearCacheTtlSeconds;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.codec.route-metrics:json}")
+    private String routeMetricsFormat;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.codec.search:json}")
+    private String searchFormat;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.codec.candidate-bundle:json}")
+    private String candidateBundleFormat;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.codec.result:json}")
+    private String resultFormat;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.cache.codec.compress-threshold-bytes:0}")
+    private int compressThresholdBytes;
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private NearCache nearCache;
+    private CachePayloadCodec codec;
+    private final Map<CacheRegion, CacheFormat> regionFormats = new EnumMap<>(CacheRegion.class);
+    private final Map<CacheRegion, DistributionSummary> payloadBytes = new EnumMap<>(CacheRegion.class);
+
+    @PostConstruct
+    void init() {
+        codec = new CachePayloadCodec(objectMapper, compressThresholdBytes);
+        regionFormats.put(CacheRegion.ROUTE_METRICS, CacheFormat.from(routeMetricsFormat));
+        regionFormats.put(CacheRegion.SEARCH, CacheFormat.from(searchFormat));
+        regionFormats.put(CacheRegion.CANDIDATE_BUNDLE, CacheFormat.from(candidateBundleFormat));
+        regionFormats.put(CacheRegion.RESULT, CacheFormat.from(resultFormat));
+        for (CacheRegion region : CacheRegion.values()) {
+            payloadBytes.put(region, DistributionSummary.builder("recommendation.cache.payload.bytes")
+                .tag("region", region.tag())
+                .tag("format", regionFormats.get(region).name().toLowerCase(Locale.ROOT))
+                .baseUnit("bytes")
+                .register(meterRegistry));
+        }
+        log.info("Recommendation cache codec - formats={}, compressThresholdBytes={}",
+            regionFormats, compressThresholdBytes);
+
+        nearCache = new NearCache(nearCacheMaxEntries);
+        FunctionCounter.builder("recommendation.cache.near.requests", nearCache, NearCache::hits)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("recommendation.cache.near.requests", nearCache, NearCache::misses)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("recommendation.cache.near.evictions", nearCache, NearCache::evictions)
+            .register(meterRegistry);
+        Gauge.builder("recommendation.cache.near.size", nearCache, NearCache::size)
+            .register(meterRegistry);
+        log.info("Recommendation near cache - enabled={}, maxEntries={}, ttlSeconds={}",
+            nearCacheEnabled, nearCacheMaxEntries, nearCacheTtlSeconds);
+    }
 
     public RouteMetricsService.RouteLegMetrics getRouteMetrics(String key) {
-        return readValue(key, new TypeReference<>() {});
+        return readNear(key, new TypeReference<>() {});
     }
 
     public void putRouteMetrics(String key, RouteMetricsService.RouteLegMetrics metrics) {
-        writeValue(key, metrics, ROUTE_METRICS_TTL);
+        writeNear(CacheRegion.ROUTE_METRICS, key, metrics, ROUTE_METRICS_TTL);
     }
 
-    public List<KakaoPlaceDocument> getKakaoPlaces(String key) {
-        return readValue(key, new TypeReference<>() {});
+    /**
+     * 여러 검색 key 를 한 번에 조회한다. near cache 에 없는 key 만 MGET 한 번으로 Redis 에서 읽는다.
+     * 반환 Map 에는 hit 된 key 만 들어 있다.
+     */
+    public Map<String, List<KakaoPlaceDocument>> getKakaoPlaces(Collection<String> keys) {
+        return readNearAll(keys, new TypeReference<>() {});
     }
 
-    public void putKakaoPlaces(String key, List<KakaoPlaceDocument> places) {
-        writeValue(key, places, SEARCH_CACHE_TTL);
+    /**
+     * 새로 받은 검색 결과를 pipeline 한 번으로 기록한다.
+     */
+    public void putKakaoPlaces(Map<String, List<KakaoPlaceDocument>> entries) {
+        writeNearAll(CacheRegion.SEARCH, entries, SEARCH_CACHE_TTL);
     }
 
-    public List<TourItem> getTourItems(String key) {
-        return readValue(key, new TypeReference<>() {});
+    public Map<String, List<TourItem>> getTourItems(Collection<String> keys) {
+        return readNearAll(keys, new TypeReference<>() {});
     }
 
-    public void putTourItems(String key, List<TourItem> items) {
-        writeValue(key, items, SEARCH_CACHE_TTL);
+    public void putTourItems(Map<String, List<TourItem>> entries) {
+        writeNearAll(CacheRegion.SEARCH, entries, SEARCH_CACHE_TTL);
     }
 
     public List<OverpassElement> getOverpassElements(String key) {
-        return readValue(key, new TypeReference<>() {});
+        return readNear(key, new TypeReference<>() {});
     }
 
     public void putOverpassElements(String key, List<OverpassElement> elements) {
-        writeValue(key, elements, SEARCH_CACHE_TTL);
+        writeNear(CacheRegion.SEARCH, key, elements, SEARCH_CACHE_TTL);
     }
 
     public RawPoiBundle getPoiBundle(String key) {
-        return readValue(key, new TypeReference<>() {});
+        return readNear(key, new TypeReference<>() {});
     }
 
     public void putPoiBundle(String key, RawPoiBundle bundle) {
-        writeValue(key, bundle, CANDIDATE_BUNDLE_TTL);
+        putPoiBundle(key, bundle, CANDIDATE_BUNDLE_TTL);
+    }
+
+    public void putPoiBundle(String key, RawPoiBundle bundle, Duration ttl) {
+        writeNear(CacheRegion.CANDIDATE_BUNDLE, key, bundle, ttl == null ? CANDIDATE_BUNDLE_TTL : ttl);
     }
 
     public List<CandidatePlace> getCandidatePlaces(String key) {
-        return readValue(key, new TypeReference<>() {});
+        return readNear(key, new TypeReference<>() {});
     }
 
     public void putCandidatePlaces(String key, List<CandidatePlace> candidates) {
-        writeValue(key, candidates, CANDIDATE_BUNDLE_TTL);
+        writeNear(CacheRegion.CANDIDATE_BUNDLE, key, candidates, CANDIDATE_BUNDLE_TTL);
     }
 
-    public DriveCourseResult getDriveCourseResult(String key) {
+    public ResultEntry getDriveCourseResult(String key) {
         return readValue(key, new TypeReference<>() {});
     }
 
     public void putDriveCourseResult(String key, DriveCourseResult result) {
-        writeValue(key, result, Duration.ofSeconds(resultTtlSeconds));
+        putDriveCourseResult(key, result, Duration.ofSeconds(resultTtlSeconds));
     }
 
     public void putDriveCourseResult(String key, DriveCourseResult result, Duration ttl) {
-        writeValue(key, result, ttl == null ? RESULT_TTL : ttl);
+        putDriveCourseResult(key, result, ttl, resultStaleTtl());
+    }
+
+    /**
+     * ttl 동안은 신선한 결과로, 그 뒤 staleTtl 동안은 오래된 결과로 남는다.
+     * Redis 만료는 두 값을 더한 시간이다.
+     */
+    public void putDriveCourseResult(String key, DriveCourseResult result, Duration ttl, Duration staleTtl) {
+        if (result == null) {
+            return;
+        }
+        Duration freshTtl = ttl == null ? RESULT_TTL : ttl;
+        Duration hardTtl = staleTtl == null ? freshTtl : freshTtl.plus(staleTtl);
+        ResultEntry entry = new ResultEntry(result, System.currentTimeMillis() + freshTtl.toMillis());
+        writeValue(CacheRegion.RESULT, key, entry, hardTtl);
+    }
+
+    /**
+     * 오래된 결과를 다시 계산할 노드를 하나로 정한다. 락은 풀지 않고 만료되게 둔다.
+     * 갱신이 끝나면 결과가 다시 신선해지고, 실패하면 만료 전까지 재시도를 막는 역할을 한다.
+     */
+    public boolean tryLockResultRefresh(String key) {
+        return tryLock("refresh-lock:" + key, Duration.ofSeconds(Math.max(1, refreshLockSeconds)));
+    }
+
+    /**
+     * 여러 노드가 같은 시각에 캐시 예열을 시작해도 한 노드만 돌도록 한다. 락은 ttl 이 지나면 풀린다.
+     */
+    public boolean tryLockWarmup(Duration ttl) {
+        return tryLock("warmup-lock:drive-course", ttl);
+    }
+
+    private boolean tryLock(String lockKey, Duration ttl) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, "1", ttl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception ex) {
+            log.debug("Cache lock failed - key={}", lockKey, ex);
+            return false;
+        }
     }
 
     public Duration resultTtl() {
@@ -103,28 +241,249 @@ public class RecommendationCacheService {
         return Duration.ofSeconds(resultShortTtlSeconds);
     }
 
-    private <T> T readValue(String key, TypeReference<T> type) {
+    public Duration resultStaleTtl() {
+        return staleWhileRevalidate ? Duration.ofSeconds(Math.max(0, resultStaleSeconds)) : Duration.ZERO;
+    }
+
+    /**
+     * near cache 를 먼저 보고, 없으면 Redis 에서 읽어 near cache 에 채운다.
+     * 다른 노드의 갱신은 짧은 near TTL 이 지나면 반영된다. Redis 에 남은 TTL 을 같은 왕복에서 읽어
+     * near TTL 을 그 이하로 잡으므로, Redis 에서 만료된 항목을 near cache 가 계속 내어주지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readNear(String key, TypeReference<T> type) {
+        if (!nearCacheEnabled) {
+            return readValue(key, type);
+        }
+        Object local = nearCache.get(key);
+        if (local != null) {
+            return (T) local;
+        }
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        List<Object> replies;
+        try {
+            replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+                return null;
+            }, null);
+        } catch (Exception ex) {
+            log.debug("Cache read failed - key={}", key, ex);
+            return null;
+        }
+        if (replies == null || replies.size() < 2 || !(replies.get(0) instanceof byte[] payload)) {
+            return null;
+        }
+        T value = (T) immutable(decode(key, payload, type));
+        if (value != null) {
+            nearCache.put(key, value, nearTtl(remainingTtl(replies.get(1))));
+        }
+        return value;
+    }
+
+    /**
+     * near cache 의 값은 여러 요청이 같은 인스턴스를 나눠 쓰므로, 호출자가 넘긴 가변 목록 대신 읽기 전용 사본을 둔다.
+     * 목록 원소는 모두 record 라 목록만 복사하면 된다.
+     */
+    private static Object immutable(Object value) {
+        if (value instanceof RawPoiBundle bundle) {
+            return new RawPoiBundle(
+                bundle.kakaoPlaces() == null ? null : List.copyOf(bundle.kakaoPlaces()),
+                bundle.tourItems() == null ? null : List.copyOf(bundle.tourItems())
+            );
+        }
+        if (value instanceof List<?> list) {
+            return List.copyOf(list);
+        }
+        return value;
+    }
+
+    private void writeNear(CacheRegion region, String key, Object value, Duration ttl) {
+        writeValue(region, key, value, ttl);
+        if (nearCacheEnabled && value != null) {
+            nearCache.put(key, immutable(value), nearTtl(ttl));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Map<String, T> readNearAll(Collection<String> keys, TypeReference<T> type) {
+        Map<String, T> found = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return found;
+        }
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            Object local = nearCacheEnabled ? nearCache.get(key) : null;
+            if (local != null) {
+                found.put(key, (T) local);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        byte[][] rawKeys = new byte[remoteKeys.size()][];
+        for (int index = 0; index < rawKeys.length; index++) {
+            rawKeys[index] = remoteKeys.get(index).getBytes(StandardCharsets.UTF_8);
+        }
+        // near cache 에 채울 때는 키마다 남은 TTL 도 같은 왕복에서 읽는다
+        List<Object> replies;
         try {
-            String cached = redisTemplate.opsForValue().get(key);
-            if (cached == null || cached.isBlank()) {
+            replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().mGet(rawKeys);
+                if (nearCacheEnabled) {
+                    for (byte[] rawKey : rawKeys) {
+                        connection.keyCommands().pTtl(rawKey);
+                    }
+                }
                 return null;
+            }, null);
+        } catch (Exception ex) {
+            log.debug("Cache bulk read failed - keys={}", remoteKeys.size(), ex);
+            return found;
+        }
+        if (replies == null || replies.isEmpty() || !(replies.get(0) instanceof List<?> values)) {
+            return found;
+        }
+        for (int index = 0; index < remoteKeys.size() && index < values.size(); index++) {
+            if (!(values.get(index) instanceof byte[] payload)) {
+                continue;
             }
-            return objectMapper.readValue(cached, type);
+            String key = remoteKeys.get(index);
+            T value = (T) immutable(decode(key, payload, type));
+            if (value == null) {
+                continue;
+            }
+            found.put(key, value);
+            if (nearCacheEnabled) {
+                Object pttl = index + 1 < replies.size() ? replies.get(index + 1) : null;
+                nearCache.put(key, value, nearTtl(remainingTtl(pttl)));
+            }
+        }
+        return found;
+    }
+
+    private void writeNearAll(CacheRegion region, Map<String, ?> entries, Duration ttl) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        Map<byte[], byte[]> payloads = new HashMap<>();
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                byte[] payload = codec.encode(entry.getValue(), regionFormats.get(region));
+                payloads.put(entry.getKey().getBytes(StandardCharsets.UTF_8), payload);
+                payloadBytes.get(region).record(payload.length);
+            } catch (Exception ex) {
+                log.debug("Cache write failed - key={}", entry.getKey(), ex);
+            }
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(ttl);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                payloads.forEach((rawKey, payload) ->
+                    connection.stringCommands().set(rawKey, payload, expiration, SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception ex) {
+            log.debug("Cache bulk write failed - keys={}", payloads.size(), ex);
+            return;
+        }
+        if (nearCacheEnabled) {
+            entries.forEach((key, value) -> {
+                if (value != null) {
+                    nearCache.put(key, immutable(value), nearTtl(ttl));
+                }
+            });
+        }
+    }
+
+    /**
+     * PTTL 응답을 남은 시간으로 바꾼다. 만료가 없거나(-1) 키가 없으면(-2) null.
+     */
+    private static Duration remainingTtl(Object pttl) {
+        return pttl instanceof Long millis && millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    private Duration nearTtl(Duration redisTtl) {
+        Duration nearTtl = Duration.ofSeconds(Math.max(1, nearCacheTtlSeconds));
+        if (redisTtl != null && redisTtl.compareTo(nearTtl) < 0) {
+            return redisTtl;
+        }
+        return nearTtl;
+    }
+
+    private <T> T readValue(String key, TypeReference<T> type) {
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] cached = redisTemplate.execute(
+                (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey)
+            );
+            return decode(key, cached, type);
         } catch (Exception ex) {
             log.debug("Cache read failed - key={}", key, ex);
             return null;
         }
     }
 
-    private void writeValue(String key, Object value, Duration ttl) {
+    private <T> T decode(String key, byte[] payload, TypeReference<T> type) {
+        try {
+            return codec.decode(payload, type);
+        } catch (Exception ex) {
+            log.debug("Cache decode failed - key={}", key, ex);
+            return null;
+        }
+    }
+
+    private void writeValue(CacheRegion region, String key, Object value, Duration ttl) {
         if (value == null) {
             return;
         }
         try {
-            String payload = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, payload, ttl);
-        } catch (JsonProcessingException ex) {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] payload = codec.encode(value, regionFormats.get(region));
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(rawKey, payload, Expiration.from(ttl), SetOption.upsert()));
+            payloadBytes.get(region).record(payload.length);
+        } catch (Exception ex) {
             log.debug("Cache write failed - key={}", key, ex);
         }
     }
+
+    /**
+     * 결과 캐시 항목. freshUntilMillis 가 지나면 stale 이며, Redis 에서 사라질 때까지는 그대로 내어줄 수 있다.
+     */
+    public record ResultEntry(DriveCourseResult result, long freshUntilMillis) {
+
+        public boolean isStale(long nowMillis) {
+            return nowMillis >= freshUntilMillis;
+        }
+    }
+
+    /**
+     * 직렬화 형식을 따로 고를 수 있는 캐시 구역. TTL 구분과 같다.
+     */
+    private enum CacheRegion {
+        ROUTE_METRICS("route-metrics"),
+        SEARCH("search"),
+        CANDIDATE_BUNDLE("candidate-bundle"),
+        RESULT("result");
+
+        private final String tag;
+
+        CacheRegion(String tag) {
+            this.tag = tag;
+        }
+
+        String tag() {
+            return tag;
+        }
+    }
 }
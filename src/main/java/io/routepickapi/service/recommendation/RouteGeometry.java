@@ -0,0 +1,185 @@
+package io.routepickapi.service.recommendation;
+
+import io.routepickapi.dto.recommendation.GeoPoint;
+import java.util.List;
+
+/**
+ * 경로 polyline 을 한 번만 전처리해 둔 형상.
+ *
+ * <p>경로 중심 위도를 기준으로 한 평면 좌표(km)로 모든 점을 투영하고, 구간별 누적 거리를 미리 계산한다.
+ * 가장 가까운 구간은 연속 구간을 묶은 bounding box 트리에서 찾으므로, 후보마다 모든 구간을
+ * 삼각함수로 계산하지 않아도 된다.
+ */
+public final class RouteGeometry {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final RouteGeometry EMPTY = new RouteGeometry(new double[0], new double[0], new double[0], 1.0);
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] cumulativeKm;
+    private final double cosReferenceLat;
+    private final int segmentCount;
+    private final double[] minX;
+    private final double[] maxX;
+    private final double[] minY;
+    private final double[] maxY;
+
+    private RouteGeometry(double[] xs, double[] ys, double[] cumulativeKm, double cosReferenceLat) {
+        this.xs = xs;
+        this.ys = ys;
+        this.cumulativeKm = cumulativeKm;
+        this.cosReferenceLat = cosReferenceLat;
+        this.segmentCount = Math.max(0, xs.length - 1);
+        int nodes = segmentCount == 0 ? 0 : 4 * segmentCount;
+        this.minX = new double[nodes];
+        this.maxX = new double[nodes];
+        this.minY = new double[nodes];
+        this.maxY = new double[nodes];
+        if (segmentCount > 0) {
+            build(1, 0, segmentCount);
+        }
+    }
+
+    public static RouteGeometry of(List<GeoPoint> points) {
+        if (points == null || points.size() < 2) {
+            return EMPTY;
+        }
+        double minLat = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        for (GeoPoint point : points) {
+            minLat = Math.min(minLat, point.y());
+            maxLat = Math.max(maxLat, point.y());
+        }
+        double cosReferenceLat = Math.cos(Math.toRadians((minLat + maxLat) / 2.0));
+
+        int size = points.size();
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] cumulativeKm = new double[size];
+        for (int index = 0; index < size; index++) {
+            GeoPoint point = points.get(index);
+            xs[index] = projectX(point.x(), cosReferenceLat);
+            ys[index] = projectY(point.y());
+            if (index > 0) {
+                cumulativeKm[index] = cumulativeKm[index - 1]
+                    + GeoUtils.distanceKm(points.get(index - 1), point);
+            }
+        }
+        return new RouteGeometry(xs, ys, cumulativeKm, cosReferenceLat);
+    }
+
+    public double totalDistanceKm() {
+        return segmentCount == 0 ? 0.0 : cumulativeKm[cumulativeKm.length - 1];
+    }
+
+    /**
+     * 점에서 가장 가까운 구간을 찾아 경로까지의 거리와 진행률(0~1)을 함께 돌려준다.
+     * 거리가 같은 구간이 여럿이면 앞쪽 구간을 택한다.
+     */
+    public Location locate(GeoPoint point) {
+        if (segmentCount == 0 || point == null) {
+            return Location.NONE;
+        }
+        Nearest nearest = new Nearest(projectX(point.x(), cosReferenceLat), projectY(point.y()));
+        search(1, 0, segmentCount, nearest);
+
+        double distanceKm = Math.sqrt(nearest.distanceSq);
+        double totalKm = totalDistanceKm();
+        if (totalKm <= 0) {
+            return new Location(distanceKm, 0.0);
+        }
+        int segment = nearest.segment;
+        double segmentKm = cumulativeKm[segment + 1] - cumulativeKm[segment];
+        double traveledKm = cumulativeKm[segment] + segmentKm * nearest.ratio;
+        return new Location(distanceKm, Math.max(0.0, Math.min(1.0, traveledKm / totalKm)));
+    }
+
+    private void build(int node, int from, int to) {
+        if (to - from == 1) {
+            minX[node] = Math.min(xs[from], xs[from + 1]);
+            maxX[node] = Math.max(xs[from], xs[from + 1]);
+            minY[node] = Math.min(ys[from], ys[from + 1]);
+            maxY[node] = Math.max(ys[from], ys[from + 1]);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        build(node * 2, from, middle);
+        build(node * 2 + 1, middle, to);
+        minX[node] = Math.min(minX[node * 2], minX[node * 2 + 1]);
+        maxX[node] = Math.max(maxX[node * 2], maxX[node * 2 + 1]);
+        minY[node] = Math.min(minY[node * 2], minY[node * 2 + 1]);
+        maxY[node] = Math.max(maxY[node * 2], maxY[node * 2 + 1]);
+    }
+
+    private void search(int node, int from, int to, Nearest nearest) {
+        if (boxDistanceSq(node, nearest.x, nearest.y) > nearest.distanceSq) {
+            return;
+        }
+        if (to - from == 1) {
+            nearest.offer(from, xs[from], ys[from], xs[from + 1], ys[from + 1]);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int left = node * 2;
+        int right = node * 2 + 1;
+        if (boxDistanceSq(right, nearest.x, nearest.y) < boxDistanceSq(left, nearest.x, nearest.y)) {
+            search(right, middle, to, nearest);
+            search(left, from, middle, nearest);
+        } else {
+            search(left, from, middle, nearest);
+            search(right, middle, to, nearest);
+        }
+    }
+
+    private double boxDistanceSq(int node, double x, double y) {
+        double dx = Math.max(0.0, Math.max(minX[node] - x, x - maxX[node]));
+        double dy = Math.max(0.0, Math.max(minY[node] - y, y - maxY[node]));
+        return dx * dx + dy * dy;
+    }
+
+    private static double projectX(double lng, double cosReferenceLat) {
+        return Math.toRadians(lng) * cosReferenceLat * EARTH_RADIUS_KM;
+    }
+
+    private static double projectY(double lat) {
+        return Math.toRadians(lat) * EARTH_RADIUS_KM;
+    }
+
+    /**
+     * 경로까지의 거리(km)와 가장 가까운 지점의 진행률.
+     */
+    public record Location(double distanceKm, double progressRatio) {
+
+        static final Location NONE = new Location(0.0, 0.0);
+    }
+
+    private static final class Nearest {
+        private final double x;
+        private final double y;
+        private double distanceSq = Double.MAX_VALUE;
+        private int segment = -1;
+        private double ratio;
+
+        private Nearest(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        private void offer(int index, double startX, double startY, double endX, double endY) {
+            double dx = endX - startX;
+            double dy = endY - startY;
+            double lengthSq = dx * dx + dy * dy;
+            double t = lengthSq <= 0 ? 0.0 : ((x - startX) * dx + (y - startY) * dy) / lengthSq;
+            t = Math.max(0.0, Math.min(1.0, t));
+            double px = startX + t * dx - x;
+            double py = startY + t * dy - y;
+            double candidate = px * px + py * py;
+            if (candidate < distanceSq || (candidate == distanceSq && index < segment)) {
+                distanceSq = candidate;
+                segment = index;
+                ratio = t;
+            }
+        }
+    }
+}
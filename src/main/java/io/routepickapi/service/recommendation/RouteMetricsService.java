@@ -6,6 +6,7 @@ import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient;
 import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.SegmentResult;
 import io.routepickapi.infrastructure.client.routing.dto.Coordinate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +65,18 @@ public class RouteMetricsService {
         GeoPoint origin,
         GeoPoint destination,
         List<CandidatePlace> stops
+    ) {
+        return calculateMetrics(origin, destination, stops, null);
+    }
+
+    /**
+     * 라우팅 실패 시 쓰는 직선 거리를 {@code distances} 에서 읽는다. 라우팅/캐시 동작은 같다.
+     */
+    public RouteLegMetrics calculateMetrics(
+        GeoPoint origin,
+        GeoPoint destination,
+        List<CandidatePlace> stops,
+        CandidateDistanceMatrix distances
     ) {
         String cacheKey = buildCacheKey(origin, destination, stops);
         RouteLegMetrics cached = cacheService.getRouteMetrics(cacheKey);
@@ -80,6 +93,7 @@ public class RouteMetricsService {
             }
         }
         legs.add(destination);
+        double[] straightLegsKm = distances == null ? null : distances.legDistancesKm(stops);
 
         double distanceKm = 0.0;
         double durationMinutes = 0.0;
@@ -87,9 +101,10 @@ public class RouteMetricsService {
         for (int index = 1; index < legs.size(); index++) {
             GeoPoint from = legs.get(index - 1);
             GeoPoint to = legs.get(index);
-            RouteLegMetrics segment = fetchSegmentMetrics(from, to);
+            double straightKm = straightLegsKm == null ? Double.NaN : straightLegsKm[index - 1];
+            RouteLegMetrics segment = fetchSegmentMetrics(from, to, straightKm);
             if (segment == null) {
-                RouteLegMetrics result = fallbackMetrics(origin, destination, stops, false);
+                RouteLegMetrics result = fallbackMetrics(origin, destination, stops, false, straightLegsKm);
                 log.info("Route metrics routing blocked - key={}", cacheKey);
                 cacheService.putRouteMetrics(cacheKey, result);
                 return result;
@@ -100,7 +115,7 @@ public class RouteMetricsService {
         }
 
         if (distanceKm <= 0 && durationMinutes <= 0) {
-            RouteLegMetrics result = fallbackMetrics(origin, destination, stops, false);
+            RouteLegMetrics result = fallbackMetrics(origin, destination, stops, false, straightLegsKm);
             log.info("Route metrics routing fallback - key={}", cacheKey);
             cacheService.putRouteMetrics(cacheKey, result);
             return result;
@@ -116,8 +131,13 @@ public class RouteMetricsService {
         GeoPoint origin,
         GeoPoint destination,
         List<CandidatePlace> stops,
-        boolean routingSuccess
+        boolean routingSuccess,
+        double[] straightLegsKm
     ) {
+        if (straightLegsKm != null && Arrays.stream(straightLegsKm).noneMatch(Double::isNaN)) {
+            double distanceKm = Arrays.stream(straightLegsKm).sum();
+            return new RouteLegMetrics(distanceKm, GeoUtils.estimateMinutes(distanceKm), routingSuccess);
+        }
         double distanceKm = 0.0;
         GeoPoint previous = origin;
         if (stops != null) {
@@ -131,7 +151,7 @@ public class RouteMetricsService {
         return new RouteLegMetrics(distanceKm, GeoUtils.estimateMinutes(distanceKm), routingSuccess);
     }
 
-    private RouteLegMetrics fetchSegmentMetrics(GeoPoint origin, GeoPoint destination) {
+    private RouteLegMetrics fetchSegmentMetrics(GeoPoint origin, GeoPoint destination, double straightKm) {
         String segmentKey = buildSegmentCacheKey(origin, destination);
         RouteLegMetrics cached = cacheService.getRouteMetrics(segmentKey);
         if (cached != null) {
@@ -147,7 +167,7 @@ public class RouteMetricsService {
             );
         } catch (Exception ex) {
             log.debug("Routing segment fallback", ex);
-            RouteLegMetrics fallback = fallbackSegmentMetrics(origin, destination, false);
+            RouteLegMetrics fallback = fallbackSegmentMetrics(origin, destination, false, straightKm);
             cacheService.putRouteMetrics(segmentKey, fallback);
             return null;
         }
@@ -155,7 +175,7 @@ public class RouteMetricsService {
             return null;
         }
         if (result.isBlocked()) {
-            RouteLegMetrics fallback = fallbackSegmentMetrics(origin, destination, false);
+            RouteLegMetrics fallback = fallbackSegmentMetrics(origin, destination, false, straightKm);
             cacheService.putRouteMetrics(segmentKey, fallback);
             return null;
         }
@@ -163,7 +183,7 @@ public class RouteMetricsService {
         if (result.routingSuccess() && (result.distanceKm() > 0 || result.durationMinutes() > 0)) {
             metrics = new RouteLegMetrics(result.distanceKm(), result.durationMinutes(), true);
         } else {
-            metrics = fallbackSegmentMetrics(origin, destination, false);
+            metrics = fallbackSegmentMetrics(origin, destination, false, straightKm);
         }
         cacheService.putRouteMetrics(segmentKey, metrics);
         return metrics;
@@ -172,9 +192,10 @@ public class RouteMetricsService {
     private RouteLegMetrics fallbackSegmentMetrics(
         GeoPoint origin,
         GeoPoint destination,
-        boolean routingSuccess
+        boolean routingSuccess,
+        double straightKm
     ) {
-        double distanceKm = GeoUtils.distanceKm(origin, destination);
+        double distanceKm = Double.isNaN(straightKm) ? GeoUtils.distanceKm(origin, destination) : straightKm;
         return new RouteLegMetrics(distanceKm, GeoUtils.estimateMinutes(distanceKm), routingSuccess);
     }
 
@@ -2,58 +2,50 @@ package io.routepickapi.service.recommendation;
 
 import io.routepickapi.dto.recommendation.GeoPoint;
 import java.util.List;
+import java.util.Objects;
 
-public record RoutePath(List<GeoPoint> points, boolean routingBased) {
+/**
+ * 경로 polyline. 거리/진행률 계산용 {@link RouteGeometry} 는 처음 쓸 때 한 번만 만들어 둔다.
+ *
+ * <p>형상은 좌표에서만 만들어지므로 equals/hashCode 에는 넣지 않는다. 동시에 처음 불리면 두 번 만들 수 있지만
+ * 결과가 같으므로 잠그지 않는다.
+ */
+public final class RoutePath {
+
+    private final List<GeoPoint> points;
+    private final boolean routingBased;
+    private volatile RouteGeometry geometry;
+
+    public RoutePath(List<GeoPoint> points, boolean routingBased) {
+        this.points = points == null ? List.of() : List.copyOf(points);
+        this.routingBased = routingBased;
+    }
+
+    public List<GeoPoint> points() {
+        return points;
+    }
+
+    public boolean routingBased() {
+        return routingBased;
+    }
 
     public double totalDistanceKm() {
-        if (points == null || points.size() < 2) {
-            return 0.0;
-        }
-        double total = 0.0;
-        for (int index = 1; index < points.size(); index++) {
-            total += GeoUtils.distanceKm(points.get(index - 1), points.get(index));
-        }
-        return total;
+        return geometry().totalDistanceKm();
     }
 
     public double distanceToPathKm(GeoPoint point) {
-        if (points == null || points.size() < 2 || point == null) {
-            return 0.0;
-        }
-        double minDistance = Double.MAX_VALUE;
-        for (int index = 1; index < points.size(); index++) {
-            double distance = GeoUtils.distancePointToSegmentKm(points.get(index - 1), points.get(index), point);
-            minDistance = Math.min(minDistance, distance);
-        }
-        return minDistance == Double.MAX_VALUE ? 0.0 : minDistance;
+        return geometry().locate(point).distanceKm();
     }
 
     public double progressRatio(GeoPoint point) {
-        if (points == null || points.size() < 2 || point == null) {
-            return 0.0;
-        }
-
-        double totalDistance = totalDistanceKm();
-        if (totalDistance <= 0) {
-            return 0.0;
-        }
+        return geometry().locate(point).progressRatio();
+    }
 
-        double traveled = 0.0;
-        double bestDistance = Double.MAX_VALUE;
-        double bestProgress = 0.0;
-        for (int index = 1; index < points.size(); index++) {
-            GeoPoint start = points.get(index - 1);
-            GeoPoint end = points.get(index);
-            double segmentLength = GeoUtils.distanceKm(start, end);
-            double ratio = projectionRatio(start, end, point);
-            double distanceToSegment = GeoUtils.distancePointToSegmentKm(start, end, point);
-            if (distanceToSegment < bestDistance) {
-                bestDistance = distanceToSegment;
-                bestProgress = traveled + segmentLength * ratio;
-            }
-            traveled += segmentLength;
-        }
-        return Math.max(0.0, Math.min(1.0, bestProgress / totalDistance));
+    /**
+     * 거리와 진행률이 모두 필요할 때 가장 가까운 구간을 한 번만 찾는다.
+     */
+    public RouteGeometry.Location locate(GeoPoint point) {
+        return geometry().locate(point);
     }
 
     public int segmentIndex(double ratio) {
@@ -66,21 +58,33 @@ public record RoutePath(List<GeoPoint> points, boolean routingBased) {
         return 2;
     }
 
-    private double projectionRatio(GeoPoint start, GeoPoint end, GeoPoint point) {
-        double avgLat = Math.toRadians((start.y() + end.y() + point.y()) / 3.0);
-        double startX = start.x() * Math.cos(avgLat);
-        double startY = start.y();
-        double endX = end.x() * Math.cos(avgLat);
-        double endY = end.y();
-        double pointX = point.x() * Math.cos(avgLat);
-        double pointY = point.y();
-        double dx = endX - startX;
-        double dy = endY - startY;
-        double denom = dx * dx + dy * dy;
-        if (denom <= 0) {
-            return 0.0;
+    private RouteGeometry geometry() {
+        RouteGeometry built = geometry;
+        if (built == null) {
+            built = RouteGeometry.of(points);
+            geometry = built;
+        }
+        return built;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RoutePath path)) {
+            return false;
         }
-        double t = ((pointX - startX) * dx + (pointY - startY) * dy) / denom;
-        return Math.max(0.0, Math.min(1.0, t));
+        return routingBased == path.routingBased && points.equals(path.points);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(points, routingBased);
+    }
+
+    @Override
+    public String toString() {
+        return "RoutePath[points=" + points + ", routingBased=" + routingBased + "]";
     }
 }
@@ -0,0 +1,43 @@
+package io.routepickapi.service.recommendation;
+
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
+import io.routepickapi.infrastructure.client.tour.dto.TourItem;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 단위 검색 캐시. cached 는 prefetch 에서 hit 된 값, fetched 는 새로 받아 요청 끝에 한 번에 쓸 값이다.
+ * incomplete 는 시간 초과나 실패로 결과를 받지 못한 검색이 하나라도 있었는지를 남긴다.
+ * 병렬 수집에서도 쓰므로 fetched 는 동시 쓰기가 가능한 map 이다.
+ */
+public record SearchCacheBatch(
+    Map<String, List<KakaoPlaceDocument>> cachedKakao,
+    Map<String, List<TourItem>> cachedTour,
+    Map<String, List<KakaoPlaceDocument>> fetchedKakao,
+    Map<String, List<TourItem>> fetchedTour,
+    AtomicBoolean incomplete
+) {
+
+    public static SearchCacheBatch prefetched(
+        Map<String, List<KakaoPlaceDocument>> cachedKakao,
+        Map<String, List<TourItem>> cachedTour
+    ) {
+        return new SearchCacheBatch(
+            cachedKakao,
+            cachedTour,
+            new ConcurrentHashMap<>(),
+            new ConcurrentHashMap<>(),
+            new AtomicBoolean()
+        );
+    }
+
+    public void markIncomplete() {
+        incomplete.set(true);
+    }
+
+    public boolean complete() {
+        return !incomplete.get();
+    }
+}
@@ -0,0 +1,25 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+/**
+ * 코스 총 소요 시간의 최종 상한. 결과 컷과 코스 탐색의 가지치기가 같은 값을 써야
+ * 탐색에서 버린 조합이 최종 컷을 통과할 수 있는 일이 생기지 않는다.
+ */
+final class CourseDurationLimit {
+
+    private CourseDurationLimit() {
+    }
+
+    /**
+     * 목표 시간 + max(40분, 60%).
+     */
+    static long finalMaxMinutes(int durationMinutes) {
+        return durationMinutes + Math.max(40, Math.round(durationMinutes * 0.6f));
+    }
+
+    /**
+     * 최종 상한을 통과한 코스가 없을 때 쓰는 완화된 상한. 최종 상한 + min(20분, 30%).
+     */
+    static long fallbackMaxMinutes(int durationMinutes) {
+        return finalMaxMinutes(durationMinutes) + Math.min(20, Math.round(durationMinutes * 0.3f));
+    }
+}
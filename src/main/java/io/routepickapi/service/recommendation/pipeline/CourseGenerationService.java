@@ -1,17 +1,31 @@
 package io.routepickapi.service.recommendation.pipeline;
 
 import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.GeoUtils;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 후보 POI 로 코스 조합(정차지 묶음)을 만든다.
+ *
+ * <p>모든 조합을 나열하는 대신 점수 상한과 예상 소요 시간 하한으로 가지를 치는 branch-and-bound 로
+ * 가장 점수가 높은 조합을 하나씩 찾고, 이미 고른 코스와 겹치는 조합은 탐색 중에 바로 잘라낸다.
+ * 고정 경유지는 받은 순서대로 맨 앞에 두고, 나머지 정차지만 출발지→도착지 진행 방향으로 정렬한다.
+ * 좌표가 없으면 후보 점수 순서를 따른다.
+ */
 @Slf4j
 @Component
 public class CourseGenerationService {
@@ -23,12 +37,30 @@ public class CourseGenerationService {
     private static final int MAX_CANDIDATES_PER_TYPE = 8;
     private static final Set<String> SOURCE_TAGS = Set.of("osm", "kakao", "tourapi");
     private static final double SIMILARITY_THRESHOLD = 0.6;
+    private static final double MIN_ROUTE_LENGTH_SQ = 1e-12;
+    // 최종 컷은 실제 경로 시간을 쓰므로 고속도로 구간보다 느리게 잡으면 하한이 깨진다.
+    private static final double OPTIMISTIC_SPEED_KMH = 100.0;
 
     public List<CoursePlan> generate(List<Poi> pois, int maxStops, int limit) {
         return generate(pois, List.of(), maxStops, limit);
     }
 
     public List<CoursePlan> generate(List<Poi> pois, List<Poi> includeStops, int maxStops, int limit) {
+        return generate(pois, includeStops, maxStops, limit, SearchSpec.NONE);
+    }
+
+    /**
+     * 출발/도착 좌표와 목표 소요 시간을 알면 최종 시간 기준을 넘길 조합은 만들지 않는다.
+     * 시간 기준을 만족하는 조합이 하나도 없으면 기준 없이 다시 찾는다.
+     */
+    public List<CoursePlan> generate(
+        List<Poi> pois,
+        List<Poi> includeStops,
+        int maxStops,
+        int limit,
+        SearchSpec spec
+    ) {
+        SearchSpec safeSpec = spec == null ? SearchSpec.NONE : spec;
         int safeLimit = limit > 0 ? limit : DEFAULT_LIMIT;
         int safeMaxStops = Math.max(MIN_STOPS, Math.min(maxStops, MAX_STOPS));
         List<Poi> fixedStops = normalizeFixedStops(includeStops);
@@ -36,268 +68,68 @@ public class CourseGenerationService {
             safeMaxStops = Math.max(safeMaxStops, Math.min(MAX_STOPS, fixedStops.size()));
         }
 
-        List<Poi> candidates = pois == null ? List.of() : buildDiverseCandidates(pois);
-        if (fixedStops.isEmpty()) {
-            if (candidates.isEmpty()) {
-                return List.of();
-            }
-            return generateWithCandidates(candidates, safeMaxStops, safeLimit);
-        }
-
-        return generateWithFixedStops(candidates, fixedStops, safeMaxStops, safeLimit);
-    }
-
-    private List<CoursePlan> generateWithCandidates(List<Poi> candidates, int safeMaxStops, int safeLimit) {
-        if (candidates == null || candidates.isEmpty()) {
+        ToDoubleFunction<Poi> scorer = safeSpec.scorer() == null ? this::baseScore : safeSpec.scorer();
+        List<Poi> candidates = pois == null ? List.of() : buildDiverseCandidates(pois, scorer);
+        if (fixedStops.isEmpty() && candidates.isEmpty()) {
             return List.of();
         }
-
-        List<CoursePlan> plans = new ArrayList<>();
-        Map<Integer, Integer> generatedByStops = new LinkedHashMap<>();
-        Map<String, Integer> firstStopCounts = new LinkedHashMap<>();
-
-        for (int stopCount = safeMaxStops; stopCount >= MIN_STOPS; stopCount--) {
-            int before = plans.size();
-            buildDiverseCombinations(candidates, stopCount, plans, safeLimit, firstStopCounts);
-            int added = plans.size() - before;
-            generatedByStops.put(stopCount, added);
-            if (plans.size() >= safeLimit) {
-                break;
-            }
-        }
-
-        int uniqueFirstStops = (int) plans.stream()
-            .map(plan -> firstStopKey(plan.stops().getFirst()))
-            .filter(key -> key != null && !key.isBlank())
-            .distinct()
-            .count();
-        log.info(
-            "코스 조합 생성 완료 - count={}, uniqueFirstStops={}, stop2={}, stop3={}, requestedMaxStops={}",
-            plans.size(),
-            uniqueFirstStops,
-            generatedByStops.getOrDefault(2, 0),
-            generatedByStops.getOrDefault(3, 0),
-            safeMaxStops
-        );
-        return plans;
-    }
-
-    private List<CoursePlan> generateWithFixedStops(
-        List<Poi> candidates,
-        List<Poi> fixedStops,
-        int safeMaxStops,
-        int safeLimit
-    ) {
-        List<CoursePlan> plans = new ArrayList<>();
-        Set<String> fixedKeys = fixedStops.stream()
-            .map(this::stopKey)
-            .collect(Collectors.toSet());
-        List<Poi> filteredCandidates = candidates == null
-            ? List.of()
-            : candidates.stream()
+        if (!fixedStops.isEmpty()) {
+            Set<String> fixedKeys = fixedStops.stream()
+                .map(this::stopKey)
+                .collect(Collectors.toSet());
+            candidates = candidates.stream()
                 .filter(poi -> !fixedKeys.contains(stopKey(poi)))
                 .toList();
-
-        int fixedCount = fixedStops.size();
-        for (int stopCount = safeMaxStops; stopCount >= MIN_STOPS; stopCount--) {
-            if (stopCount < fixedCount) {
-                continue;
-            }
-            int requiredAdditional = stopCount - fixedCount;
-            if (requiredAdditional == 0) {
-                List<Poi> combined = List.copyOf(fixedStops);
-                if (!isTooSimilar(combined, plans)) {
-                    plans.add(new CoursePlan(combined));
-                }
-            } else if (!filteredCandidates.isEmpty()) {
-                buildCombinationsWithFixedStops(
-                    filteredCandidates,
-                    requiredAdditional,
-                    0,
-                    new ArrayList<>(),
-                    fixedStops,
-                    plans,
-                    safeLimit
-                );
-            }
-
-            if (plans.size() >= safeLimit) {
-                break;
-            }
-        }
-
-        log.info(
-            "고정 경유지 포함 코스 생성 완료 - count={}, fixedStops={}, maxStops={}",
-            plans.size(),
-            fixedStops.size(),
-            safeMaxStops
-        );
-        return plans;
-    }
-
-    private void buildDiverseCombinations(
-        List<Poi> candidates,
-        int targetSize,
-        List<CoursePlan> results,
-        int limit,
-        Map<String, Integer> firstStopCounts
-    ) {
-        if (results.size() >= limit) {
-            return;
-        }
-
-        List<Poi> firstStops = buildFirstStopCandidates(candidates);
-        int remainingLimit = Math.max(1, limit - results.size());
-        int perFirstStopLimit = Math.max(1, remainingLimit / Math.max(1, firstStops.size()));
-
-        for (Poi firstStop : firstStops) {
-            if (results.size() >= limit) {
-                return;
-            }
-            String firstKey = firstStopKey(firstStop);
-            List<Poi> remaining = candidates.stream()
-                .filter(poi -> !firstKey.equals(firstStopKey(poi)))
-                .toList();
-            List<Poi> current = new ArrayList<>();
-            current.add(firstStop);
-            buildCombinationsWithCap(
-                remaining,
-                targetSize,
-                0,
-                current,
-                results,
-                limit,
-                firstKey,
-                firstStopCounts,
-                perFirstStopLimit
-            );
         }
 
-        if (results.size() < limit) {
-            buildCombinations(candidates, targetSize, 0, new ArrayList<>(), results, limit);
-        }
-    }
-
-    private void buildCombinationsWithCap(
-        List<Poi> candidates,
-        int targetSize,
-        int startIndex,
-        List<Poi> current,
-        List<CoursePlan> results,
-        int limit,
-        String firstStopKey,
-        Map<String, Integer> firstStopCounts,
-        int perFirstStopLimit
-    ) {
-        if (results.size() >= limit) {
-            return;
-        }
-        int currentCount = firstStopCounts.getOrDefault(firstStopKey, 0);
-        if (currentCount >= perFirstStopLimit) {
-            return;
-        }
-        if (current.size() == targetSize) {
-            if (!isTooSimilar(current, results)) {
-                results.add(new CoursePlan(List.copyOf(current)));
-                firstStopCounts.put(firstStopKey, currentCount + 1);
-            }
-            return;
+        Search search = new Search(candidates, fixedStops, scorer, safeSpec);
+        Map<Integer, Integer> generatedByStops = new LinkedHashMap<>();
+        List<CoursePlan> plans = search.run(safeMaxStops, safeLimit, generatedByStops);
+        boolean durationRelaxed = false;
+        if (plans.isEmpty() && search.durationBounded()) {
+            search = new Search(candidates, fixedStops, scorer, safeSpec.withoutDuration());
+            generatedByStops.clear();
+            plans = search.run(safeMaxStops, safeLimit, generatedByStops);
+            durationRelaxed = true;
         }
 
-        for (int index = startIndex; index < candidates.size(); index++) {
-            if (results.size() >= limit) {
-                return;
-            }
-            current.add(candidates.get(index));
-            buildCombinationsWithCap(
-                candidates,
-                targetSize,
-                index + 1,
-                current,
-                results,
-                limit,
-                firstStopKey,
-                firstStopCounts,
-                perFirstStopLimit
+        if (fixedStops.isEmpty()) {
+            int uniqueFirstStops = (int) plans.stream()
+                .map(plan -> firstStopKey(plan.stops().getFirst()))
+                .filter(key -> key != null && !key.isBlank())
+                .distinct()
+                .count();
+            log.info(
+                "코스 조합 생성 완료 - count={}, uniqueFirstStops={}, stop2={}, stop3={}, requestedMaxStops={}, searchNodes={}, durationRelaxed={}",
+                plans.size(),
+                uniqueFirstStops,
+                generatedByStops.getOrDefault(2, 0),
+                generatedByStops.getOrDefault(3, 0),
+                safeMaxStops,
+                search.visitedNodes(),
+                durationRelaxed
             );
-            current.remove(current.size() - 1);
-        }
-    }
-
-    private void buildCombinations(
-        List<Poi> candidates,
-        int targetSize,
-        int startIndex,
-        List<Poi> current,
-        List<CoursePlan> results,
-        int limit
-    ) {
-        if (results.size() >= limit) {
-            return;
-        }
-        if (current.size() == targetSize) {
-            if (!isTooSimilar(current, results)) {
-                results.add(new CoursePlan(List.copyOf(current)));
-            }
-            return;
-        }
-
-        for (int index = startIndex; index < candidates.size(); index++) {
-            if (results.size() >= limit) {
-                return;
-            }
-            current.add(candidates.get(index));
-            buildCombinations(candidates, targetSize, index + 1, current, results, limit);
-            current.remove(current.size() - 1);
-        }
-    }
-
-    private void buildCombinationsWithFixedStops(
-        List<Poi> candidates,
-        int targetSize,
-        int startIndex,
-        List<Poi> current,
-        List<Poi> fixedStops,
-        List<CoursePlan> results,
-        int limit
-    ) {
-        if (results.size() >= limit) {
-            return;
-        }
-        if (current.size() == targetSize) {
-            List<Poi> combined = new ArrayList<>(fixedStops);
-            combined.addAll(current);
-            if (!isTooSimilar(combined, results)) {
-                results.add(new CoursePlan(List.copyOf(combined)));
-            }
-            return;
-        }
-
-        for (int index = startIndex; index < candidates.size(); index++) {
-            if (results.size() >= limit) {
-                return;
-            }
-            current.add(candidates.get(index));
-            buildCombinationsWithFixedStops(
-                candidates,
-                targetSize,
-                index + 1,
-                current,
-                fixedStops,
-                results,
-                limit
+        } else {
+            log.info(
+                "고정 경유지 포함 코스 생성 완료 - count={}, fixedStops={}, maxStops={}, searchNodes={}, durationRelaxed={}",
+                plans.size(),
+                fixedStops.size(),
+                safeMaxStops,
+                search.visitedNodes(),
+                durationRelaxed
             );
-            current.remove(current.size() - 1);
         }
+        return plans;
     }
 
     private double baseScore(Poi poi) {
         return poi.viewScore() + poi.driveSuitability();
     }
 
-    private List<Poi> buildDiverseCandidates(List<Poi> pois) {
+    private List<Poi> buildDiverseCandidates(List<Poi> pois, ToDoubleFunction<Poi> scorer) {
         List<Poi> sorted = pois.stream()
-            .sorted(Comparator.comparingDouble(this::baseScore).reversed())
+            .filter(poi -> poi != null)
+            .sorted(Comparator.comparingDouble(scorer).reversed())
             .toList();
 
         Map<String, List<Poi>> grouped = sorted.stream()
@@ -337,22 +169,6 @@ public class CourseGenerationService {
         return "unknown";
     }
 
-    private List<Poi> buildFirstStopCandidates(List<Poi> candidates) {
-        if (candidates == null || candidates.isEmpty()) {
-            return List.of();
-        }
-        List<Poi> unique = new ArrayList<>();
-        Set<String> seen = new java.util.LinkedHashSet<>();
-        for (Poi poi : candidates) {
-            String key = firstStopKey(poi);
-            if (key.isBlank() || !seen.add(key)) {
-                continue;
-            }
-            unique.add(poi);
-        }
-        return unique;
-    }
-
     private List<Poi> normalizeFixedStops(List<Poi> includeStops) {
         if (includeStops == null || includeStops.isEmpty()) {
             return List.of();
@@ -394,39 +210,356 @@ public class CourseGenerationService {
         return name + ":" + latKey + ":" + lngKey;
     }
 
-    private boolean isTooSimilar(List<Poi> candidate, List<CoursePlan> existing) {
-        if (existing == null || existing.isEmpty()) {
-            return false;
+    static long optimisticMinutes(double distanceKm) {
+        return (long) Math.floor(distanceKm / OPTIMISTIC_SPEED_KMH * 60.0);
+    }
+
+    /**
+     * 코스 탐색 조건. {@code scorer} 는 후보 점수(보통 {@link PoiScoringService.ScoredPoi#totalScore()})이며,
+     * 없으면 POI 자체의 view/drive 점수를 쓴다. 좌표나 목표 시간이 없으면 해당 가지치기를 하지 않는다.
+     */
+    public record SearchSpec(
+        GeoPoint origin,
+        GeoPoint destination,
+        Integer durationMinutes,
+        ToDoubleFunction<Poi> scorer
+    ) {
+
+        public static final SearchSpec NONE = new SearchSpec(null, null, null, null);
+
+        /**
+         * 필터 단계의 최종 점수로 조합을 고르고, 최종 시간 컷을 넘길 조합은 미리 버리는 조건.
+         */
+        static SearchSpec forScored(
+            List<PoiScoringService.ScoredPoi> scored,
+            GeoPoint origin,
+            GeoPoint destination,
+            Integer durationMinutes
+        ) {
+            Map<Poi, Double> scores = new IdentityHashMap<>(scored.size() * 2);
+            for (PoiScoringService.ScoredPoi candidate : scored) {
+                scores.put(candidate.poi(), candidate.totalScore());
+            }
+            return new SearchSpec(origin, destination, durationMinutes, poi -> scores.getOrDefault(poi, 0.0));
         }
 
-        Set<String> candidateIds = candidate.stream()
-            .map(poi -> poi.source() + ":" + poi.externalId())
-            .collect(Collectors.toSet());
+        /**
+         * RecommendationFacade 의 최종 시간 컷이 마지막에 허용하는 완화된 상한.
+         */
+        long maxMinutes() {
+            if (durationMinutes == null || durationMinutes <= 0 || origin == null || destination == null) {
+                return Long.MAX_VALUE;
+            }
+            return CourseDurationLimit.fallbackMaxMinutes(durationMinutes);
+        }
 
-        int candidateSize = candidateIds.size();
-        if (candidateSize == 0) {
-            return false;
+        SearchSpec withoutDuration() {
+            return new SearchSpec(origin, destination, null, scorer);
         }
+    }
 
-        for (CoursePlan plan : existing) {
-            if (plan == null || plan.stops() == null || plan.stops().isEmpty()) {
-                continue;
+    /**
+     * 한 번의 generate 호출 동안만 쓰는 탐색 상태. 후보는 점수 내림차순으로 정렬해 두어
+     * 남은 자리를 가장 높은 후보로 채운 값을 점수 상한으로 쓸 수 있게 한다.
+     * 깊이별 정차 순서와 기존 코스와의 겹침 수를 배열에 누적해 노드마다 새로 계산하지 않는다.
+     */
+    private final class Search {
+
+        private final int candidateCount;
+        private final Poi[] pois;
+        private final String[] firstKeys;
+        private final double[] scores;
+        private final double[] scorePrefix;
+        private final double[] progress;
+        private final double[] openFirstProgress;
+        private final GeoPoint[] points;
+        private final long[] stayMinutes;
+        private final int fixedCount;
+        private final long minStayMinutes;
+        private final GeoPoint origin;
+        private final GeoPoint destination;
+        private final boolean ordered;
+        private final long maxMinutes;
+        private final int distinctFirstStops;
+
+        private final List<boolean[]> acceptedMembers = new ArrayList<>();
+        private final Map<String, Integer> firstStopCounts = new HashMap<>();
+        private long visitedNodes;
+
+        private int[] selection;
+        private int[][] orders;
+        private int[][] overlaps;
+        private double[] overlapDenominators;
+        private int[] bestSelection;
+        private double bestScore;
+        private int firstStopCap;
+
+        private Search(List<Poi> candidates, List<Poi> fixedStops, ToDoubleFunction<Poi> scorer, SearchSpec spec) {
+            List<Poi> sorted = candidates.stream()
+                .sorted(Comparator.comparingDouble(scorer).reversed())
+                .toList();
+            this.candidateCount = sorted.size();
+            this.fixedCount = fixedStops.size();
+            int total = fixedCount + candidateCount;
+            this.pois = new Poi[total];
+            this.firstKeys = new String[total];
+            this.scores = new double[total];
+            this.progress = new double[total];
+            this.points = new GeoPoint[total];
+            this.stayMinutes = new long[total];
+            this.origin = spec.origin();
+            this.destination = spec.destination();
+            this.maxMinutes = spec.maxMinutes();
+
+            // 0..fixedCount-1 은 고정 경유지, 그 뒤는 점수순 후보.
+            for (int index = 0; index < total; index++) {
+                Poi poi = index < fixedCount ? fixedStops.get(index) : sorted.get(index - fixedCount);
+                pois[index] = poi;
+                firstKeys[index] = firstStopKey(poi);
+                scores[index] = index < fixedCount ? 0.0 : Math.max(0.0, scorer.applyAsDouble(poi));
+                points[index] = new GeoPoint(poi.lng(), poi.lat());
+                stayMinutes[index] = poi.stayDuration() == null ? 0L : poi.stayDuration().toMinutes();
             }
-            Set<String> planIds = plan.stops().stream()
-                .map(poi -> poi.source() + ":" + poi.externalId())
-                .collect(Collectors.toSet());
-            int overlap = 0;
-            for (String id : candidateIds) {
-                if (planIds.contains(id)) {
-                    overlap++;
+            this.ordered = computeProgress();
+            this.openFirstProgress = new double[candidateCount + 1];
+            this.scorePrefix = new double[candidateCount + 1];
+            long minStay = Long.MAX_VALUE;
+            for (int index = 0; index < candidateCount; index++) {
+                scorePrefix[index + 1] = scorePrefix[index] + scores[fixedCount + index];
+                minStay = Math.min(minStay, stayMinutes[fixedCount + index]);
+            }
+            this.minStayMinutes = minStay == Long.MAX_VALUE ? 0L : minStay;
+            this.distinctFirstStops = (int) Arrays.stream(firstKeys, fixedCount, total)
+                .filter(key -> !key.isBlank())
+                .distinct()
+                .count();
+        }
+
+        boolean durationBounded() {
+            return maxMinutes != Long.MAX_VALUE;
+        }
+
+        long visitedNodes() {
+            return visitedNodes;
+        }
+
+        List<CoursePlan> run(int maxStops, int limit, Map<Integer, Integer> generatedByStops) {
+            List<CoursePlan> plans = new ArrayList<>();
+            // 기존 조합 방식과 같이 첫 정차지 하나가 결과를 독점하지 않도록 첫 정차지별 개수를 제한한다.
+            int perFirstStopLimit = Math.max(1, limit / Math.max(1, distinctFirstStops));
+            for (int stopCount = maxStops; stopCount >= MIN_STOPS; stopCount--) {
+                int additional = stopCount - fixedCount;
+                if (additional < 0 || additional > candidateCount) {
+                    continue;
+                }
+                int before = plans.size();
+                // 제한을 둔 탐색이 한 번 실패하면 이후 코스를 더해도 다시 성공할 수 없으므로 제한 없이만 찾는다.
+                boolean capped = fixedCount == 0;
+                while (plans.size() < limit) {
+                    int[] found = null;
+                    if (capped) {
+                        found = findBest(stopCount, perFirstStopLimit);
+                        capped = found != null;
+                    }
+                    if (found == null) {
+                        found = findBest(stopCount, Integer.MAX_VALUE);
+                    }
+                    if (found == null) {
+                        break;
+                    }
+                    plans.add(accept(found));
+                    if (additional == 0) {
+                        break;
+                    }
+                }
+                generatedByStops.put(stopCount, plans.size() - before);
+                if (plans.size() >= limit) {
+                    break;
+                }
+            }
+            return plans;
+        }
+
+        /**
+         * 점수 합이 가장 큰 조합의 정차 순서. 기존 코스와 겹치거나 시간 상한을 넘는 조합은 제외한다.
+         */
+        private int[] findBest(int stopCount, int firstStopCap) {
+            this.bestSelection = null;
+            this.bestScore = -1.0;
+            this.firstStopCap = firstStopCap;
+            if (firstStopCap != Integer.MAX_VALUE) {
+                // 뒤쪽 후보 중 아직 첫 정차지로 쓸 수 있는 것의 최소 진행률.
+                openFirstProgress[candidateCount] = Double.POSITIVE_INFINITY;
+                for (int index = candidateCount - 1; index >= 0; index--) {
+                    int stop = fixedCount + index;
+                    double open = firstStopCounts.getOrDefault(firstKeys[stop], 0) < firstStopCap
+                        ? progress[stop]
+                        : Double.POSITIVE_INFINITY;
+                    openFirstProgress[index] = Math.min(openFirstProgress[index + 1], open);
+                }
+            }
+            this.selection = new int[stopCount];
+            this.orders = new int[stopCount + 1][stopCount];
+            this.overlaps = new int[stopCount + 1][acceptedMembers.size()];
+            this.overlapDenominators = new double[acceptedMembers.size()];
+            for (int plan = 0; plan < acceptedMembers.size(); plan++) {
+                overlapDenominators[plan] = Math.min(stopCount, countMembers(acceptedMembers.get(plan)));
+            }
+            for (int depth = 0; depth < fixedCount; depth++) {
+                if (!push(depth, depth)) {
+                    return null;
+                }
+            }
+            branch(fixedCount, 0, 0.0);
+            return bestSelection;
+        }
+
+        private void branch(int depth, int start, double score) {
+            visitedNodes++;
+            if (exceedsDuration(depth, selection.length - depth) || firstStopExhausted(depth, start)) {
+                return;
+            }
+            if (depth == selection.length) {
+                offer(depth, score);
+                return;
+            }
+            int remaining = selection.length - depth;
+            for (int index = start; index <= candidateCount - remaining; index++) {
+                double upperBound = score + scorePrefix[index + remaining] - scorePrefix[index];
+                if (upperBound <= bestScore) {
+                    // 후보가 점수 내림차순이므로 뒤쪽 시작점의 상한은 더 낮다.
+                    return;
+                }
+                int stop = fixedCount + index;
+                if (push(depth, stop)) {
+                    branch(depth + 1, index + 1, score + scores[stop]);
                 }
             }
-            double ratio = overlap / (double) Math.min(candidateSize, planIds.size());
-            if (ratio >= SIMILARITY_THRESHOLD) {
-                return true;
+        }
+
+        /**
+         * depth 자리에 stop 을 놓고 순서/겹침 누적을 갱신한다. 이미 고른 코스와의 겹침은 정차지를 더할수록
+         * 늘기만 하므로 여기서 기준을 넘으면 이 가지 전체를 버린다.
+         */
+        private boolean push(int depth, int stop) {
+            selection[depth] = stop;
+            int[] previousOverlap = overlaps[depth];
+            int[] nextOverlap = overlaps[depth + 1];
+            for (int plan = 0; plan < nextOverlap.length; plan++) {
+                int overlap = previousOverlap[plan] + (acceptedMembers.get(plan)[stop] ? 1 : 0);
+                if (overlap / overlapDenominators[plan] >= SIMILARITY_THRESHOLD) {
+                    return false;
+                }
+                nextOverlap[plan] = overlap;
             }
+
+            int[] previousOrder = orders[depth];
+            int[] nextOrder = orders[depth + 1];
+            int cursor = depth;
+            // 고정 경유지 자리는 건드리지 않고, 진행률이 같으면 먼저 고른 정차지를 앞에 둔다.
+            while (cursor > fixedCount && ordered && progress[previousOrder[cursor - 1]] > progress[stop]) {
+                nextOrder[cursor] = previousOrder[cursor - 1];
+                cursor--;
+            }
+            nextOrder[cursor] = stop;
+            System.arraycopy(previousOrder, 0, nextOrder, 0, cursor);
+            return true;
         }
 
-        return false;
+        private void offer(int depth, double score) {
+            if (score <= bestScore) {
+                return;
+            }
+            int[] order = orders[depth];
+            if (firstStopCap != Integer.MAX_VALUE
+                && firstStopCounts.getOrDefault(firstKeys[order[0]], 0) >= firstStopCap) {
+                return;
+            }
+            bestScore = score;
+            bestSelection = Arrays.copyOf(order, depth);
+        }
+
+        /**
+         * 지금 맨 앞 정차지가 이미 제한만큼 쓰였고, 남은 후보 중 그보다 앞에 오면서 제한에 걸리지 않은
+         * 정차지가 없으면 가지를 버린다.
+         */
+        private boolean firstStopExhausted(int depth, int start) {
+            if (firstStopCap == Integer.MAX_VALUE || depth == 0) {
+                return false;
+            }
+            int first = orders[depth][0];
+            if (firstStopCounts.getOrDefault(firstKeys[first], 0) < firstStopCap) {
+                return false;
+            }
+            return !ordered || openFirstProgress[start] >= progress[first];
+        }
+
+        private CoursePlan accept(int[] order) {
+            boolean[] members = new boolean[pois.length];
+            List<Poi> stops = new ArrayList<>(order.length);
+            for (int index : order) {
+                stops.add(pois[index]);
+                members[index] = true;
+            }
+            acceptedMembers.add(members);
+            firstStopCounts.merge(firstKeys[order[0]], 1, Integer::sum);
+            return new CoursePlan(List.copyOf(stops));
+        }
+
+        private int countMembers(boolean[] members) {
+            int count = 0;
+            for (boolean member : members) {
+                if (member) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 진행 순서대로 방문하는 경로에서 정차지를 빼면 거리가 줄어들 뿐이므로(삼각 부등식),
+         * 부분 조합의 직선 거리를 최고 속도로 환산한 시간에 남은 자리의 최소 체류 시간을 더한 값은
+         * 완성된 코스의 실제 경로 시간보다 길 수 없다.
+         */
+        private boolean exceedsDuration(int depth, int remaining) {
+            if (maxMinutes == Long.MAX_VALUE || depth == 0) {
+                return false;
+            }
+            int[] order = orders[depth];
+            double distanceKm = 0.0;
+            long stays = remaining * minStayMinutes;
+            GeoPoint previous = origin;
+            for (int position = 0; position < depth; position++) {
+                int stop = order[position];
+                distanceKm += GeoUtils.distanceKm(previous, points[stop]);
+                stays += stayMinutes[stop];
+                previous = points[stop];
+            }
+            distanceKm += GeoUtils.distanceKm(previous, destination);
+            // 구간별 반올림/최소값을 쓰면 정차지를 더할 때 하한이 깨질 수 있어 총 거리로 한 번만 환산한다.
+            return optimisticMinutes(distanceKm) + stays > maxMinutes;
+        }
+
+        /**
+         * 출발지→도착지 선분에 투영한 진행률. 두 점이 거의 같으면 정렬하지 않는다.
+         */
+        private boolean computeProgress() {
+            if (origin == null || destination == null) {
+                return false;
+            }
+            double cosLat = Math.cos(Math.toRadians((origin.y() + destination.y()) / 2.0));
+            double dx = (destination.x() - origin.x()) * cosLat;
+            double dy = destination.y() - origin.y();
+            double lengthSq = dx * dx + dy * dy;
+            if (lengthSq < MIN_ROUTE_LENGTH_SQ) {
+                return false;
+            }
+            for (int index = 0; index < points.length; index++) {
+                double px = (points[index].x() - origin.x()) * cosLat;
+                double py = points[index].y() - origin.y();
+                progress[index] = (px * dx + py * dy) / lengthSq;
+            }
+            return true;
+        }
     }
 }
@@ -0,0 +1,110 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.GeoUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 큐레이션 스팟을 위경도 격자(0.1도, 약 11km)로 나눠 둔 읽기 전용 색인.
+ * 경로 선분 주변만 조회하며, 결과는 색인을 만들 때 받은 순서(기본 점수 내림차순)를 유지한다.
+ */
+final class DriveSpotIndex {
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final double KM_PER_DEGREE = 111.195;
+    private static final double PADDING_RATIO = 1.05;
+
+    private final List<Poi> spots;
+    private final Map<Long, int[]> cells;
+
+    private DriveSpotIndex(List<Poi> spots, Map<Long, int[]> cells) {
+        this.spots = spots;
+        this.cells = cells;
+    }
+
+    static DriveSpotIndex empty() {
+        return new DriveSpotIndex(List.of(), Map.of());
+    }
+
+    static DriveSpotIndex of(List<Poi> rankedSpots) {
+        if (rankedSpots == null || rankedSpots.isEmpty()) {
+            return empty();
+        }
+        List<Poi> spots = List.copyOf(rankedSpots);
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int index = 0; index < spots.size(); index++) {
+            Poi spot = spots.get(index);
+            buckets.computeIfAbsent(cellKey(row(spot.lat()), column(spot.lng())), key -> new ArrayList<>())
+                .add(index);
+        }
+        Map<Long, int[]> cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, indexes) -> cells.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+        return new DriveSpotIndex(spots, cells);
+    }
+
+    List<Poi> all() {
+        return spots;
+    }
+
+    int size() {
+        return spots.size();
+    }
+
+    /**
+     * 출발지-도착지 선분에서 radiusKm 이내에 있는 스팟을 돌려준다.
+     * 선분을 감싸는 격자 칸만 훑은 뒤 {@link GeoUtils#distancePointToSegmentKm} 로 정확히 거른다.
+     */
+    List<Poi> withinCorridor(GeoPoint origin, GeoPoint destination, double radiusKm) {
+        if (spots.isEmpty() || origin == null || destination == null || radiusKm < 0) {
+            return List.of();
+        }
+        double latPadding = radiusKm / KM_PER_DEGREE * PADDING_RATIO;
+        double minLat = Math.min(origin.y(), destination.y()) - latPadding;
+        double maxLat = Math.max(origin.y(), destination.y()) + latPadding;
+        double widestLat = Math.min(89.0, Math.max(Math.abs(minLat), Math.abs(maxLat)));
+        double lngPadding = radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(widestLat))) * PADDING_RATIO;
+        double minLng = Math.min(origin.x(), destination.x()) - lngPadding;
+        double maxLng = Math.max(origin.x(), destination.x()) + lngPadding;
+
+        int[] matched = new int[spots.size()];
+        int count = 0;
+        for (int row = row(minLat); row <= row(maxLat); row++) {
+            for (int column = column(minLng); column <= column(maxLng); column++) {
+                int[] indexes = cells.get(cellKey(row, column));
+                if (indexes == null) {
+                    continue;
+                }
+                for (int index : indexes) {
+                    Poi spot = spots.get(index);
+                    GeoPoint point = new GeoPoint(spot.lng(), spot.lat());
+                    if (GeoUtils.distancePointToSegmentKm(origin, destination, point) <= radiusKm) {
+                        matched[count++] = index;
+                    }
+                }
+            }
+        }
+        Arrays.sort(matched, 0, count);
+        List<Poi> result = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) {
+            result.add(spots.get(matched[position]));
+        }
+        return result;
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor(lat / CELL_DEGREES);
+    }
+
+    private static int column(double lng) {
+        return (int) Math.floor(lng / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
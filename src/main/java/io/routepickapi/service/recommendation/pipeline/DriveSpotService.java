@@ -1,18 +1,29 @@
 package io.routepickapi.service.recommendation.pipeline;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
 import io.routepickapi.entity.drive.DriveSpot;
 import io.routepickapi.repository.DriveSpotRepository;
+import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DriveSpotService {
@@ -20,18 +31,113 @@ public class DriveSpotService {
     private static final int DEFAULT_STAY_MINUTES = 40;
     private static final double DEFAULT_WEATHER_SENSITIVITY = 0.2;
     private static final String CURATED_SOURCE = "CURATED";
+    private static final String STATS_THEME = "nature";
 
     private final DriveSpotRepository driveSpotRepository;
+    private final MeterRegistry meterRegistry;
 
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void registerMetrics() {
+        registerGauge("total", null, Snapshot::total);
+        registerGauge("active", null, current -> current.index().size());
+        registerGauge("active-theme", STATS_THEME, current -> current.countActiveTheme(STATS_THEME));
+    }
+
+    /**
+     * 활성 스팟 전체. 기본 점수 내림차순이며 메모리 색인에서 바로 돌려준다.
+     */
     public List<Poi> collectActiveSpots() {
+        return currentIndex().all();
+    }
+
+    /**
+     * 출발지-도착지 선분에서 radiusKm 이내의 활성 스팟. 순서는 {@link #collectActiveSpots()} 와 같다.
+     */
+    public List<Poi> collectSpotsNearRoute(GeoPoint origin, GeoPoint destination, double radiusKm) {
+        return currentIndex().withinCorridor(origin, destination, radiusKm);
+    }
+
+    public int activeSpotCount() {
+        return currentIndex().size();
+    }
+
+    /**
+     * 스팟 통계. 주기적으로 갱신되는 snapshot 에서 계산하므로 요청마다 COUNT 쿼리를 보내지 않는다.
+     */
+    public DriveSpotStats fetchStats(String themeKey) {
+        Snapshot current = currentSnapshot();
+        long activeTheme = themeKey == null || themeKey.isBlank() ? 0 : current.countActiveTheme(themeKey);
+        return new DriveSpotStats(current.total(), current.index().size(), activeTheme);
+    }
+
+    /**
+     * DB 에서 스팟을 다시 읽어 색인과 통계를 함께 교체한다. 스팟을 바꾼 뒤 바로 반영하려면 직접 호출한다.
+     */
+    @Scheduled(
+        fixedDelayString = "${recommendation.drive-spots.refresh-millis:300000}",
+        initialDelayString = "${recommendation.drive-spots.refresh-millis:300000}"
+    )
+    public void refresh() {
+        try {
+            snapshot = buildSnapshot();
+        } catch (Exception ex) {
+            log.warn("DriveSpot snapshot refresh failed - keeping previous snapshot", ex);
+        }
+    }
+
+    private DriveSpotIndex currentIndex() {
+        return currentSnapshot().index();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = buildSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot buildSnapshot() {
+        long total = driveSpotRepository.count();
         List<DriveSpot> spots = driveSpotRepository.findByIsActiveTrue();
         if (spots == null || spots.isEmpty()) {
-            return List.of();
+            log.info("DriveSpot snapshot refreshed - total={}, active=0", total);
+            return new Snapshot(DriveSpotIndex.empty(), total, List.of());
         }
-        return spots.stream()
+        List<Poi> ranked = spots.stream()
             .sorted(Comparator.comparingDouble(this::baseScore).reversed())
             .map(this::toPoi)
             .toList();
+        List<String> activeThemes = spots.stream()
+            .map(DriveSpot::getThemes)
+            .filter(Objects::nonNull)
+            .map(themes -> themes.toLowerCase(Locale.ROOT))
+            .toList();
+        log.info("DriveSpot snapshot refreshed - total={}, active={}", total, ranked.size());
+        return new Snapshot(DriveSpotIndex.of(ranked), total, activeThemes);
+    }
+
+    private void registerGauge(String state, String theme, ToDoubleFunction<Snapshot> value) {
+        Gauge.Builder<DriveSpotService> builder = Gauge.builder(
+                "recommendation.drive-spots",
+                this,
+                service -> {
+                    Snapshot current = service.snapshot;
+                    return current == null ? Double.NaN : value.applyAsDouble(current);
+                }
+            )
+            .tag("state", state);
+        if (theme != null) {
+            builder.tag("theme", theme);
+        }
+        builder.register(meterRegistry);
     }
 
     private double baseScore(DriveSpot spot) {
@@ -86,15 +192,29 @@ public class DriveSpotService {
         return Math.max(0.0, Math.min(1.0, score));
     }
 
-    public DriveSpotStats fetchStats(String themeKey) {
-        long total = driveSpotRepository.count();
-        long active = driveSpotRepository.countByIsActiveTrue();
-        long activeTheme = themeKey == null || themeKey.isBlank()
-            ? 0
-            : driveSpotRepository.countByIsActiveTrueAndThemesContainingIgnoreCase(themeKey);
-        return new DriveSpotStats(total, active, activeTheme);
+    public record DriveSpotStats(long total, long active, long activeTheme) {
     }
 
-    public record DriveSpotStats(long total, long active, long activeTheme) {
+    /**
+     * 한 번의 갱신으로 만든 색인과 통계. activeThemes 는 활성 스팟의 themes 컬럼(소문자)이며,
+     * 테마별 개수는 기존 LIKE 조회와 같은 부분 문자열 기준으로 처음 요청될 때 계산해 둔다.
+     */
+    private record Snapshot(
+        DriveSpotIndex index,
+        long total,
+        List<String> activeThemes,
+        Map<String, Long> themeCounts
+    ) {
+
+        Snapshot(DriveSpotIndex index, long total, List<String> activeThemes) {
+            this(index, total, activeThemes, new ConcurrentHashMap<>());
+        }
+
+        long countActiveTheme(String themeKey) {
+            String key = themeKey.trim().toLowerCase(Locale.ROOT);
+            return themeCounts.computeIfAbsent(key, theme -> activeThemes.stream()
+                .filter(themes -> themes.contains(theme))
+                .count());
+        }
     }
 }
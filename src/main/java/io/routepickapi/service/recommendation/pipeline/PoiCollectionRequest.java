@@ -8,6 +8,7 @@ public record PoiCollectionRequest(
     double destinationLat,
     double destinationLng,
     int radiusMeters,
+    Integer durationMinutes,
     List<String> kakaoKeywords,
     List<String> tourContentTypeIds
 ) {
@@ -7,13 +7,21 @@ import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
 import io.routepickapi.infrastructure.client.kakao.KakaoLocalClient;
 import io.routepickapi.infrastructure.client.tour.TourApiClient;
 import io.routepickapi.infrastructure.client.tour.dto.TourItem;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
+import io.routepickapi.service.recommendation.ExternalFanOutExecutor;
 import io.routepickapi.service.recommendation.RecommendationCacheService;
+import io.routepickapi.service.recommendation.SearchCacheBatch;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Service
@@ -47,6 +55,8 @@ public class PoiCollectorService {
     private final KakaoLocalClient kakaoLocalClient;
     private final TourApiClient tourApiClient;
     private final RecommendationCacheService cacheService;
+    private final ExternalFanOutExecutor fanOutExecutor;
+    private final CacheCellPolicy cacheCellPolicy;
 
     @org.springframework.beans.factory.annotation.Value("${recommendation.cap.kakao:10}")
     private int kakaoCap;
@@ -54,7 +64,26 @@ public class PoiCollectorService {
     @org.springframework.beans.factory.annotation.Value("${recommendation.cap.tour:20}")
     private int tourCap;
 
+    @org.springframework.beans.factory.annotation.Value("${recommendation.collect.concurrent:true}")
+    private boolean concurrentCollect;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.collect.deadline-millis:3000}")
+    private long collectDeadlineMillis;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.collect.concurrency.kakao:4}")
+    private int kakaoConcurrency;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.collect.concurrency.tour:2}")
+    private int tourConcurrency;
+
     public RawPoiBundle collect(PoiCollectionRequest request) {
+        return collect(request, null);
+    }
+
+    /**
+     * bundleTtl 이 있으면 번들 캐시를 그 시간만큼 둔다. 캐시 예열처럼 한참 뒤의 요청을 위해 모을 때 쓴다.
+     */
+    public RawPoiBundle collect(PoiCollectionRequest request, Duration bundleTtl) {
         if (request == null) {
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "수집 요청이 비어있습니다.");
         }
@@ -84,63 +113,249 @@ public class PoiCollectorService {
             return cached;
         }
 
-        List<KakaoPlaceDocument> kakaoPlaces = collectKakaoPlaces(
-            searchPoints,
-            radius,
-            kakaoKeywords
+        SearchCacheBatch searchCache = prefetchSearchCaches(searchPoints, radius, kakaoKeywords, tourContentTypes);
+        RawPoiBundle bundle = concurrentCollect
+            ? collectConcurrently(searchPoints, radius, kakaoKeywords, tourContentTypes, searchCache)
+            : new RawPoiBundle(
+                collectKakaoPlaces(searchPoints, radius, kakaoKeywords, searchCache),
+                collectTourItems(searchPoints, radius, tourContentTypes, searchCache)
+            );
+        cacheService.putKakaoPlaces(searchCache.fetchedKakao());
+        cacheService.putTourItems(searchCache.fetchedTour());
+        if (searchCache.complete()) {
+            cacheService.putPoiBundle(cacheKey, bundle, bundleTtl);
+        } else {
+            // 시간 초과나 실패로 빠진 검색이 있으면 번들을 오래 두지 않는다. 끝난 검색은 위에서 이미 썼다.
+            log.info("POI bundle incomplete - key={}, ttl=default", cacheKey);
+            cacheService.putPoiBundle(cacheKey, bundle);
+        }
+        return bundle;
+    }
+
+    /**
+     * 이번 요청에서 쓸 수 있는 검색 캐시 key 를 모두 만들어 한 번에 조회한다.
+     * cap 때문에 일부 key 는 쓰이지 않을 수 있지만, 검색마다 GET 을 보내는 것보다 왕복이 적다.
+     */
+    private SearchCacheBatch prefetchSearchCaches(
+        List<SearchPoint> searchPoints,
+        int radius,
+        List<String> kakaoKeywords,
+        List<String> tourContentTypes
+    ) {
+        List<String> kakaoKeys = new ArrayList<>();
+        List<String> tourKeys = new ArrayList<>();
+        for (SearchPoint point : searchPoints) {
+            for (String keyword : kakaoKeywords) {
+                if (keyword != null && !keyword.isBlank()) {
+                    kakaoKeys.add(buildSearchCacheKey("kakao", point, radius, keyword));
+                }
+            }
+            for (String contentType : tourContentTypes) {
+                tourKeys.add(buildSearchCacheKey("tour", point, radius, contentType));
+            }
+        }
+        SearchCacheBatch batch = SearchCacheBatch.prefetched(
+            cacheService.getKakaoPlaces(kakaoKeys),
+            cacheService.getTourItems(tourKeys)
+        );
+        log.info("POI search cache prefetch - kakaoHits={}/{}, tourHits={}/{}",
+            batch.cachedKakao().size(), kakaoKeys.size(), batch.cachedTour().size(), tourKeys.size());
+        return batch;
+    }
+
+    private RawPoiBundle collectConcurrently(
+        List<SearchPoint> searchPoints,
+        int radius,
+        List<String> kakaoKeywords,
+        List<String> tourContentTypes,
+        SearchCacheBatch searchCache
+    ) {
+        Instant deadline = fanOutExecutor.deadlineAfter(Duration.ofMillis(collectDeadlineMillis));
+        Future<List<TourItem>> tourFuture = fanOutExecutor.submit(
+            () -> collectTourItemsConcurrently(searchPoints, radius, tourContentTypes, deadline, searchCache)
         );
-        List<TourItem> tourItems = collectTourItems(
+        List<KakaoPlaceDocument> kakaoPlaces = collectKakaoPlacesConcurrently(
             searchPoints,
             radius,
-            tourContentTypes
+            kakaoKeywords,
+            deadline,
+            searchCache
         );
-        RawPoiBundle bundle = new RawPoiBundle(kakaoPlaces, tourItems);
-        cacheService.putPoiBundle(cacheKey, bundle);
-        return bundle;
+        List<TourItem> tourItems = fanOutExecutor.await(tourFuture, deadline, null);
+        if (tourItems == null) {
+            searchCache.markIncomplete();
+            tourItems = List.of();
+        }
+        return new RawPoiBundle(kakaoPlaces, tourItems);
     }
 
-    private List<KakaoPlaceDocument> collectKakaoPlaces(
+    private List<KakaoPlaceDocument> collectKakaoPlacesConcurrently(
         List<SearchPoint> searchPoints,
         int radius,
-        List<String> keywords
+        List<String> keywords,
+        Instant deadline,
+        SearchCacheBatch searchCache
     ) {
-        List<KakaoPlaceDocument> results = new ArrayList<>();
-        int cap = Math.max(1, kakaoCap > 0 ? kakaoCap : DEFAULT_KAKAO_CAP);
+        List<Callable<List<KakaoPlaceDocument>>> tasks = new ArrayList<>();
         for (SearchPoint point : searchPoints) {
             for (String keyword : keywords) {
                 if (keyword == null || keyword.isBlank()) {
                     continue;
                 }
+                tasks.add(() -> fetchKakaoDocuments(point, radius, keyword, searchCache));
+            }
+        }
+        int cap = Math.max(1, kakaoCap > 0 ? kakaoCap : DEFAULT_KAKAO_CAP);
+        List<KakaoPlaceDocument> results = collectInWaves("kakao", tasks, cap, kakaoConcurrency, deadline, searchCache);
+        List<KakaoPlaceDocument> capped = applyCap(results, cap, "kakao");
+        log.info("Kakao POI 병렬 수집 완료 - count={}, tasks={}", capped.size(), tasks.size());
+        return capped;
+    }
 
-                if (results.size() >= cap) {
-                    break;
-                }
+    private List<TourItem> collectTourItemsConcurrently(
+        List<SearchPoint> searchPoints,
+        int radius,
+        List<String> contentTypes,
+        Instant deadline,
+        SearchCacheBatch searchCache
+    ) {
+        if (contentTypes == null || contentTypes.isEmpty()) {
+            log.info("TourAPI POI 수집 skipped - reason=disabled");
+            return List.of();
+        }
+        List<Callable<List<TourItem>>> tasks = new ArrayList<>();
+        for (SearchPoint point : searchPoints) {
+            for (String contentType : contentTypes) {
+                tasks.add(() -> fetchTourItems(point, radius, contentType, searchCache));
+            }
+        }
+        int cap = Math.max(1, tourCap > 0 ? tourCap : DEFAULT_TOUR_CAP);
+        List<TourItem> results = collectInWaves("tour", tasks, cap, tourConcurrency, deadline, searchCache);
+        List<TourItem> capped = applyCap(results, cap, "tour");
+        log.info("TourAPI POI 병렬 수집 완료 - count={}, tasks={}", capped.size(), tasks.size());
+        return capped;
+    }
 
-                String cacheKey = buildSearchCacheKey("kakao", point, radius, keyword);
-                List<KakaoPlaceDocument> cached = cacheService.getKakaoPlaces(cacheKey);
-                if (cached != null) {
-                    cached.stream().filter(Objects::nonNull).forEach(results::add);
+    /**
+     * 동시성 한도만큼씩 작업을 묶어 실행하고, 입력 순서대로 결과를 이어 붙인다.
+     * cap 에 도달하면 다음 묶음은 호출하지 않으므로 순차 수집과 같은 결과를 같은 순서로 얻는다.
+     */
+    private <T> List<T> collectInWaves(
+        String provider,
+        List<Callable<List<T>>> tasks,
+        int cap,
+        int concurrency,
+        Instant deadline,
+        SearchCacheBatch searchCache
+    ) {
+        List<T> results = new ArrayList<>();
+        int waveSize = Math.max(1, concurrency);
+        for (int start = 0; start < tasks.size() && results.size() < cap; start += waveSize) {
+            if (Instant.now().isAfter(deadline)) {
+                log.info("POI collect deadline reached - provider={}, completedTasks={}, totalTasks={}",
+                    provider, start, tasks.size());
+                searchCache.markIncomplete();
+                break;
+            }
+            List<Callable<List<T>>> wave = tasks.subList(start, Math.min(tasks.size(), start + waveSize));
+            for (List<T> items : fanOutExecutor.invokeOrdered(provider, concurrency, deadline, wave)) {
+                if (items == null) {
+                    searchCache.markIncomplete();
                     continue;
                 }
+                items.stream().filter(Objects::nonNull).forEach(results::add);
+            }
+        }
+        return results;
+    }
 
-                KakaoPlaceSearchResponse response = kakaoLocalClient.searchKeywordByLocation(
-                    keyword,
-                    point.lng(),
-                    point.lat(),
-                    radius,
-                    SEARCH_PAGE,
-                    SEARCH_SIZE
-                );
+    private List<KakaoPlaceDocument> fetchKakaoDocuments(
+        SearchPoint point,
+        int radius,
+        String keyword,
+        SearchCacheBatch searchCache
+    ) {
+        String cacheKey = buildSearchCacheKey("kakao", point, radius, keyword);
+        List<KakaoPlaceDocument> cached = searchCache.cachedKakao().get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
 
-                if (response == null || response.documents() == null) {
+        KakaoPlaceSearchResponse response;
+        try {
+            response = kakaoLocalClient.searchKeywordByLocation(
+                keyword,
+                point.lng(),
+                point.lat(),
+                radius,
+                SEARCH_PAGE,
+                SEARCH_SIZE
+            );
+        } catch (RestClientException ex) {
+            log.warn("Kakao POI 검색 건너뜀 - keyword={}, reason={}", keyword, ex.getMessage());
+            searchCache.markIncomplete();
+            return List.of();
+        }
+
+        if (response == null || response.documents() == null) {
+            return List.of();
+        }
+
+        List<KakaoPlaceDocument> docs = response.documents().stream()
+            .filter(Objects::nonNull)
+            .toList();
+        searchCache.fetchedKakao().put(cacheKey, docs);
+        return docs;
+    }
+
+    private List<TourItem> fetchTourItems(
+        SearchPoint point,
+        int radius,
+        String contentType,
+        SearchCacheBatch searchCache
+    ) {
+        String cacheKey = buildSearchCacheKey("tour", point, radius, contentType);
+        List<TourItem> cached = searchCache.cachedTour().get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        List<TourItem> items = tourApiClient.fetchLocationBased(
+            point.lat(),
+            point.lng(),
+            radius,
+            TOUR_PAGE,
+            TOUR_SIZE,
+            contentType
+        );
+        if (items == null) {
+            return List.of();
+        }
+        List<TourItem> docs = items.stream().filter(Objects::nonNull).toList();
+        searchCache.fetchedTour().put(cacheKey, docs);
+        return docs;
+    }
+
+    private List<KakaoPlaceDocument> collectKakaoPlaces(
+        List<SearchPoint> searchPoints,
+        int radius,
+        List<String> keywords,
+        SearchCacheBatch searchCache
+    ) {
+        List<KakaoPlaceDocument> results = new ArrayList<>();
+        int cap = Math.max(1, kakaoCap > 0 ? kakaoCap : DEFAULT_KAKAO_CAP);
+        for (SearchPoint point : searchPoints) {
+            for (String keyword : keywords) {
+                if (keyword == null || keyword.isBlank()) {
                     continue;
                 }
 
-                List<KakaoPlaceDocument> docs = response.documents().stream()
+                if (results.size() >= cap) {
+                    break;
+                }
+
+                fetchKakaoDocuments(point, radius, keyword, searchCache).stream()
                     .filter(Objects::nonNull)
-                    .toList();
-                cacheService.putKakaoPlaces(cacheKey, docs);
-                docs.forEach(results::add);
+                    .forEach(results::add);
             }
             if (results.size() >= cap) {
                 break;
@@ -155,7 +370,8 @@ public class PoiCollectorService {
     private List<TourItem> collectTourItems(
         List<SearchPoint> searchPoints,
         int radius,
-        List<String> contentTypes
+        List<String> contentTypes,
+        SearchCacheBatch searchCache
     ) {
         if (contentTypes == null || contentTypes.isEmpty()) {
             log.info("TourAPI POI 수집 skipped - reason=disabled");
@@ -168,26 +384,9 @@ public class PoiCollectorService {
                 if (results.size() >= cap) {
                     break;
                 }
-                String cacheKey = buildSearchCacheKey("tour", point, radius, contentType);
-                List<TourItem> cached = cacheService.getTourItems(cacheKey);
-                if (cached != null) {
-                    cached.stream().filter(Objects::nonNull).forEach(results::add);
-                    continue;
-                }
-                List<TourItem> items = tourApiClient.fetchLocationBased(
-                    point.lat(),
-                    point.lng(),
-                    radius,
-                    TOUR_PAGE,
-                    TOUR_SIZE,
-                    contentType
-                );
-
-                if (items != null) {
-                    List<TourItem> docs = items.stream().filter(Objects::nonNull).toList();
-                    cacheService.putTourItems(cacheKey, docs);
-                    docs.forEach(results::add);
-                }
+                fetchTourItems(point, radius, contentType, searchCache).stream()
+                    .filter(Objects::nonNull)
+                    .forEach(results::add);
             }
             if (results.size() >= cap) {
                 break;
@@ -252,10 +451,11 @@ public class PoiCollectorService {
         List<String> tourContentTypes,
         List<SearchPoint> searchPoints
     ) {
+        // 검색 지점은 정확한 좌표에서 다시 만들지만, 반경이 수 km 라 같은 칸 안의 출발지끼리는 번들을 나눠 쓴다.
         return "poi-bundle:"
-            + formatPoint(request.originLat(), request.originLng())
+            + cacheCellPolicy.cellKey(request.originLat(), request.originLng(), request.durationMinutes())
             + ":"
-            + formatPoint(request.destinationLat(), request.destinationLng())
+            + cacheCellPolicy.cellKey(request.destinationLat(), request.destinationLng(), request.durationMinutes())
             + ":r=" + radius
             + ":k=" + String.join("|", kakaoKeywords)
             + ":t=" + String.join("|", tourContentTypes)
@@ -0,0 +1,83 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.RouteGeometry;
+import io.routepickapi.service.recommendation.RoutePath;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 추천 요청 하나에서 POI 별 파생 값(정규화 텍스트, 키워드/테마 판정, 경로 위치)을 한 번만 계산해 두는 표.
+ *
+ * <p>같은 POI 가 테마 필터, 일반/완화 필터, 보충 필터, 점수 계산을 차례로 거치므로 첫 조회 때 계산한 값을
+ * 이후 단계가 그대로 읽는다. 요청 스레드 안에서만 쓰는 전제라 동기화하지 않는다.
+ */
+final class PoiFeatureTable {
+
+    private final DriveTheme theme;
+    private final RoutePath routePath;
+    private final PoiThemePolicy themePolicy;
+    private final Map<Poi, Features> features = new IdentityHashMap<>();
+
+    PoiFeatureTable(DriveTheme theme, RoutePath routePath, PoiThemePolicy themePolicy) {
+        this.theme = theme == null ? DriveTheme.DEFAULT : theme;
+        this.routePath = routePath;
+        this.themePolicy = themePolicy;
+    }
+
+    DriveTheme theme() {
+        return theme;
+    }
+
+    RoutePath routePath() {
+        return routePath;
+    }
+
+    /**
+     * 요청한 테마의 판정이 이 표와 맞는지. DEFAULT 필터는 테마 판정을 읽지 않으므로 어느 표든 쓸 수 있다.
+     */
+    boolean supportsTheme(DriveTheme requested) {
+        return requested == null || requested == DriveTheme.DEFAULT || requested == theme;
+    }
+
+    Features get(Poi poi) {
+        Features cached = features.get(poi);
+        if (cached == null) {
+            cached = compute(poi);
+            features.put(poi, cached);
+        }
+        return cached;
+    }
+
+    private Features compute(Poi poi) {
+        GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
+        String searchText = PoiSearchText.of(poi);
+        String normalizedName = PoiSearchText.normalize(poi.name());
+        return new Features(
+            point,
+            searchText,
+            normalizedName,
+            PoiFilterService.isBlacklisted(searchText),
+            PoiFilterService.isAllowlisted(searchText),
+            PoiFilterService.resolveVenueGroup(normalizedName),
+            themePolicy.match(searchText, theme),
+            routePath == null ? null : routePath.locate(point)
+        );
+    }
+
+    /**
+     * {@code location} 은 경로가 없는 요청이면 {@code null} 이다.
+     */
+    record Features(
+        GeoPoint point,
+        String searchText,
+        String normalizedName,
+        boolean blacklisted,
+        boolean allowlisted,
+        String venueGroup,
+        PoiThemePolicy.ThemeMatch themeMatch,
+        RouteGeometry.Location location
+    ) {
+    }
+}
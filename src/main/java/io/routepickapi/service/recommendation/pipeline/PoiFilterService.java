@@ -1,10 +1,10 @@
 package io.routepickapi.service.recommendation.pipeline;
 
 import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.service.recommendation.KeywordMatcher;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PoiFilterService {
 
-    private static final Set<String> ALLOWLIST = Set.of(
+    private static final KeywordMatcher ALLOWLIST = KeywordMatcher.of(List.of(
         "전망대",
         "전망",
         "야경",
@@ -41,9 +41,9 @@ public class PoiFilterService {
         "휴게소",
         "관광지",
         "자연휴양림"
-    );
+    ));
 
-    private static final Set<String> BLACKLIST = Set.of(
+    private static final KeywordMatcher BLACKLIST = KeywordMatcher.of(List.of(
         "마트",
         "학원",
         "약국",
@@ -62,7 +62,7 @@ public class PoiFilterService {
         "상가",
         "회사",
         "공장"
-    );
+    ));
 
     private static final Map<String, String> VENUE_GROUPS = Map.ofEntries(
         Map.entry("덕수궁", "덕수궁"),
@@ -77,6 +77,8 @@ public class PoiFilterService {
         Map.entry("남산", "남산")
     );
 
+    private static final KeywordMatcher VENUE_KEYWORDS = KeywordMatcher.of(VENUE_GROUPS.keySet());
+
     private static final int DEDUP_SCALE = 10000;
 
     private final PoiThemePolicy poiThemePolicy;
@@ -90,81 +92,76 @@ public class PoiFilterService {
     }
 
     public List<Poi> filter(List<Poi> pois, DriveTheme theme, String requestId) {
-        return filterInternal(pois, theme, requestId, false);
+        return filterInternal(pois, theme, requestId, false, null);
     }
 
     public List<Poi> filterRelaxed(List<Poi> pois, DriveTheme theme, String requestId) {
-        return filterInternal(pois, theme, requestId, true);
+        return filterInternal(pois, theme, requestId, true, null);
     }
 
-    private void increment(Map<String, Integer> counts, String key) {
-        counts.put(key, counts.getOrDefault(key, 0) + 1);
+    /**
+     * 요청 단위 {@link PoiFeatureTable} 을 넘기면 이전 단계에서 계산한 키워드/테마 판정을 그대로 쓴다.
+     */
+    List<Poi> filter(List<Poi> pois, DriveTheme theme, String requestId, PoiFeatureTable features) {
+        return filterInternal(pois, theme, requestId, false, features);
     }
 
-    private boolean isBlacklisted(Poi poi) {
-        return matchesKeywords(poi, BLACKLIST);
+    List<Poi> filterRelaxed(List<Poi> pois, DriveTheme theme, String requestId, PoiFeatureTable features) {
+        return filterInternal(pois, theme, requestId, true, features);
     }
 
-    private boolean isAllowlisted(Poi poi) {
-        return matchesKeywords(poi, ALLOWLIST);
+    private void increment(Map<String, Integer> counts, String key) {
+        counts.put(key, counts.getOrDefault(key, 0) + 1);
     }
 
-    private boolean matchesKeywords(Poi poi, Set<String> keywords) {
-        if (keywords == null || keywords.isEmpty()) {
-            return false;
-        }
-
-        String name = normalize(poi.name());
-        String type = normalize(poi.type());
-        Set<String> tags = new LinkedHashSet<>();
-        if (poi.tags() != null) {
-            poi.tags().stream()
-                .filter(value -> value != null && !value.isBlank())
-                .map(this::normalize)
-                .forEach(tags::add);
-        }
+    static boolean isBlacklisted(String searchText) {
+        return BLACKLIST.matches(searchText);
+    }
 
-        for (String keyword : keywords) {
-            String normalizedKeyword = normalize(keyword);
-            if (normalizedKeyword.isBlank()) {
-                continue;
-            }
-            if (name.contains(normalizedKeyword) || type.contains(normalizedKeyword)) {
-                return true;
-            }
-            boolean tagMatched = tags.stream().anyMatch(tag -> tag.contains(normalizedKeyword));
-            if (tagMatched) {
-                return true;
-            }
-        }
+    static boolean isAllowlisted(String searchText) {
+        return ALLOWLIST.matches(searchText);
+    }
 
-        return false;
+    static String resolveVenueGroup(String normalizedName) {
+        String keyword = VENUE_KEYWORDS.findFirst(normalizedName);
+        return keyword == null ? null : VENUE_GROUPS.get(keyword);
     }
 
-    private List<Poi> applyThemeFilter(List<Poi> pois, DriveTheme theme) {
+    private List<Poi> applyThemeFilter(List<Poi> pois, DriveTheme theme, PoiFeatureTable features) {
         if (theme == null || theme == DriveTheme.DEFAULT) {
             return pois;
         }
         return pois.stream()
-            .filter(poi -> poiThemePolicy.isAllowed(poi, theme))
+            .filter(poi -> poi == null || features.get(poi).themeMatch().allowed())
             .toList();
     }
 
-    private List<Poi> applyRelaxedThemeFilter(List<Poi> pois, DriveTheme theme) {
+    private List<Poi> applyRelaxedThemeFilter(List<Poi> pois, DriveTheme theme, PoiFeatureTable features) {
         if (theme == null || theme == DriveTheme.DEFAULT) {
             return pois;
         }
         return pois.stream()
-            .filter(poi -> poiThemePolicy.isRelaxedAllowed(poi, theme))
+            .filter(poi -> poi == null || features.get(poi).themeMatch().relaxedAllowed())
             .toList();
     }
 
-    private List<Poi> filterInternal(List<Poi> pois, DriveTheme theme, String requestId, boolean relaxed) {
+    private List<Poi> filterInternal(
+        List<Poi> pois,
+        DriveTheme theme,
+        String requestId,
+        boolean relaxed,
+        PoiFeatureTable features
+    ) {
         if (pois == null || pois.isEmpty()) {
             return List.of();
         }
 
-        List<Poi> themeFiltered = relaxed ? applyRelaxedThemeFilter(pois, theme) : applyThemeFilter(pois, theme);
+        PoiFeatureTable table = features != null && features.supportsTheme(theme)
+            ? features
+            : new PoiFeatureTable(theme, null, poiThemePolicy);
+        List<Poi> themeFiltered = relaxed
+            ? applyRelaxedThemeFilter(pois, theme, table)
+            : applyThemeFilter(pois, theme, table);
         int themeRemoved = pois.size() - themeFiltered.size();
         if (theme != null && theme != DriveTheme.DEFAULT && themeRemoved > 0) {
             String label = relaxed ? "Theme filter relaxed" : "Theme filter removed";
@@ -173,25 +170,25 @@ public class PoiFilterService {
         List<Poi> candidates = themeFiltered.isEmpty()
             ? (theme == null || theme == DriveTheme.DEFAULT ? pois : List.of())
             : themeFiltered;
-        FilterOutcome outcome = applyFilters(candidates, themeRemoved, true);
+        FilterOutcome outcome = applyFilters(candidates, themeRemoved, true, table);
         List<Poi> results = outcome.results();
         if (outcome.removedByNotAllowlist() > 0) {
             if (results.size() < 3) {
                 log.info("Allowlist skipped - requestId={}, removedByAllowlist={}",
                     requestId, outcome.removedByNotAllowlist());
-                outcome = applyFilters(candidates, themeRemoved, false);
+                outcome = applyFilters(candidates, themeRemoved, false, table);
                 results = outcome.results();
             } else if (results.size() < 5) {
-                FilterOutcome relaxedOutcome = applyFilters(candidates, themeRemoved, false);
+                FilterOutcome relaxedOutcome = applyFilters(candidates, themeRemoved, false, table);
                 java.util.Set<String> keys = results.stream()
-                    .map(this::buildDedupKey)
+                    .map(poi -> buildDedupKey(poi, table.get(poi)))
                     .collect(java.util.stream.Collectors.toSet());
                 List<Poi> merged = new java.util.ArrayList<>(results);
                 for (Poi poi : relaxedOutcome.results()) {
                     if (merged.size() >= 5) {
                         break;
                     }
-                    if (keys.add(buildDedupKey(poi))) {
+                    if (keys.add(buildDedupKey(poi, table.get(poi)))) {
                         merged.add(poi);
                     }
                 }
@@ -211,7 +208,12 @@ public class PoiFilterService {
         return results;
     }
 
-    private FilterOutcome applyFilters(List<Poi> candidates, int themeRemoved, boolean enforceAllowlist) {
+    private FilterOutcome applyFilters(
+        List<Poi> candidates,
+        int themeRemoved,
+        boolean enforceAllowlist,
+        PoiFeatureTable features
+    ) {
         Map<String, Poi> deduplicated = new LinkedHashMap<>();
         Map<String, Integer> removalCounts = new LinkedHashMap<>();
         removalCounts.put("REMOVED_BY_BLACKLIST", 0);
@@ -228,23 +230,24 @@ public class PoiFilterService {
                 continue;
             }
 
-            if (isBlacklisted(poi)) {
+            PoiFeatureTable.Features feature = features.get(poi);
+            if (feature.blacklisted()) {
                 increment(removalCounts, "REMOVED_BY_BLACKLIST");
                 continue;
             }
 
-            if (enforceAllowlist && isKakaoSource(poi) && !isAllowlisted(poi)) {
+            if (enforceAllowlist && isKakaoSource(poi) && !feature.allowlisted()) {
                 increment(removalCounts, "REMOVED_BY_NOT_ALLOWLIST");
                 continue;
             }
 
-            String venueGroup = resolveVenueGroup(poi);
+            String venueGroup = feature.venueGroup();
             if (venueGroup != null && venueGroups.contains(venueGroup)) {
                 increment(removalCounts, "REMOVED_BY_GROUP");
                 continue;
             }
 
-            String key = buildDedupKey(poi);
+            String key = buildDedupKey(poi, feature);
             if (deduplicated.containsKey(key)) {
                 increment(removalCounts, "REMOVED_BY_DUPLICATE");
                 continue;
@@ -269,8 +272,8 @@ public class PoiFilterService {
     ) {
     }
 
-    private String buildDedupKey(Poi poi) {
-        String name = normalize(poi.name());
+    private String buildDedupKey(Poi poi, PoiFeatureTable.Features feature) {
+        String name = feature.normalizedName();
         long latKey = Math.round(poi.lat() * DEDUP_SCALE);
         long lngKey = Math.round(poi.lng() * DEDUP_SCALE);
         return name + "|" + latKey + "|" + lngKey;
@@ -279,25 +282,4 @@ public class PoiFilterService {
     private boolean isKakaoSource(Poi poi) {
         return "KAKAO".equalsIgnoreCase(poi.source());
     }
-
-    private String resolveVenueGroup(Poi poi) {
-        if (poi == null || poi.name() == null) {
-            return null;
-        }
-        String normalized = normalize(poi.name());
-        for (Map.Entry<String, String> entry : VENUE_GROUPS.entrySet()) {
-            String keyword = normalize(entry.getKey());
-            if (!keyword.isBlank() && normalized.contains(keyword)) {
-                return entry.getValue();
-            }
-        }
-        return null;
-    }
-
-    private String normalize(String raw) {
-        if (raw == null) {
-            return "";
-        }
-        return raw.toLowerCase(Locale.ROOT).replace(" ", "");
-    }
 }
@@ -1,7 +1,7 @@
 package io.routepickapi.service.recommendation.pipeline;
 
 import io.routepickapi.domain.poi.Poi;
-import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.RouteGeometry;
 import io.routepickapi.service.recommendation.RouteMetrics;
 import io.routepickapi.service.recommendation.RoutePath;
 import java.util.List;
@@ -24,12 +24,27 @@ public class PoiScoringService {
         DriveTheme theme,
         RouteMetrics routeMetrics,
         RoutePath routePath
+    ) {
+        return score(pois, theme, routeMetrics, routePath, null);
+    }
+
+    /**
+     * 요청 단위 {@link PoiFeatureTable} 에 이미 계산된 테마 판정과 경로 위치를 재사용한다.
+     * 테마나 경로가 표와 다르면 이번 호출용 표를 따로 만든다.
+     */
+    List<ScoredPoi> score(
+        List<Poi> pois,
+        DriveTheme theme,
+        RouteMetrics routeMetrics,
+        RoutePath routePath,
+        PoiFeatureTable features
     ) {
         if (pois == null || pois.isEmpty()) {
             return List.of();
         }
+        PoiFeatureTable table = resolveTable(features, theme, routePath);
         return pois.stream()
-            .map(poi -> buildScore(poi, theme, routeMetrics, routePath))
+            .map(poi -> buildScore(poi, table.get(poi), routeMetrics, routePath))
             .sorted((left, right) -> Double.compare(right.totalScore(), left.totalScore()))
             .toList();
     }
@@ -38,7 +53,7 @@ public class PoiScoringService {
         if (poi == null) {
             return new ScoredPoi(null, 0, 0, 0, 0, 0, 1, 0);
         }
-        return buildScore(poi, theme, routeMetrics, routePath);
+        return buildScore(poi, resolveTable(null, theme, routePath).get(poi), routeMetrics, routePath);
     }
 
     public double reviewScore(Poi poi) {
@@ -48,15 +63,24 @@ public class PoiScoringService {
         return (poi.viewScore() + poi.driveSuitability()) / 2.0;
     }
 
+    private PoiFeatureTable resolveTable(PoiFeatureTable features, DriveTheme theme, RoutePath routePath) {
+        DriveTheme resolvedTheme = theme == null ? DriveTheme.DEFAULT : theme;
+        if (features != null && features.theme() == resolvedTheme && features.routePath() == routePath) {
+            return features;
+        }
+        return new PoiFeatureTable(resolvedTheme, routePath, themePolicy);
+    }
+
     private ScoredPoi buildScore(
         Poi poi,
-        DriveTheme theme,
+        PoiFeatureTable.Features features,
         RouteMetrics routeMetrics,
         RoutePath routePath
     ) {
-        double themeScore = themePolicy.themeScore(poi, theme);
-        double distanceScore = distanceScore(poi, routeMetrics, routePath);
-        double progressScore = progressScore(poi, routePath);
+        double themeScore = features.themeMatch().score();
+        RouteGeometry.Location location = features.location();
+        double distanceScore = distanceScore(routeMetrics, location);
+        double progressScore = location == null ? 0.5 : location.progressRatio();
         double reviewScore = reviewScore(poi);
         double totalScore =
             themeScore * THEME_WEIGHT
@@ -78,22 +102,12 @@ public class PoiScoringService {
         );
     }
 
-    private double distanceScore(Poi poi, RouteMetrics routeMetrics, RoutePath routePath) {
-        if (poi == null || routePath == null || routeMetrics == null) {
+    private double distanceScore(RouteMetrics routeMetrics, RouteGeometry.Location location) {
+        if (location == null || routeMetrics == null) {
             return 0.5;
         }
-        GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
-        double distanceKm = routePath.distanceToPathKm(point);
         double radius = Math.max(1.0, routeMetrics.corridorRadiusKm());
-        return Math.max(0.0, 1.0 - Math.min(1.0, distanceKm / radius));
-    }
-
-    private double progressScore(Poi poi, RoutePath routePath) {
-        if (poi == null || routePath == null) {
-            return 0.5;
-        }
-        GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
-        return routePath.progressRatio(point);
+        return Math.max(0.0, 1.0 - Math.min(1.0, location.distanceKm() / radius));
     }
 
     private int sourcePriority(String source) {
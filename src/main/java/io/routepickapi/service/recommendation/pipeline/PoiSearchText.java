@@ -0,0 +1,39 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.domain.poi.Poi;
+import java.util.Locale;
+
+/**
+ * 키워드 매칭용으로 POI 이름/타입/태그를 정규화해 한 줄로 이은 문자열.
+ * 필드 사이는 키워드에 나올 수 없는 줄바꿈으로 구분해 필드를 넘나드는 매칭이 생기지 않는다.
+ */
+final class PoiSearchText {
+
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private PoiSearchText() {
+    }
+
+    static String of(Poi poi) {
+        if (poi == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(64);
+        builder.append(normalize(poi.name())).append(FIELD_SEPARATOR).append(normalize(poi.type()));
+        if (poi.tags() != null) {
+            for (String tag : poi.tags()) {
+                if (tag != null && !tag.isBlank()) {
+                    builder.append(FIELD_SEPARATOR).append(normalize(tag));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        return raw.toLowerCase(Locale.ROOT).replace(" ", "");
+    }
+}
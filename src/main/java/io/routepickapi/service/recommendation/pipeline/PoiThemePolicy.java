@@ -1,16 +1,14 @@
 package io.routepickapi.service.recommendation.pipeline;
 
 import io.routepickapi.domain.poi.Poi;
-import java.util.LinkedHashSet;
+import io.routepickapi.service.recommendation.KeywordMatcher;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PoiThemePolicy {
 
-    private static final Set<String> NATURE_ALLOW = Set.of(
+    private static final KeywordMatcher NATURE_ALLOW = KeywordMatcher.of(List.of(
         "전망대",
         "공원",
         "산",
@@ -27,27 +25,27 @@ public class PoiThemePolicy {
         "산책로",
         "수목원",
         "자연휴양림"
-    );
+    ));
 
-    private static final Set<String> NATURE_EXCLUDE = Set.of(
+    private static final KeywordMatcher NATURE_EXCLUDE = KeywordMatcher.of(List.of(
         "궁",
         "문",
         "기념물",
         "동상",
         "광장",
         "기념관"
-    );
+    ));
 
-    private static final Set<String> CORE_EXCLUDE = Set.of(
+    private static final KeywordMatcher CORE_EXCLUDE = KeywordMatcher.of(List.of(
         "궁",
         "문",
         "기념물",
         "동상",
         "광장",
         "기념관"
-    );
+    ));
 
-    private static final Set<String> CAFE_ALLOW = Set.of(
+    private static final KeywordMatcher CAFE_ALLOW = KeywordMatcher.of(List.of(
         "카페",
         "뷰카페",
         "커피",
@@ -60,9 +58,9 @@ public class PoiThemePolicy {
         "테라스",
         "리버뷰",
         "오션"
-    );
+    ));
 
-    private static final Set<String> CAFE_EXCLUDE = Set.of(
+    private static final KeywordMatcher CAFE_EXCLUDE = KeywordMatcher.of(List.of(
         "식당",
         "음식점",
         "맛집",
@@ -84,9 +82,9 @@ public class PoiThemePolicy {
         "커피빈",
         "할리스",
         "탐앤탐스"
-    );
+    ));
 
-    private static final Set<String> NIGHT_ALLOW = Set.of(
+    private static final KeywordMatcher NIGHT_ALLOW = KeywordMatcher.of(List.of(
         "야경",
         "전망",
         "전망대",
@@ -102,9 +100,9 @@ public class PoiThemePolicy {
         "다리",
         "스카이",
         "뷰"
-    );
+    ));
 
-    private static final Set<String> NIGHT_EXCLUDE = Set.of(
+    private static final KeywordMatcher NIGHT_EXCLUDE = KeywordMatcher.of(List.of(
         "궁",
         "박물관",
         "역사",
@@ -113,112 +111,100 @@ public class PoiThemePolicy {
         "광장",
         "기념관",
         "도심"
-    );
+    ));
 
     public boolean isAllowed(Poi poi, DriveTheme theme) {
-        if (poi == null || theme == null || theme == DriveTheme.DEFAULT) {
+        if (poi == null) {
             return true;
         }
-        if (theme == DriveTheme.NATURE) {
-            return matchesAny(poi, NATURE_ALLOW) && !matchesAny(poi, NATURE_EXCLUDE);
-        }
-        if (theme == DriveTheme.CAFE) {
-            return matchesAny(poi, CAFE_ALLOW) && !matchesAny(poi, CAFE_EXCLUDE);
-        }
-        if (theme == DriveTheme.NIGHT) {
-            if (matchesAny(poi, NIGHT_ALLOW)) {
-                return true;
-            }
-            return !matchesAny(poi, NIGHT_EXCLUDE);
-        }
-        return true;
+        return match(PoiSearchText.of(poi), theme).allowed();
     }
 
     public double themeScore(Poi poi, DriveTheme theme) {
-        if (poi == null || theme == null || theme == DriveTheme.DEFAULT) {
+        if (poi == null) {
             return 0.6;
         }
-        if (theme == DriveTheme.NATURE) {
-            return matchesAny(poi, NATURE_ALLOW) ? 1.0 : 0.2;
-        }
-        if (theme == DriveTheme.CAFE) {
-            if (!matchesAny(poi, CAFE_ALLOW) || matchesAny(poi, CAFE_EXCLUDE)) {
-                return 0.2;
-            }
-            return 1.0;
-        }
-        if (theme == DriveTheme.NIGHT) {
-            if (matchesAny(poi, NIGHT_ALLOW)) {
-                return 1.0;
-            }
-            return matchesAny(poi, NIGHT_EXCLUDE) ? 0.2 : 0.6;
-        }
-        return 0.6;
+        return match(PoiSearchText.of(poi), theme).score();
     }
 
     public List<String> matchedKeywords(Poi poi, DriveTheme theme) {
         if (poi == null || theme == null || theme == DriveTheme.DEFAULT) {
             return List.of();
         }
-        Set<String> keywords = theme == DriveTheme.NATURE ? NATURE_ALLOW
+        KeywordMatcher keywords = theme == DriveTheme.NATURE ? NATURE_ALLOW
             : theme == DriveTheme.CAFE ? CAFE_ALLOW
             : NIGHT_ALLOW;
-        Set<String> matched = new LinkedHashSet<>();
-        for (String keyword : keywords) {
-            if (containsKeyword(poi, keyword)) {
-                matched.add(keyword);
-            }
-        }
-        return List.copyOf(matched);
+        return keywords.findAll(PoiSearchText.of(poi));
     }
 
     public boolean isRelaxedAllowed(Poi poi, DriveTheme theme) {
-        if (poi == null || theme == null || theme == DriveTheme.DEFAULT) {
+        if (poi == null) {
             return true;
         }
+        return match(PoiSearchText.of(poi), theme).relaxedAllowed();
+    }
+
+    /**
+     * 테마 허용/제외 키워드를 한 번씩만 검사해 두고, 허용 여부/완화 허용 여부/테마 점수를 모두 여기서 판단한다.
+     */
+    ThemeMatch match(String searchText, DriveTheme theme) {
+        if (theme == null || theme == DriveTheme.DEFAULT) {
+            return ThemeMatch.NEUTRAL;
+        }
         if (theme == DriveTheme.NATURE) {
-            return !matchesAny(poi, CORE_EXCLUDE);
+            return new ThemeMatch(
+                theme,
+                NATURE_ALLOW.matches(searchText),
+                NATURE_EXCLUDE.matches(searchText),
+                CORE_EXCLUDE.matches(searchText)
+            );
         }
         if (theme == DriveTheme.CAFE) {
-            return !matchesAny(poi, CAFE_EXCLUDE);
+            boolean excluded = CAFE_EXCLUDE.matches(searchText);
+            return new ThemeMatch(theme, CAFE_ALLOW.matches(searchText), excluded, excluded);
         }
-        if (theme == DriveTheme.NIGHT) {
-            return matchesAny(poi, NIGHT_ALLOW) || !matchesAny(poi, NIGHT_EXCLUDE);
-        }
-        return true;
+        boolean excluded = NIGHT_EXCLUDE.matches(searchText);
+        return new ThemeMatch(theme, NIGHT_ALLOW.matches(searchText), excluded, excluded);
     }
 
-    private boolean matchesAny(Poi poi, Set<String> keywords) {
-        for (String keyword : keywords) {
-            if (containsKeyword(poi, keyword)) {
-                return true;
+    record ThemeMatch(DriveTheme theme, boolean allowHit, boolean excludeHit, boolean relaxedExcludeHit) {
+
+        static final ThemeMatch NEUTRAL = new ThemeMatch(DriveTheme.DEFAULT, false, false, false);
+
+        boolean allowed() {
+            if (theme == DriveTheme.NATURE || theme == DriveTheme.CAFE) {
+                return allowHit && !excludeHit;
+            }
+            if (theme == DriveTheme.NIGHT) {
+                return allowHit || !excludeHit;
             }
+            return true;
         }
-        return false;
-    }
 
-    private boolean containsKeyword(Poi poi, String keyword) {
-        String normalizedKeyword = normalize(keyword);
-        if (normalizedKeyword.isBlank()) {
-            return false;
-        }
-        String name = normalize(poi.name());
-        String type = normalize(poi.type());
-        if (name.contains(normalizedKeyword) || type.contains(normalizedKeyword)) {
+        boolean relaxedAllowed() {
+            if (theme == DriveTheme.NATURE || theme == DriveTheme.CAFE) {
+                return !relaxedExcludeHit;
+            }
+            if (theme == DriveTheme.NIGHT) {
+                return allowHit || !excludeHit;
+            }
             return true;
         }
-        if (poi.tags() == null) {
-            return false;
-        }
-        return poi.tags().stream()
-            .map(this::normalize)
-            .anyMatch(tag -> tag.contains(normalizedKeyword));
-    }
 
-    private String normalize(String raw) {
-        if (raw == null) {
-            return "";
+        double score() {
+            if (theme == DriveTheme.NATURE) {
+                return allowHit ? 1.0 : 0.2;
+            }
+            if (theme == DriveTheme.CAFE) {
+                return allowHit && !excludeHit ? 1.0 : 0.2;
+            }
+            if (theme == DriveTheme.NIGHT) {
+                if (allowHit) {
+                    return 1.0;
+                }
+                return excludeHit ? 0.2 : 0.6;
+            }
+            return 0.6;
         }
-        return raw.toLowerCase(Locale.ROOT).replace(" ", "");
     }
 }
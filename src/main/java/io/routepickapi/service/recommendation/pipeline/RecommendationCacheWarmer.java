@@ -0,0 +1,192 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import io.routepickapi.entity.course.CourseRecommendationSave;
+import io.routepickapi.repository.CourseRecommendationSaveRepository;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
+import io.routepickapi.service.recommendation.RecommendationCacheService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자들이 많이 저장한 출발지/도착지/테마/시간 조합을 한가한 시간에 미리 돌려 Redis 의 POI 번들 캐시를 채운다.
+ * 조합은 캐시 key 와 같은 geohash 칸으로 묶어 센다. 외부 API 쿼터를 아끼려고 조합 수, 조합 사이 간격,
+ * 전체 실행 시간을 모두 제한하고, 여러 노드 중 Redis 락을 잡은 한 노드만 실행한다.
+ *
+ * <p>드라이브 스팟 시드는 출발지가 없어 구간을 만들 수 없고, 이미 DriveSpotService 가 메모리에 올려 두므로
+ * 예열 대상으로 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationCacheWarmer {
+
+    private static final int RECENT_SAVE_LIMIT = 2000;
+
+    private final CourseRecommendationSaveRepository courseRecommendationSaveRepository;
+    private final RecommendationFacade recommendationFacade;
+    private final RecommendationCacheService cacheService;
+    private final CacheCellPolicy cacheCellPolicy;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.enabled:false}")
+    private boolean enabled;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.top-n:30}")
+    private int topN;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.lookback-days:30}")
+    private int lookbackDays;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.pause-millis:2000}")
+    private long pauseMillis;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.max-run-minutes:20}")
+    private long maxRunMinutes;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.warmup.bundle-ttl-minutes:360}")
+    private long bundleTtlMinutes;
+
+    @Scheduled(cron = "${recommendation.warmup.cron:0 30 5 * * *}")
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Duration maxRun = Duration.ofMinutes(Math.max(1, maxRunMinutes));
+        if (!cacheService.tryLockWarmup(maxRun)) {
+            log.info("Recommendation warmup skipped - reason=locked");
+            return;
+        }
+        // 한참 걸리므로 스케줄러 스레드를 붙잡지 않게 따로 돌린다.
+        Thread.ofVirtual().name("recommendation-warmup").start(() -> run(maxRun));
+    }
+
+    private void run(Duration maxRun) {
+        long startedAt = System.nanoTime();
+        Instant deadline = Instant.now().plus(maxRun);
+        List<CourseRecommendationSave> saves;
+        try {
+            saves = courseRecommendationSaveRepository.findByCreatedAtAfterOrderByCreatedAtDesc(
+                LocalDateTime.now().minusDays(Math.max(1, lookbackDays)),
+                PageRequest.of(0, RECENT_SAVE_LIMIT)
+            );
+        } catch (Exception ex) {
+            log.warn("Recommendation warmup failed - reason=load_saves", ex);
+            return;
+        }
+        List<WarmupTarget> targets = popularTargets(saves, topN);
+        log.info("Recommendation warmup start - saves={}, targets={}", saves.size(), targets.size());
+
+        Duration bundleTtl = Duration.ofMinutes(Math.max(1, bundleTtlMinutes));
+        int warmed = 0;
+        int failed = 0;
+        for (WarmupTarget target : targets) {
+            if (Instant.now().isAfter(deadline)) {
+                log.info("Recommendation warmup stopped - reason=deadline, remaining={}",
+                    targets.size() - warmed - failed);
+                break;
+            }
+            try {
+                recommendationFacade.prewarm(target.toCommand(), bundleTtl);
+                warmed++;
+            } catch (Exception ex) {
+                failed++;
+                log.warn("Recommendation warmup target failed - theme={}, durationMinutes={}, saves={}",
+                    target.theme(), target.durationMinutes(), target.saves(), ex);
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("Recommendation warmup done - warmed={}, failed={}, elapsedMillis={}",
+            warmed, failed, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 저장 코스를 캐시 key 와 같은 칸 단위로 묶어 많이 저장된 순서로 고른다. 수가 같으면 최근 것이 앞선다.
+     * 조합의 좌표는 그 묶음에서 가장 최근에 저장된 코스의 것을 쓴다.
+     */
+    List<WarmupTarget> popularTargets(List<CourseRecommendationSave> saves, int limit) {
+        Map<String, WarmupTarget> grouped = new LinkedHashMap<>();
+        for (CourseRecommendationSave save : saves) {
+            String key = cacheCellPolicy.cellKey(save.getOriginLat(), save.getOriginLng(), save.getDurationMinutes())
+                + ":" + cacheCellPolicy.cellKey(save.getDestinationLat(), save.getDestinationLng(),
+                    save.getDurationMinutes())
+                + ":" + save.getTheme()
+                + ":" + save.getDurationMinutes();
+            grouped.merge(key, WarmupTarget.of(save), (current, ignored) -> current.withOneMore());
+        }
+        List<WarmupTarget> targets = new ArrayList<>(grouped.values());
+        // 안정 정렬이라 같은 수끼리는 최근 저장 순서가 유지된다.
+        targets.sort(Comparator.comparingInt(WarmupTarget::saves).reversed());
+        return targets.subList(0, Math.min(Math.max(0, limit), targets.size()));
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    record WarmupTarget(
+        double originLat,
+        double originLng,
+        double destinationLat,
+        double destinationLng,
+        String theme,
+        Integer durationMinutes,
+        Integer maxStops,
+        int saves
+    ) {
+
+        static WarmupTarget of(CourseRecommendationSave save) {
+            return new WarmupTarget(
+                save.getOriginLat(),
+                save.getOriginLng(),
+                save.getDestinationLat(),
+                save.getDestinationLng(),
+                save.getTheme(),
+                save.getDurationMinutes(),
+                save.getMaxStops(),
+                1
+            );
+        }
+
+        WarmupTarget withOneMore() {
+            return new WarmupTarget(originLat, originLng, destinationLat, destinationLng, theme, durationMinutes,
+                maxStops, saves + 1);
+        }
+
+        DriveCourseCommand toCommand() {
+            return new DriveCourseCommand(
+                "warmup",
+                originLat,
+                originLng,
+                destinationLat,
+                destinationLng,
+                theme,
+                durationMinutes,
+                maxStops,
+                null,
+                true,
+                List.of()
+            );
+        }
+    }
+}
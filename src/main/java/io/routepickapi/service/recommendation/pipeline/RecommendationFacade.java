@@ -12,6 +12,7 @@ import io.routepickapi.infrastructure.client.kakao.dto.KakaoCoordDocument;
 import io.routepickapi.infrastructure.client.kakao.dto.KakaoCoordToAddressResponse;
 import io.routepickapi.infrastructure.client.weather.WeatherClient;
 import io.routepickapi.infrastructure.client.weather.dto.WeatherItem;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
 import io.routepickapi.service.recommendation.RecommendationCacheService;
 import io.routepickapi.service.recommendation.RouteCorridor;
 import io.routepickapi.service.recommendation.RouteMetrics;
@@ -19,6 +20,7 @@ import io.routepickapi.service.recommendation.RouteMetricsService;
 import io.routepickapi.weather.GridConverter;
 import io.routepickapi.weather.WeatherBaseTimeCalculator;
 import io.routepickapi.weather.WeatherBaseTimeCalculator.BaseDateTime;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,9 +31,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Service
@@ -112,8 +119,11 @@ public class RecommendationFacade {
     private final WeatherClient weatherClient;
     private final RouteMetricsService routeMetricsService;
     private final RecommendationCacheService cacheService;
+    private final CacheCellPolicy cacheCellPolicy;
     private final WeatherBaseTimeCalculator weatherBaseTimeCalculator = new WeatherBaseTimeCalculator();
     private final GridConverter gridConverter = new GridConverter();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
 
     @org.springframework.beans.factory.annotation.Value("${recommendation.cap.course-plans:3}")
     private int coursePlanCap;
@@ -122,6 +132,14 @@ public class RecommendationFacade {
     private int routingCandidateCap;
 
     public DriveCourseResult recommend(DriveCourseCommand command) {
+        return recommend(command, RecommendationProgressListener.NONE);
+    }
+
+    /**
+     * 최종 결과 전에 큐레이션 스팟만으로 만든 코스와 외부 POI 까지 합친 코스를 listener 로 먼저 내보낸다.
+     * 캐시 적중 시에는 중간 결과 없이 최종 결과만 돌려준다.
+     */
+    public DriveCourseResult recommend(DriveCourseCommand command, RecommendationProgressListener listener) {
         if (command == null) {
             throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "추천 요청이 비어있습니다.");
         }
@@ -147,13 +165,19 @@ public class RecommendationFacade {
 
         List<IncludeStopRequest> includeStops = normalizeIncludeStops(command.includeStops());
         String cacheKey = buildResultCacheKey(command, includeStops);
-        DriveCourseResult cached = cacheService.getDriveCourseResult(cacheKey);
-        if (cached != null) {
-            log.info("Recommendation cache hit - requestId={}, key={}", requestId, cacheKey);
+        RecommendationCacheService.ResultEntry cachedEntry = cacheService.getDriveCourseResult(cacheKey);
+        if (cachedEntry != null && cachedEntry.result() != null) {
+            boolean stale = cachedEntry.isStale(System.currentTimeMillis());
+            log.info("Recommendation cache hit - requestId={}, key={}, stale={}", requestId, cacheKey, stale);
+            if (stale) {
+                refreshInBackground(command, includeStops, cacheKey, requestId);
+            }
+            DriveCourseResult cached = cachedEntry.result();
+            // 같은 칸의 다른 좌표로 만든 결과일 수 있으므로 출발지는 이번 요청 값으로 돌려준다.
             return new DriveCourseResult(
                 requestId,
-                cached.originLat(),
-                cached.originLng(),
+                command.originLat(),
+                command.originLng(),
                 cached.departureTime(),
                 cached.courses(),
                 cached.recommendedStops(),
@@ -161,6 +185,73 @@ public class RecommendationFacade {
             );
         }
         log.info("Recommendation cache miss - requestId={}, key={}", requestId, cacheKey);
+        return runPipeline(command, requestId, includeStops, cacheKey, listener);
+    }
+
+    /**
+     * 오래된 캐시 결과를 내어준 뒤 같은 요청으로 파이프라인을 한 번 더 돌려 캐시를 갱신한다.
+     * 노드 안에서는 refreshingKeys 로, 노드 사이에서는 Redis 락으로 key 당 한 번만 돌린다.
+     */
+    private void refreshInBackground(
+        DriveCourseCommand command,
+        List<IncludeStopRequest> includeStops,
+        String cacheKey,
+        String requestId
+    ) {
+        if (!refreshingKeys.add(cacheKey)) {
+            return;
+        }
+        String refreshRequestId = requestId + "-refresh";
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    if (!cacheService.tryLockResultRefresh(cacheKey)) {
+                        log.info("Recommendation refresh skipped - requestId={}, key={}, reason=locked",
+                            refreshRequestId, cacheKey);
+                        return;
+                    }
+                    log.info("Recommendation refresh start - requestId={}, key={}", refreshRequestId, cacheKey);
+                    runPipeline(command, refreshRequestId, includeStops, cacheKey, RecommendationProgressListener.NONE);
+                } catch (Exception ex) {
+                    log.warn("Recommendation refresh failed - requestId={}, key={}", refreshRequestId, cacheKey, ex);
+                } finally {
+                    refreshingKeys.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshingKeys.remove(cacheKey);
+            log.warn("Recommendation refresh rejected - requestId={}, key={}", refreshRequestId, cacheKey);
+        }
+    }
+
+    /**
+     * 추천 파이프라인이 쓰는 것과 같은 key 로 Redis 의 POI 번들 캐시를 채운다. 코스 생성과 경로 계산은 하지 않는다.
+     * 경로 polyline 은 노드 로컬 캐시라 다른 노드에서 보이지 않고, 경로 지표는 TTL 이 10분이라
+     * 피크 전에 사라지므로 예열하지 않는다.
+     */
+    public void prewarm(DriveCourseCommand command, Duration bundleTtl) {
+        if (command == null || command.destinationLat() == null || command.destinationLng() == null) {
+            throw new CustomException(ErrorType.COMMON_INVALID_INPUT, "destination 좌표가 필요합니다.");
+        }
+        validateCoordinates(command.originLat(), command.originLng());
+        validateCoordinates(command.destinationLat(), command.destinationLng());
+        DriveTheme themeType = DriveTheme.fromRaw(command.theme());
+        int radius = resolveRadius(command.durationMinutes());
+        poiCollectorService.collect(buildCollectionRequest(command, radius, themeType), bundleTtl);
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private DriveCourseResult runPipeline(
+        DriveCourseCommand command,
+        String requestId,
+        List<IncludeStopRequest> includeStops,
+        String cacheKey,
+        RecommendationProgressListener listener
+    ) {
         if (!includeStops.isEmpty()) {
             log.info("Include stops applied - requestId={}, count={}", requestId, includeStops.size());
         }
@@ -187,6 +278,7 @@ public class RecommendationFacade {
             originPoint,
             destinationPoint
         );
+        PoiFeatureTable poiFeatures = new PoiFeatureTable(themeType, routePath, poiThemePolicy);
         DriveSpotService.DriveSpotStats driveSpotStats = driveSpotService.fetchStats("nature");
         log.info(
             "DriveSpot stats - requestId={}, total={}, active={}, activeNature={}",
@@ -216,24 +308,30 @@ public class RecommendationFacade {
             routeMetrics.maxDetourKm()
         );
 
-        List<Poi> curatedPois = driveSpotService.collectActiveSpots();
-        int curatedTotal = curatedPois.size();
+        // filterByCorridor 가 중간 구간에서 반경을 1.5배까지 넓히므로 색인 조회는 넓힌 반경 기준으로 한다.
+        double curatedSearchRadiusKm = routeMetrics.corridorRadiusKm() * (routePath == null ? 1.0 : 1.5);
+        List<Poi> curatedPois = driveSpotService.collectSpotsNearRoute(
+            originPoint,
+            destinationPoint,
+            curatedSearchRadiusKm
+        );
+        int curatedTotal = driveSpotService.activeSpotCount();
         List<Poi> curatedThemeFiltered = curatedPois.stream()
-            .filter(poi -> poiThemePolicy.isAllowed(poi, themeType))
+            .filter(poi -> poi == null || poiFeatures.get(poi).themeMatch().allowed())
             .toList();
-        log.info("Curated theme filter - requestId={}, before={}, after={}",
-            requestId, curatedTotal, curatedThemeFiltered.size());
+        log.info("Curated theme filter - requestId={}, active={}, nearRoute={}, after={}",
+            requestId, curatedTotal, curatedPois.size(), curatedThemeFiltered.size());
         List<Poi> curatedCorridor = filterByCorridor(
             curatedThemeFiltered,
             corridor,
             routeMetrics,
-            routePath,
+            poiFeatures,
             requestId,
             false
         );
         log.info("Curated radius filter - requestId={}, before={}, after={}",
             requestId, curatedThemeFiltered.size(), curatedCorridor.size());
-        List<Poi> curatedFiltered = poiFilterService.filter(curatedCorridor, DriveTheme.DEFAULT, requestId);
+        List<Poi> curatedFiltered = poiFilterService.filter(curatedCorridor, DriveTheme.DEFAULT, requestId, poiFeatures);
         log.info("Curated POI 준비 완료 - requestId={}, curated={}, filtered={}",
             requestId, curatedTotal, curatedFiltered.size());
 
@@ -242,20 +340,58 @@ public class RecommendationFacade {
         int externalMin = themedRequest ? Math.max(3, candidateTarget / 2) : 0;
         int curatedMax = themedRequest ? Math.max(0, candidateTarget - externalMin) : candidateTarget;
         int remaining = Math.max(0, candidateTarget - curatedFiltered.size());
+        int planLimit = resolveCap(coursePlanCap, DEFAULT_COURSE_LIMIT);
+        List<Poi> includePois = buildIncludePois(includeStops);
+        String region = resolveRegion(command.originLng(), command.originLat());
+        PreviewContext previewContext = new PreviewContext(
+            requestId,
+            command,
+            departureTime,
+            originPoint,
+            destinationPoint,
+            region,
+            theme,
+            themeType,
+            routeMetrics,
+            routePath,
+            planLimit
+        );
+        if (listener != RecommendationProgressListener.NONE && !curatedFiltered.isEmpty()) {
+            List<PoiScoringService.ScoredPoi> curatedScored = poiScoringService.score(
+                    filterOriginCluster(curatedFiltered, originPoint, poiFeatures, requestId),
+                    themeType,
+                    routeMetrics,
+                    routePath,
+                    poiFeatures
+                ).stream()
+                .limit(candidateTarget)
+                .toList();
+            List<Poi> curatedCandidates = curatedScored.stream()
+                .map(PoiScoringService.ScoredPoi::poi)
+                .toList();
+            List<CoursePlan> curatedPlans = courseGenerationService.generate(
+                curatedCandidates,
+                includePois,
+                maxStops,
+                planLimit,
+                CourseGenerationService.SearchSpec.forScored(
+                    curatedScored,
+                    originPoint,
+                    destinationPoint,
+                    command.durationMinutes()
+                )
+            );
+            publishPreview(
+                listener,
+                RecommendationProgressListener.Stage.CURATED,
+                previewContext,
+                curatedPlans,
+                curatedCandidates.stream().limit(5).toList()
+            );
+        }
         RawPoiBundle rawPoiBundle = new RawPoiBundle(List.of(), List.of());
         if (themedRequest || remaining > 0) {
-            List<String> tourContentTypes = themeType == DriveTheme.CAFE ? List.of() : null;
-            PoiCollectionRequest collectionRequest = new PoiCollectionRequest(
-                command.originLat(),
-                command.originLng(),
-                command.destinationLat(),
-                command.destinationLng(),
-                radius,
-                resolveKakaoKeywords(themeType),
-                tourContentTypes
-            );
-
-            rawPoiBundle = poiCollectorService.collect(collectionRequest);
+            rawPoiBundle = poiCollectorService.collect(buildCollectionRequest(command, radius, themeType));
             Map<String, Integer> rawCounts = countRawPois(rawPoiBundle);
             log.info(
                 "POI 자동 수집 완료 - requestId={}, kakao={}, tour={}, total={}",
@@ -277,26 +413,26 @@ public class RecommendationFacade {
             pois,
             corridor,
             routeMetrics,
-            routePath,
+            poiFeatures,
             requestId,
             true
         );
         List<Poi> combined = new java.util.ArrayList<>();
         combined.addAll(curatedFiltered);
         combined.addAll(corridorFiltered);
-        List<Poi> filtered = poiFilterService.filter(combined, themeType, requestId);
-        List<Poi> originFiltered = filterOriginCluster(filtered, originPoint, requestId);
+        List<Poi> filtered = poiFilterService.filter(combined, themeType, requestId, poiFeatures);
+        List<Poi> originFiltered = filterOriginCluster(filtered, originPoint, poiFeatures, requestId);
         if (originFiltered.isEmpty() && !combined.isEmpty()) {
             log.info("Candidate fallback - requestId={}, reason=empty-after-filters", requestId);
-            List<Poi> relaxedTheme = poiFilterService.filterRelaxed(combined, themeType, requestId);
-            List<Poi> relaxedOrigin = filterOriginCluster(relaxedTheme, originPoint, requestId);
+            List<Poi> relaxedTheme = poiFilterService.filterRelaxed(combined, themeType, requestId, poiFeatures);
+            List<Poi> relaxedOrigin = filterOriginCluster(relaxedTheme, originPoint, poiFeatures, requestId);
             originFiltered = relaxedOrigin.isEmpty() ? relaxedTheme : relaxedOrigin;
         }
         originFiltered = new java.util.ArrayList<>(originFiltered);
         if (themedRequest && originFiltered.size() < candidateTarget && !combined.isEmpty()) {
             int supplementLimit = Math.min(3, candidateTarget - originFiltered.size());
             if (supplementLimit > 0) {
-                List<Poi> supplementPool = poiFilterService.filter(combined, DriveTheme.DEFAULT, requestId);
+                List<Poi> supplementPool = poiFilterService.filter(combined, DriveTheme.DEFAULT, requestId, poiFeatures);
                 java.util.Set<String> existing = originFiltered.stream()
                     .map(this::poiKey)
                     .collect(java.util.stream.Collectors.toSet());
@@ -304,7 +440,8 @@ public class RecommendationFacade {
                     supplementPool.stream().filter(poi -> !existing.contains(poiKey(poi))).toList(),
                     themeType,
                     routeMetrics,
-                    routePath
+                    routePath,
+                    poiFeatures
                 );
                 List<Poi> supplementSelections = supplementScores.stream()
                     .sorted(java.util.Comparator.comparingDouble(PoiScoringService.ScoredPoi::totalScore).reversed())
@@ -319,7 +456,8 @@ public class RecommendationFacade {
             originFiltered,
             themeType,
             routeMetrics,
-            routePath
+            routePath,
+            poiFeatures
         );
         List<Poi> recommendedStops = scoredCandidates.stream()
             .limit(5)
@@ -337,17 +475,27 @@ public class RecommendationFacade {
         log.info("POI 필터링 완료 - requestId={}, filtered={}, capped={}, curatedUsed={}",
             requestId, originFiltered.size(), cappedCandidates.size(), curatedUsed);
 
-        int planLimit = resolveCap(coursePlanCap, DEFAULT_COURSE_LIMIT);
-        List<Poi> includePois = buildIncludePois(includeStops);
         List<CoursePlan> plans = courseGenerationService.generate(
             cappedCandidates,
             includePois,
             maxStops,
-            planLimit
+            planLimit,
+            CourseGenerationService.SearchSpec.forScored(
+                scoredCandidates,
+                originPoint,
+                destinationPoint,
+                command.durationMinutes()
+            )
         );
         log.info("코스 조합 생성 완료 - requestId={}, plans={}", requestId, plans.size());
+        publishPreview(
+            listener,
+            RecommendationProgressListener.Stage.ENRICHED,
+            previewContext,
+            plans,
+            recommendedStops
+        );
 
-        String region = resolveRegion(command.originLng(), command.originLat());
         List<Course> courses = routeCalculationService.calculate(plans, originPoint, destinationPoint, region, theme);
         List<Course> routingValidCourses = filterInvalidRouting(courses, requestId);
         log.info("경로 계산 완료 - requestId={}, courses={}", requestId, routingValidCourses.size());
@@ -424,16 +572,20 @@ public class RecommendationFacade {
         boolean lowQuality = isLowQuality(courses);
         String reason = "normal";
         java.time.Duration ttl = cacheService.resultTtl();
+        java.time.Duration staleTtl = cacheService.resultStaleTtl();
+        // 품질이 낮은 결과는 짧게만 두고, 만료 뒤 오래된 상태로 내어주지 않는다.
         if (fallbackOnly) {
             reason = "fallback_only";
             ttl = cacheService.shortResultTtl();
+            staleTtl = java.time.Duration.ZERO;
         } else if (lowQuality) {
             reason = "low_quality";
             ttl = cacheService.shortResultTtl();
+            staleTtl = java.time.Duration.ZERO;
         }
-        cacheService.putDriveCourseResult(cacheKey, result, ttl);
-        log.info("Recommendation cache save - requestId={}, reason={}, ttlSeconds={}",
-            requestId, reason, ttl.toSeconds());
+        cacheService.putDriveCourseResult(cacheKey, result, ttl, staleTtl);
+        log.info("Recommendation cache save - requestId={}, reason={}, ttlSeconds={}, staleSeconds={}",
+            requestId, reason, ttl.toSeconds(), staleTtl.toSeconds());
     }
 
     private boolean isFallbackOnly(List<Course> courses) {
@@ -676,9 +828,9 @@ public class RecommendationFacade {
         return "drive-course:"
             + safeKey(recommendationCacheVersion)
             + ":"
-            + String.format("%.5f,%.5f", command.originLat(), command.originLng())
+            + cacheCellPolicy.cellKey(command.originLat(), command.originLng(), command.durationMinutes())
             + ":"
-            + String.format("%.5f,%.5f", command.destinationLat(), command.destinationLng())
+            + cacheCellPolicy.cellKey(command.destinationLat(), command.destinationLng(), command.durationMinutes())
             + ":theme=" + safeKey(command.theme())
             + ":duration=" + command.durationMinutes()
             + ":maxStops=" + command.maxStops()
@@ -712,7 +864,13 @@ public class RecommendationFacade {
     }
 
     private String resolveRegion(double longitude, double latitude) {
-        KakaoCoordToAddressResponse response = kakaoLocalClient.coordToAddress(longitude, latitude);
+        KakaoCoordToAddressResponse response;
+        try {
+            response = kakaoLocalClient.coordToAddress(longitude, latitude);
+        } catch (RestClientException ex) {
+            log.warn("Region lookup skipped - reason={}", ex.getMessage());
+            return "UNKNOWN";
+        }
         if (response == null || response.documents() == null || response.documents().isEmpty()) {
             return "UNKNOWN";
         }
@@ -757,6 +915,79 @@ public class RecommendationFacade {
         return buildWeatherSnapshot(items);
     }
 
+    /**
+     * 라우팅 없이 추정 거리로 코스를 만들어 최종 결과와 같은 점수/시간/다양성 기준을 적용한 뒤 내보낸다.
+     * listener 쪽 오류는 추천 자체를 실패시키지 않는다.
+     */
+    private void publishPreview(
+        RecommendationProgressListener listener,
+        RecommendationProgressListener.Stage stage,
+        PreviewContext context,
+        List<CoursePlan> plans,
+        List<Poi> recommendedStops
+    ) {
+        if (listener == RecommendationProgressListener.NONE || plans == null || plans.isEmpty()) {
+            return;
+        }
+        Integer durationMinutes = context.command().durationMinutes();
+        List<Course> estimated = routeCalculationService.estimate(
+            plans,
+            context.origin(),
+            context.destination(),
+            context.region(),
+            context.theme()
+        );
+        List<Course> scored = recommendationScoringService.score(
+            estimated,
+            context.themeType(),
+            context.routeMetrics(),
+            context.routePath(),
+            durationMinutes
+        );
+        List<Course> diverse = selectDiverseCourses(
+            applyDurationFilter(scored, durationMinutes, context.planLimit()),
+            context.planLimit(),
+            context.requestId()
+        );
+        List<Course> courses = applyFinalDurationLimit(
+            diverse,
+            durationMinutes,
+            context.planLimit(),
+            context.requestId()
+        );
+        log.info("Partial result published - requestId={}, stage={}, plans={}, courses={}",
+            context.requestId(), stage, plans.size(), courses.size());
+        try {
+            listener.onPartialResult(stage, new DriveCourseResult(
+                context.requestId(),
+                context.command().originLat(),
+                context.command().originLng(),
+                context.departureTime(),
+                courses,
+                recommendedStops,
+                LocalDateTime.now()
+            ));
+        } catch (RuntimeException ex) {
+            log.warn("Partial result listener failed - requestId={}, stage={}, reason={}",
+                context.requestId(), stage, ex.getMessage());
+        }
+    }
+
+    private record PreviewContext(
+        String requestId,
+        DriveCourseCommand command,
+        LocalDateTime departureTime,
+        GeoPoint origin,
+        GeoPoint destination,
+        String region,
+        String theme,
+        DriveTheme themeType,
+        RouteMetrics routeMetrics,
+        io.routepickapi.service.recommendation.RoutePath routePath,
+        int planLimit
+    ) {
+    }
+
     private List<Course> applyDurationFilter(
         List<Course> courses,
         Integer durationMinutes,
@@ -808,8 +1039,7 @@ public class RecommendationFacade {
         if (durationMinutes == null || durationMinutes <= 0) {
             return courses;
         }
-        int extra = Math.max(40, Math.round(durationMinutes * 0.6f));
-        long finalMaxMinutes = durationMinutes + extra;
+        long finalMaxMinutes = CourseDurationLimit.finalMaxMinutes(durationMinutes);
         List<Course> filtered = courses.stream()
             .filter(course -> course != null && course.totalDuration() != null
                 && course.totalDuration().toMinutes() <= finalMaxMinutes)
@@ -828,8 +1058,7 @@ public class RecommendationFacade {
             return filtered;
         }
 
-        int fallbackExtra = Math.min(20, Math.round(durationMinutes * 0.3f));
-        long fallbackMaxMinutes = finalMaxMinutes + fallbackExtra;
+        long fallbackMaxMinutes = CourseDurationLimit.fallbackMaxMinutes(durationMinutes);
         List<Course> fallbackCandidates = courses.stream()
             .filter(course -> course != null && course.totalDuration() != null)
             .filter(course -> course.totalDuration().toMinutes() <= fallbackMaxMinutes)
@@ -1027,7 +1256,12 @@ public class RecommendationFacade {
         }
     }
 
-    private List<Poi> filterOriginCluster(List<Poi> pois, GeoPoint origin, String requestId) {
+    private List<Poi> filterOriginCluster(
+        List<Poi> pois,
+        GeoPoint origin,
+        PoiFeatureTable features,
+        String requestId
+    ) {
         if (pois == null || pois.isEmpty()) {
             return List.of();
         }
@@ -1040,7 +1274,7 @@ public class RecommendationFacade {
             if (poi == null) {
                 continue;
             }
-            GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
+            GeoPoint point = features.get(poi).point();
             double distance = io.routepickapi.service.recommendation.GeoUtils.distanceKm(origin, point);
             if (distance < ORIGIN_CLUSTER_LIMIT_KM) {
                 removed++;
@@ -1147,7 +1381,7 @@ public class RecommendationFacade {
         List<Poi> pois,
         RouteCorridor corridor,
         RouteMetrics routeMetrics,
-        io.routepickapi.service.recommendation.RoutePath routePath,
+        PoiFeatureTable features,
         String requestId,
         boolean fallbackToOriginal
     ) {
@@ -1163,12 +1397,13 @@ public class RecommendationFacade {
                 removed++;
                 continue;
             }
-            GeoPoint point = new GeoPoint(poi.lng(), poi.lat());
+            PoiFeatureTable.Features feature = features.get(poi);
+            GeoPoint point = feature.point();
             double corridorRadiusKm = routeMetrics.corridorRadiusKm();
             double maxDetourKm = routeMetrics.maxDetourKm();
             double maxDelayMinutes = routeMetrics.maxDelayMinutes();
-            if (routePath != null) {
-                double progressRatio = routePath.progressRatio(point);
+            if (feature.location() != null) {
+                double progressRatio = feature.location().progressRatio();
                 if (progressRatio >= 0.2 && progressRatio <= 0.8) {
                     corridorRadiusKm *= 1.5;
                     maxDetourKm *= 1.5;
@@ -1214,6 +1449,20 @@ public class RecommendationFacade {
         return filtered;
     }
 
+    private PoiCollectionRequest buildCollectionRequest(DriveCourseCommand command, int radius, DriveTheme themeType) {
+        List<String> tourContentTypes = themeType == DriveTheme.CAFE ? List.of() : null;
+        return new PoiCollectionRequest(
+            command.originLat(),
+            command.originLng(),
+            command.destinationLat(),
+            command.destinationLng(),
+            radius,
+            command.durationMinutes(),
+            resolveKakaoKeywords(themeType),
+            tourContentTypes
+        );
+    }
+
     private List<String> resolveKakaoKeywords(DriveTheme theme) {
         if (theme == DriveTheme.NATURE) {
             return KAKAO_NATURE_KEYWORDS;
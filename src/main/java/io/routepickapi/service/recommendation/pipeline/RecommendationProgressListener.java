@@ -0,0 +1,34 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+/**
+ * 추천 파이프라인 중간 결과를 받는 콜백. 스트리밍 응답에서 최종 결과보다 먼저 코스를 내려줄 때 쓴다.
+ * 중간 결과의 코스는 라우팅 API 대신 직선 거리 추정치로 계산된 것이다.
+ */
+public interface RecommendationProgressListener {
+
+    RecommendationProgressListener NONE = (stage, partial) -> {
+    };
+
+    void onPartialResult(Stage stage, DriveCourseResult partial);
+
+    enum Stage {
+        /**
+         * DB 에 있는 큐레이션 스팟만으로 만든 코스.
+         */
+        CURATED("curated"),
+        /**
+         * 외부 POI 까지 합친 후보로 만든 코스. 실제 라우팅 전이다.
+         */
+        ENRICHED("enriched");
+
+        private final String eventName;
+
+        Stage(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+}
@@ -7,13 +7,22 @@ import io.routepickapi.domain.recommendation.ScoreBreakdown;
 import io.routepickapi.dto.recommendation.GeoPoint;
 import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient;
 import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.SegmentResult;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.WaypointResult;
 import io.routepickapi.infrastructure.client.routing.dto.Coordinate;
+import io.routepickapi.service.recommendation.ExternalFanOutExecutor;
 import io.routepickapi.service.recommendation.RecommendationCacheService;
 import io.routepickapi.service.recommendation.RouteMetricsService.RouteLegMetrics;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,6 +34,19 @@ public class RouteCalculationService {
 
     private final KakaoRoutingClient routingClient;
     private final RecommendationCacheService cacheService;
+    private final ExternalFanOutExecutor fanOutExecutor;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.routing.concurrent:true}")
+    private boolean concurrentRouting;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.routing.deadline-millis:4000}")
+    private long routingDeadlineMillis;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.routing.concurrency:4}")
+    private int routingConcurrency;
+
+    @org.springframework.beans.factory.annotation.Value("${recommendation.routing.waypoints.enabled:true}")
+    private boolean waypointRouting;
 
     public List<Course> calculate(
         List<CoursePlan> plans,
@@ -37,6 +59,14 @@ public class RouteCalculationService {
             return List.of();
         }
 
+        Function<Leg, RouteLegMetrics> legResolver;
+        if (concurrentRouting && origin != null && destination != null) {
+            Map<String, RouteLegMetrics> resolved = resolveLegsConcurrently(plans, origin, destination);
+            legResolver = leg -> resolved.get(buildSegmentCacheKey(leg.from(), leg.to()));
+        } else {
+            legResolver = leg -> fetchSegmentMetrics(leg.from(), leg.to());
+        }
+
         List<Course> courses = new ArrayList<>();
         int routingRequests = 0;
         int routingFailures = 0;
@@ -68,53 +98,13 @@ public class RouteCalculationService {
             }
 
             routingRequests++;
-            List<CourseStop> courseStops = new ArrayList<>();
-            double totalDistance = 0.0;
-            Duration totalDuration = Duration.ZERO;
-            boolean invalid = false;
-            GeoPoint previous = origin;
-
-            for (int index = 0; index < stops.size(); index++) {
-                Poi poi = stops.get(index);
-                GeoPoint current = new GeoPoint(poi.lng(), poi.lat());
-                RouteLegMetrics segment = fetchSegmentMetrics(previous, current);
-                if (segment == null) {
-                    invalid = true;
-                    break;
-                }
-                double segmentDistance = segment.distanceKm();
-                Duration segmentDuration = toDuration(segment.durationMinutes());
-                if (segmentDistance > 0 && segmentDuration.isZero()) {
-                    invalid = true;
-                    break;
-                }
-                totalDistance += segmentDistance;
-                totalDuration = totalDuration.plus(segmentDuration).plus(poi.stayDuration());
-                courseStops.add(new CourseStop(
-                    index,
-                    poi,
-                    poi.stayDuration(),
-                    segmentDistance,
-                    segmentDuration,
-                    !segment.routingSuccess()
-                ));
-                previous = current;
-            }
-
-            RouteLegMetrics finalSegment = invalid ? null : fetchSegmentMetrics(previous, destination);
-            if (finalSegment == null) {
-                invalid = true;
-            } else {
-                double finalLegDistance = finalSegment.distanceKm();
-                Duration finalLegDuration = toDuration(finalSegment.durationMinutes());
-                if (finalLegDistance > 0 && finalLegDuration.isZero()) {
-                    invalid = true;
-                }
-                totalDistance += finalLegDistance;
-                totalDuration = totalDuration.plus(finalLegDuration);
-            }
-
-            if (invalid || totalDistance <= 1.0) {
+            // 병렬 경로는 resolveLegsConcurrently 에서 이미 경유지 호출을 마쳤다.
+            boolean blocked = !concurrentRouting
+                && prefetchWaypointSections(planLegs(stops, origin, destination)).blocked();
+            Course routed = blocked
+                ? null
+                : buildRoutedCourse(stops, origin, destination, region, theme, legResolver);
+            if (routed == null) {
                 routingFailures++;
                 fallbackOnly = true;
                 Course fallback = buildFallbackCourse(stops, origin, destination, region, theme);
@@ -126,31 +116,284 @@ public class RouteCalculationService {
             }
 
             routingSuccess++;
-            courses.add(new Course(
-                null,
-                region,
-                theme,
-                totalDistance,
-                totalDuration,
-                0.0,
-                courseStops,
-                new ScoreBreakdown(0, 0, 0, 0, 0, List.of()),
-                LocalDateTime.now()
-            ));
+            courses.add(routed);
         }
 
         log.info(
-            "Routing summary - requests={}, success={}, failures={}, fallbackCourses={}, fallbackOnly={}",
+            "Routing summary - requests={}, success={}, failures={}, fallbackCourses={}, fallbackOnly={}, concurrent={}",
             routingRequests,
             routingSuccess,
             routingFailures,
             fallbackCourses,
-            fallbackOnly
+            fallbackOnly,
+            concurrentRouting
         );
         log.info("경로 계산 완료 - count={}", courses.size());
         return courses;
     }
 
+    /**
+     * 라우팅 API 를 부르지 않고 직선 거리 추정치로만 코스를 만든다. 스트리밍 응답의 중간 결과용이다.
+     */
+    public List<Course> estimate(
+        List<CoursePlan> plans,
+        GeoPoint origin,
+        GeoPoint destination,
+        String region,
+        String theme
+    ) {
+        if (plans == null || plans.isEmpty()) {
+            return List.of();
+        }
+        List<Course> courses = new ArrayList<>();
+        for (CoursePlan plan : plans) {
+            Course estimated = buildFallbackCourse(plan.stops(), origin, destination, region, theme);
+            if (estimated != null) {
+                courses.add(estimated);
+            }
+        }
+        return courses;
+    }
+
+    private Course buildRoutedCourse(
+        List<Poi> stops,
+        GeoPoint origin,
+        GeoPoint destination,
+        String region,
+        String theme,
+        Function<Leg, RouteLegMetrics> legResolver
+    ) {
+        List<CourseStop> courseStops = new ArrayList<>();
+        double totalDistance = 0.0;
+        Duration totalDuration = Duration.ZERO;
+        GeoPoint previous = origin;
+
+        for (int index = 0; index < stops.size(); index++) {
+            Poi poi = stops.get(index);
+            GeoPoint current = new GeoPoint(poi.lng(), poi.lat());
+            RouteLegMetrics segment = legResolver.apply(new Leg(previous, current));
+            if (segment == null) {
+                return null;
+            }
+            double segmentDistance = segment.distanceKm();
+            Duration segmentDuration = toDuration(segment.durationMinutes());
+            if (segmentDistance > 0 && segmentDuration.isZero()) {
+                return null;
+            }
+            totalDistance += segmentDistance;
+            totalDuration = totalDuration.plus(segmentDuration).plus(poi.stayDuration());
+            courseStops.add(new CourseStop(
+                index,
+                poi,
+                poi.stayDuration(),
+                segmentDistance,
+                segmentDuration,
+                !segment.routingSuccess()
+            ));
+            previous = current;
+        }
+
+        RouteLegMetrics finalSegment = legResolver.apply(new Leg(previous, destination));
+        if (finalSegment == null) {
+            return null;
+        }
+        double finalLegDistance = finalSegment.distanceKm();
+        Duration finalLegDuration = toDuration(finalSegment.durationMinutes());
+        if (finalLegDistance > 0 && finalLegDuration.isZero()) {
+            return null;
+        }
+        totalDistance += finalLegDistance;
+        totalDuration = totalDuration.plus(finalLegDuration);
+
+        if (totalDistance <= 1.0) {
+            return null;
+        }
+
+        return new Course(
+            null,
+            region,
+            theme,
+            totalDistance,
+            totalDuration,
+            0.0,
+            courseStops,
+            new ScoreBreakdown(0, 0, 0, 0, 0, List.of()),
+            LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 모든 코스의 구간을 모아 같은 출발/도착 쌍은 한 번만 조회하고, 구간들을 병렬로 계산한다.
+     * 먼저 코스마다 경유지 호출 한 번으로 구간들을 채우고, 남은 구간만 구간별로 조회한다.
+     * 제공자가 차단(401/403/429)이나 오류를 돌려주면 아직 시작하지 않은 구간은 호출하지 않는다.
+     */
+    private Map<String, RouteLegMetrics> resolveLegsConcurrently(
+        List<CoursePlan> plans,
+        GeoPoint origin,
+        GeoPoint destination
+    ) {
+        Map<String, Leg> uniqueLegs = new LinkedHashMap<>();
+        List<List<Leg>> coursesLegs = new ArrayList<>();
+        int totalLegs = 0;
+        for (CoursePlan plan : plans) {
+            List<Poi> stops = plan.stops();
+            if (stops == null || stops.size() < 2) {
+                continue;
+            }
+            List<Leg> courseLegs = planLegs(stops, origin, destination);
+            for (Leg leg : courseLegs) {
+                uniqueLegs.putIfAbsent(buildSegmentCacheKey(leg.from(), leg.to()), leg);
+            }
+            coursesLegs.add(courseLegs);
+            totalLegs += courseLegs.size();
+        }
+
+        AtomicBoolean providerFailed = new AtomicBoolean(false);
+        Instant deadline = fanOutExecutor.deadlineAfter(Duration.ofMillis(routingDeadlineMillis));
+        Map<String, RouteLegMetrics> resolved = new HashMap<>();
+        int waypointCalls = 0;
+        if (waypointRouting) {
+            List<Callable<WaypointPrefetch>> courseTasks = coursesLegs.stream()
+                .<Callable<WaypointPrefetch>>map(courseLegs -> () -> {
+                    if (providerFailed.get()) {
+                        return null;
+                    }
+                    WaypointPrefetch prefetch = prefetchWaypointSections(courseLegs);
+                    if (prefetch.blocked()) {
+                        providerFailed.set(true);
+                    }
+                    return prefetch;
+                })
+                .toList();
+            for (WaypointPrefetch prefetch : fanOutExecutor.invokeOrdered(
+                "kakao-routing",
+                routingConcurrency,
+                deadline,
+                courseTasks
+            )) {
+                if (prefetch != null) {
+                    resolved.putAll(prefetch.legs());
+                    waypointCalls += prefetch.called() ? 1 : 0;
+                }
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        uniqueLegs.forEach((key, leg) -> {
+            if (!resolved.containsKey(key)) {
+                keys.add(key);
+                legs.add(leg);
+            }
+        });
+        List<Callable<RouteLegMetrics>> tasks = legs.stream()
+            .<Callable<RouteLegMetrics>>map(leg -> () -> {
+                if (providerFailed.get()) {
+                    return null;
+                }
+                RouteLegMetrics metrics = fetchSegmentMetrics(leg.from(), leg.to());
+                if (metrics == null) {
+                    providerFailed.set(true);
+                }
+                return metrics;
+            })
+            .toList();
+        List<RouteLegMetrics> results = fanOutExecutor.invokeOrdered(
+            "kakao-routing",
+            routingConcurrency,
+            deadline,
+            tasks
+        );
+
+        for (int index = 0; index < keys.size(); index++) {
+            RouteLegMetrics metrics = results.get(index);
+            if (metrics != null) {
+                resolved.put(keys.get(index), metrics);
+            }
+        }
+        log.info(
+            "Routing legs resolved - totalLegs={}, uniqueLegs={}, waypointCalls={}, perLegCalls={}, resolved={}, providerFailed={}",
+            totalLegs,
+            uniqueLegs.size(),
+            waypointCalls,
+            legs.size(),
+            resolved.size(),
+            providerFailed.get()
+        );
+        return resolved;
+    }
+
+    /**
+     * 코스 하나를 경유지 호출 한 번으로 계산하고, 돌아온 구간마다 구간별 캐시를 채운다.
+     * 이미 모든 구간이 캐시에 있으면 호출하지 않으며, 실패한 구간은 구간별 조회가 이어서 맡는다.
+     */
+    private WaypointPrefetch prefetchWaypointSections(List<Leg> legs) {
+        Map<String, RouteLegMetrics> known = new HashMap<>();
+        if (!waypointRouting || legs.size() < 2) {
+            return new WaypointPrefetch(known, false, false);
+        }
+        boolean missing = false;
+        for (Leg leg : legs) {
+            String segmentKey = buildSegmentCacheKey(leg.from(), leg.to());
+            RouteLegMetrics cached = cacheService.getRouteMetrics(segmentKey);
+            if (cached != null) {
+                known.put(segmentKey, cached);
+            } else {
+                missing = true;
+            }
+        }
+        if (!missing) {
+            return new WaypointPrefetch(known, false, false);
+        }
+
+        WaypointResult result;
+        try {
+            result = routingClient.fetchWaypointSections(
+                toCoordinate(legs.getFirst().from()),
+                legs.subList(1, legs.size()).stream().map(leg -> toCoordinate(leg.from())).toList(),
+                toCoordinate(legs.getLast().to())
+            );
+        } catch (Exception ex) {
+            log.debug("Waypoint routing fallback", ex);
+            return new WaypointPrefetch(known, false, true);
+        }
+        if (result.isBlocked()) {
+            return new WaypointPrefetch(known, true, true);
+        }
+        if (result.sections().size() != legs.size()) {
+            log.info("Waypoint routing fallback - legs={}, status={}", legs.size(), result.statusCode());
+            return new WaypointPrefetch(known, false, true);
+        }
+        for (int index = 0; index < legs.size(); index++) {
+            SegmentResult section = result.sections().get(index);
+            if (!section.routingSuccess()) {
+                continue;
+            }
+            Leg leg = legs.get(index);
+            String segmentKey = buildSegmentCacheKey(leg.from(), leg.to());
+            RouteLegMetrics metrics = new RouteLegMetrics(section.distanceKm(), section.durationMinutes(), true);
+            cacheService.putRouteMetrics(segmentKey, metrics);
+            known.put(segmentKey, metrics);
+        }
+        return new WaypointPrefetch(known, false, true);
+    }
+
+    private List<Leg> planLegs(List<Poi> stops, GeoPoint origin, GeoPoint destination) {
+        List<Leg> legs = new ArrayList<>(stops.size() + 1);
+        GeoPoint previous = origin;
+        for (Poi poi : stops) {
+            GeoPoint current = new GeoPoint(poi.lng(), poi.lat());
+            legs.add(new Leg(previous, current));
+            previous = current;
+        }
+        legs.add(new Leg(previous, destination));
+        return legs;
+    }
+
+    private Coordinate toCoordinate(GeoPoint point) {
+        return new Coordinate(point.x(), point.y());
+    }
+
     private Course buildFallbackCourse(
         List<Poi> stops,
         GeoPoint origin,
@@ -270,6 +513,12 @@ public class RouteCalculationService {
         return new RouteLegMetrics(distanceKm, estimateMinutes(distanceKm), routingSuccess);
     }
 
+    private record Leg(GeoPoint from, GeoPoint to) {
+    }
+
+    private record WaypointPrefetch(Map<String, RouteLegMetrics> legs, boolean blocked, boolean called) {
+    }
+
     private String buildSegmentCacheKey(GeoPoint origin, GeoPoint destination) {
         return new StringBuilder("route-metrics-segment:")
             .append(formatPoint(origin))
@@ -0,0 +1,129 @@
+package io.routepickapi.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class HedgerTest {
+
+    @Test
+    void call_sendsNoHedgeUntilEnoughSamples() {
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            Hedger<String> hedger = new Hedger<>(executor, value -> true, 0.9, 1.0, 5, 10, Duration.ZERO, 64);
+
+            assertThat(hedger.call(() -> "ok")).isEqualTo("ok");
+
+            assertThat(hedger.calls()).isEqualTo(1);
+            assertThat(hedger.hedged()).isZero();
+            assertThat(hedger.delayMillis()).isZero();
+        }
+    }
+
+    @Test
+    void call_hedgesSlowPrimaryAndReturnsFasterCopy() {
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            Hedger<String> hedger = new Hedger<>(executor, value -> true, 0.9, 1.0, 5, 10, Duration.ofMillis(20), 64);
+            for (int index = 0; index < 10; index++) {
+                hedger.record(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = hedger.call(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(release);
+                    return "primary";
+                }
+                return "hedge";
+            });
+            release.countDown();
+
+            assertThat(result).isEqualTo("hedge");
+            assertThat(hedger.delayMillis()).isEqualTo(20.0);
+            assertThat(hedger.hedged()).isEqualTo(1);
+            assertThat(hedger.hedgeWins()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void call_keepsSlowPrimarySuccessOverFastHedgeFailure() {
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            Hedger<String> hedger = new Hedger<>(
+                executor, value -> !value.equals("throttled"), 0.9, 1.0, 5, 10, Duration.ofMillis(20), 64);
+            for (int index = 0; index < 10; index++) {
+                hedger.record(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+            AtomicInteger attempts = new AtomicInteger();
+
+            // 사본은 곧바로 실패 값을 돌려주지만, 늦게 성공하는 primary 가 이겨야 한다
+            String result = hedger.call(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    return slow(new AtomicInteger());
+                }
+                return "throttled";
+            });
+
+            assertThat(result).isEqualTo("done");
+            assertThat(hedger.hedged()).isEqualTo(1);
+            assertThat(hedger.hedgeWins()).isZero();
+        }
+    }
+
+    @Test
+    void call_waitsForPrimaryWhenBudgetIsSpent() {
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            Hedger<String> hedger = new Hedger<>(executor, value -> true, 0.9, 0.0, 1, 10, Duration.ZERO, 64);
+            for (int index = 0; index < 10; index++) {
+                hedger.record(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            AtomicInteger attempts = new AtomicInteger();
+
+            hedger.call(() -> slow(attempts));
+            hedger.call(() -> slow(attempts));
+
+            assertThat(hedger.hedged()).isEqualTo(1);
+            assertThat(hedger.budgetRejected()).isEqualTo(1);
+            assertThat(attempts.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void record_keepsRecomputingDelayPastIntRangeOfSamples() {
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            Hedger<String> hedger = new Hedger<>(executor, value -> true, 0.9, 1.0, 5, 10, Duration.ZERO, 16);
+            ReflectionTestUtils.setField(hedger, "recorded", new AtomicLong(Integer.MAX_VALUE - 8L));
+
+            for (int index = 0; index < 32; index++) {
+                hedger.record(TimeUnit.MILLISECONDS.toNanos(7));
+            }
+
+            assertThat(hedger.delayMillis()).isEqualTo(7.0);
+        }
+    }
+
+    private static String slow(AtomicInteger attempts) {
+        attempts.incrementAndGet();
+        try {
+            Thread.sleep(30);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
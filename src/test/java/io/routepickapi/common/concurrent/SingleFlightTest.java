@@ -0,0 +1,75 @@
+package io.routepickapi.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_sharesOneCallAcrossConcurrentCallers() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int index = 0; index < callers; index++) {
+                futures.add(executor.submit(() -> flight.execute("leg", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            while (flight.executions() + flight.shared() < callers) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(2, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flight.shared()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void execute_runsAgainAfterPreviousCallCompleted() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        flight.execute("leg", calls::incrementAndGet);
+        flight.execute("leg", calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_propagatesFailure() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+        assertThrows(IllegalStateException.class, () -> flight.execute("leg", () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
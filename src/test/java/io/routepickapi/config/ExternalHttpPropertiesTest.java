@@ -0,0 +1,28 @@
+package io.routepickapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ExternalHttpPropertiesTest {
+
+    @Test
+    void resolve_fillsMissingProviderValuesFromDefaults() {
+        ExternalHttpProperties properties = new ExternalHttpProperties();
+        properties.getDefaults().setReadTimeout(Duration.ofSeconds(4));
+        ExternalHttpProperties.Pool overpass = new ExternalHttpProperties.Pool();
+        overpass.setReadTimeout(Duration.ofSeconds(30));
+        overpass.setMaxConnections(4);
+        properties.getProviders().put("overpass", overpass);
+
+        ExternalHttpProperties.Pool resolved = properties.resolve("overpass");
+        ExternalHttpProperties.Pool unknown = properties.resolve("unknown");
+
+        assertThat(resolved.getReadTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(resolved.getMaxConnections()).isEqualTo(4);
+        assertThat(resolved.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(unknown.getReadTimeout()).isEqualTo(Duration.ofSeconds(4));
+        assertThat(unknown.getMaxConnections()).isEqualTo(20);
+    }
+}
@@ -19,6 +19,7 @@ import io.routepickapi.security.JwtAccessDeniedHandler;
 import io.routepickapi.security.JwtAuthenticationEntryPoint;
 import io.routepickapi.security.MdcUserFilter;
 import io.routepickapi.security.jwt.JwtAuthenticationFilter;
+import io.routepickapi.service.recommendation.DriveCourseStreamService;
 import io.routepickapi.service.recommendation.pipeline.DriveCourseCommand;
 import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
 import io.routepickapi.service.recommendation.pipeline.RecommendationFacade;
@@ -31,6 +32,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @WebMvcTest(DriveCourseRecommendationController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -48,6 +50,9 @@ class DriveCourseRecommendationControllerTest {
     @MockBean
     private RecommendationResponseMapper recommendationResponseMapper;
 
+    @MockBean
+    private DriveCourseStreamService driveCourseStreamService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -179,6 +184,36 @@ class DriveCourseRecommendationControllerTest {
         verifyNoInteractions(recommendationFacade, recommendationResponseMapper);
     }
 
+    @Test
+    void driveCourseStream_delegatesToStreamService() throws Exception {
+        when(driveCourseStreamService.stream(any(DriveCourseCommand.class), any())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get(BASE_URL + "/stream")
+                .param("originLat", "37.5665")
+                .param("originLng", "126.9780")
+                .param("destinationLat", "37.7519")
+                .param("destinationLng", "128.8761")
+                .param("theme", "nature"))
+            .andExpect(status().isOk());
+
+        ArgumentCaptor<DriveCourseCommand> captor = ArgumentCaptor.forClass(DriveCourseCommand.class);
+        verify(driveCourseStreamService).stream(captor.capture(), any());
+        verifyNoInteractions(recommendationFacade);
+        assertThat(captor.getValue().destinationLat()).isEqualTo(37.7519);
+        assertThat(captor.getValue().theme()).isEqualTo("nature");
+    }
+
+    @Test
+    void driveCourseStream_returnsBadRequest_whenDestinationMissing() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/stream")
+                .param("originLat", "37.5665")
+                .param("originLng", "126.9780"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("CMN-001"));
+
+        verifyNoInteractions(driveCourseStreamService, recommendationFacade);
+    }
+
     private RecommendationResponse sampleResponse(LocalDateTime departure, LocalDateTime generated) {
         ScoreBreakdownResponse breakdown = new ScoreBreakdownResponse(
             32.0,
@@ -0,0 +1,113 @@
+package io.routepickapi.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.routepickapi.config.ExternalGuardProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+class ExternalProviderGuardTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ExternalProviderGuard guard;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ExternalGuardProperties properties = new ExternalGuardProperties();
+        properties.setFailureThreshold(3);
+        // 버킷 없이 차단기만 본다
+        properties.getProviders().put("kakao-routing", new ExternalGuardProperties.Limit());
+        guard = new ExternalProviderGuard(properties, redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void throttledResponse_opensCircuitForEveryCallUntilRetryAfter() {
+        long now = 1_000_000L;
+
+        guard.onResponse("kakao-routing", 429, "10", now);
+
+        verify(valueOperations).set(
+            "external-circuit:kakao-routing",
+            Long.toString(now + 10_000L),
+            10_000L,
+            TimeUnit.MILLISECONDS
+        );
+        assertThat(guard.tryAcquire("kakao-routing", now + 9_000L))
+            .isEqualTo(ExternalProviderGuard.Decision.CIRCUIT_OPEN);
+        assertThat(guard.tryAcquire("kakao-routing", now + 10_000L))
+            .isEqualTo(ExternalProviderGuard.Decision.ALLOWED);
+    }
+
+    @Test
+    void circuitOpenedByAnotherInstance_isReadFromRedis() {
+        long now = 2_000_000L;
+        when(valueOperations.get("external-circuit:kakao-routing")).thenReturn(Long.toString(now + 5_000L));
+
+        assertThat(guard.tryAcquire("kakao-routing", now))
+            .isEqualTo(ExternalProviderGuard.Decision.CIRCUIT_OPEN);
+    }
+
+    @Test
+    void serverErrors_openCircuitOnlyAfterThreshold() {
+        long now = 3_000_000L;
+
+        guard.onResponse("kakao-routing", 503, null, now);
+        guard.onResponse("kakao-routing", 200, null, now);
+        guard.onResponse("kakao-routing", 503, null, now);
+        guard.onFailure("kakao-routing", now);
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        guard.onResponse("kakao-routing", 502, null, now);
+
+        verify(valueOperations).set(
+            "external-circuit:kakao-routing",
+            Long.toString(now + 30_000L),
+            30_000L,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Test
+    void openCircuit_shortCircuitsRestClientCallAsTooManyRequests() {
+        guard.onResponse("kakao-routing", 429, "30", System.currentTimeMillis());
+        AtomicInteger sent = new AtomicInteger();
+        ClientHttpRequestFactory network = (uri, method) -> {
+            sent.incrementAndGet();
+            throw new IllegalStateException("network must not be called");
+        };
+        RestClient client = RestClient.builder()
+            .requestFactory(network)
+            .requestInterceptor(guard.interceptor("kakao-routing"))
+            .build();
+
+        assertThatThrownBy(() -> client.get()
+            .uri("http://localhost/v1/directions")
+            .retrieve()
+            .toBodilessEntity())
+            .isInstanceOf(HttpClientErrorException.TooManyRequests.class)
+            .satisfies(ex -> assertThat(((HttpClientErrorException) ex).getResponseHeaders()
+                .getFirst(ExternalProviderGuard.SHORT_CIRCUIT_HEADER)).isEqualTo("circuit_open"));
+        assertThat(sent).hasValue(0);
+    }
+}
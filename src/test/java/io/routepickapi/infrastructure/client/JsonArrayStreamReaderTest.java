@@ -0,0 +1,67 @@
+package io.routepickapi.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.routepickapi.infrastructure.client.tour.dto.TourItem;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonArrayStreamReaderTest {
+
+    private static final List<String> ITEMS_PATH = List.of("response", "body", "items", "item");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void read_skipsOtherFieldsAndKeepsMatchingItemsUpToLimit() throws Exception {
+        String json = """
+            {"response":{"header":{"resultCode":"0000","extra":[1,{"a":2}]},
+             "body":{"items":{"item":[
+               {"contentid":"1","title":"A","mapx":"127.1","mapy":"37.5"},
+               {"contentid":"2","title":"B","mapx":"","mapy":"37.0"},
+               null,
+               {"contentid":"3","title":"C","mapx":"127.0","mapy":"37.0"},
+               {"contentid":"4","title":"D","mapx":"127.2","mapy":"37.2"}
+             ]},"numOfRows":10}}}
+            """;
+
+        List<TourItem> items = JsonArrayStreamReader.read(
+            objectMapper,
+            stream(json),
+            ITEMS_PATH,
+            TourItem.class,
+            item -> item.mapx() != null && !item.mapx().isBlank(),
+            2
+        );
+
+        assertThat(items).extracting(TourItem::contentid).containsExactly("1", "3");
+    }
+
+    @Test
+    void read_returnsEmptyWhenPathHoldsNoArray() throws Exception {
+        String json = """
+            {"response":{"body":{"items":"","numOfRows":0}}}
+            """;
+
+        List<TourItem> items = JsonArrayStreamReader.read(
+            objectMapper,
+            stream(json),
+            ITEMS_PATH,
+            TourItem.class,
+            item -> true,
+            10
+        );
+
+        assertThat(items).isEmpty();
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package io.routepickapi.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.routepickapi.common.error.CustomException;
+import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.infrastructure.client.ExternalHttpTransport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+class KakaoLocalServiceTest {
+
+    @Test
+    void searchKeyword_mapsThrottledResponseToRateLimitError() {
+        ExternalHttpTransport transport = mock(ExternalHttpTransport.class);
+        when(transport.requestFactory("kakao-local")).thenReturn((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+            return request;
+        });
+        KakaoLocalService service = new KakaoLocalService(RestClient.builder(), transport, "http://localhost");
+        ReflectionTestUtils.setField(service, "restApiKey", "test-key");
+
+        assertThatThrownBy(() -> service.searchKeyword("카페", 1, 15))
+            .isInstanceOf(CustomException.class)
+            .extracting(ex -> ((CustomException) ex).getType())
+            .isEqualTo(ErrorType.COMMON_RATE_LIMIT);
+    }
+}
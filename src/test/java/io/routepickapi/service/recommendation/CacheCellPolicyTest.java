@@ -0,0 +1,49 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CacheCellPolicyTest {
+
+    private final CacheCellPolicy policy = new CacheCellPolicy();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(policy, "enabled", true);
+        ReflectionTestUtils.setField(policy, "shortMaxMinutes", 60);
+        ReflectionTestUtils.setField(policy, "mediumMaxMinutes", 180);
+        ReflectionTestUtils.setField(policy, "shortPrecision", 7);
+        ReflectionTestUtils.setField(policy, "mediumPrecision", 6);
+        ReflectionTestUtils.setField(policy, "longPrecision", 5);
+    }
+
+    @Test
+    void geohash_matchesReferenceValues() {
+        assertThat(GeoUtils.geohash(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoUtils.geohash(37.5665, 126.9780, 7)).isEqualTo("wydm9qy");
+    }
+
+    @Test
+    void cellKey_sharesKeyForNearbyDeparturesAndWidensWithDuration() {
+        // 서울역 광장 안에서 수십 m 떨어진 두 지점
+        String first = policy.cellKey(37.55470, 126.97060, 40);
+        String second = policy.cellKey(37.55490, 126.97100, 40);
+        String far = policy.cellKey(37.56650, 126.97800, 40);
+
+        assertThat(first).isEqualTo(second).startsWith("gh7=");
+        assertThat(far).isNotEqualTo(first);
+        assertThat(policy.cellKey(37.55470, 126.97060, 120)).startsWith("gh6=");
+        assertThat(policy.cellKey(37.55470, 126.97060, 240)).startsWith("gh5=");
+        assertThat(policy.cellKey(37.55470, 126.97060, null)).startsWith("gh7=");
+    }
+
+    @Test
+    void cellKey_keepsExactCoordinatesWhenDisabled() {
+        ReflectionTestUtils.setField(policy, "enabled", false);
+
+        assertThat(policy.cellKey(37.554701, 126.970602, 40)).isEqualTo("37.55470,126.97060");
+    }
+}
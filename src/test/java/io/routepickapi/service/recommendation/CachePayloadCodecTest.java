@@ -0,0 +1,75 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CachePayloadCodecTest {
+
+    private static final TypeReference<List<Place>> TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_jsonWithoutCompressionKeepsPlainJson() throws Exception {
+        CachePayloadCodec codec = new CachePayloadCodec(objectMapper, 0);
+        List<Place> places = places(3);
+
+        byte[] payload = codec.encode(places, CacheFormat.JSON);
+
+        assertThat(new String(payload, StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(places));
+        assertThat(codec.decode(payload, TYPE)).isEqualTo(places);
+    }
+
+    @Test
+    void decode_roundTripsEveryFormatWithAndWithoutCompression() throws Exception {
+        List<Place> places = places(40);
+
+        for (int threshold : new int[] {0, 1}) {
+            CachePayloadCodec codec = new CachePayloadCodec(objectMapper, threshold);
+            for (CacheFormat format : CacheFormat.values()) {
+                byte[] payload = codec.encode(places, format);
+
+                assertThat(codec.decode(payload, TYPE)).isEqualTo(places);
+            }
+        }
+    }
+
+    @Test
+    void encode_compressesOnlyAboveThreshold() throws Exception {
+        CachePayloadCodec codec = new CachePayloadCodec(objectMapper, 1024);
+        byte[] plain = objectMapper.writeValueAsBytes(places(40));
+
+        byte[] small = codec.encode(places(1), CacheFormat.SMILE);
+        byte[] large = codec.encode(places(40), CacheFormat.SMILE);
+
+        assertThat(small[2]).isZero();
+        assertThat(large[2]).isEqualTo((byte) 1);
+        assertThat(large.length).isLessThan(plain.length / 2);
+    }
+
+    @Test
+    void decode_readsLegacyJsonStoredBeforeCodec() throws Exception {
+        CachePayloadCodec codec = new CachePayloadCodec(objectMapper, 1);
+        byte[] legacy = "[{\"name\":\"정동진\",\"lat\":37.69,\"lng\":129.03}]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(codec.decode(legacy, TYPE)).containsExactly(new Place("정동진", 37.69, 129.03));
+    }
+
+    private List<Place> places(int count) {
+        List<Place> places = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            places.add(new Place("강릉 안목해변 카페 " + index, 37.7 + index * 0.01, 128.9));
+        }
+        return places;
+    }
+
+    record Place(String name, double lat, double lng) {
+    }
+}
@@ -0,0 +1,64 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.routepickapi.dto.recommendation.CandidatePlace;
+import io.routepickapi.dto.recommendation.CandidateSource;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CandidateDistanceMatrixTest {
+
+    private static final GeoPoint ORIGIN = new GeoPoint(126.9780, 37.5665);
+    private static final GeoPoint DESTINATION = new GeoPoint(127.2000, 37.7000);
+
+    @Test
+    void between_matchesHaversineAndIsSymmetric() {
+        List<CandidatePlace> places = List.of(
+            place("1", 127.0100, 37.5800),
+            place("2", 127.0500, 37.6100),
+            place("3", 127.1200, 37.6500)
+        );
+        CandidateDistanceMatrix matrix = CandidateDistanceMatrix.of(ORIGIN, DESTINATION, places);
+
+        for (int first = 0; first < places.size(); first++) {
+            assertThat(matrix.fromOrigin(first))
+                .isCloseTo(GeoUtils.distanceKm(ORIGIN, point(places.get(first))), within(1e-9));
+            assertThat(matrix.toDestination(first))
+                .isCloseTo(GeoUtils.distanceKm(point(places.get(first)), DESTINATION), within(1e-9));
+            for (int second = 0; second < places.size(); second++) {
+                double expected = GeoUtils.distanceKm(point(places.get(first)), point(places.get(second)));
+                assertThat(matrix.between(first, second)).isCloseTo(expected, within(1e-9));
+                assertThat(matrix.between(second, first)).isEqualTo(matrix.between(first, second));
+            }
+        }
+    }
+
+    @Test
+    void pathDistanceKm_sumsOriginStopsAndDestination() {
+        CandidatePlace first = place("1", 127.0100, 37.5800);
+        CandidatePlace second = place("2", 127.0500, 37.6100);
+        CandidatePlace outside = place("9", 127.1000, 37.6400);
+        CandidateDistanceMatrix matrix = CandidateDistanceMatrix.of(ORIGIN, DESTINATION, List.of(first, second));
+
+        double expected = GeoUtils.distanceKm(ORIGIN, point(first))
+            + GeoUtils.distanceKm(point(first), point(outside))
+            + GeoUtils.distanceKm(point(outside), point(second))
+            + GeoUtils.distanceKm(point(second), DESTINATION);
+
+        assertThat(matrix.indexOf(outside)).isEqualTo(-1);
+        assertThat(matrix.legDistancesKm(List.of(first, outside, second))).hasSize(4);
+        assertThat(matrix.pathDistanceKm(List.of(first, outside, second))).isCloseTo(expected, within(1e-9));
+        assertThat(matrix.pathDistanceKm(List.of())).isCloseTo(GeoUtils.distanceKm(ORIGIN, DESTINATION), within(1e-9));
+    }
+
+    private CandidatePlace place(String id, double x, double y) {
+        return new CandidatePlace(id, "장소" + id, "", x, y, "관광명소", "", "", "", "", CandidateSource.KAKAO, List.of());
+    }
+
+    private GeoPoint point(CandidatePlace place) {
+        return new GeoPoint(place.x(), place.y());
+    }
+}
@@ -0,0 +1,106 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.routepickapi.dto.course.DriveMood;
+import io.routepickapi.dto.recommendation.CandidatePlace;
+import io.routepickapi.dto.recommendation.CandidateSource;
+import io.routepickapi.dto.recommendation.CourseCandidate;
+import io.routepickapi.dto.recommendation.DrivePreference;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CourseCandidateBuilderTest {
+
+    private static final GeoPoint ORIGIN = new GeoPoint(127.00, 37.40);
+    private static final GeoPoint DESTINATION = new GeoPoint(127.30, 37.70);
+    private static final String[] NAMES = {"호수 공원", "전망대 카페", "스타벅스", "산책로", "수목원", "박물관", "편의점"};
+    private static final String[] CATEGORIES = {"관광명소 > 공원", "음식점 > 카페", "문화시설 > 박물관", "여행 > 해수욕장"};
+
+    private final CourseCandidateBuilder builder = new CourseCandidateBuilder();
+    private final CourseScoreCalculator calculator = new CourseScoreCalculator(mock(RouteMetricsService.class));
+    private final DrivePreference preference =
+        new DrivePreference(List.of(DriveMood.HEALING), List.of(), List.of(), false);
+    private final RouteMetrics routeMetrics = new RouteMetrics(42.0, 63.0, 8.0, 12.0, 6.0);
+
+    @Test
+    void bestFirst_emitsCoursesInEstimatedScoreOrder() {
+        List<CandidatePlace> candidates = candidates(120, new Random(7));
+        CandidateDistanceMatrix distances = CandidateDistanceMatrix.of(ORIGIN, DESTINATION, candidates);
+        CourseScoreCalculator.CourseEstimator estimator =
+            calculator.estimator(ORIGIN, DESTINATION, preference, 2, routeMetrics);
+
+        List<CourseCandidate> courses =
+            builder.buildCourses(ORIGIN, DESTINATION, candidates, 1, 2, distances, estimator);
+
+        assertThat(courses).isNotEmpty().hasSizeLessThanOrEqualTo(30);
+        double previous = Double.POSITIVE_INFINITY;
+        for (CourseCandidate course : courses) {
+            double estimate = estimator.estimate(
+                course.stops().stream().map(estimator::stop).toList(),
+                distances.pathDistanceKm(course.stops())
+            );
+            assertThat(estimate).isLessThanOrEqualTo(previous + 1e-9);
+            assertThat(course.totalDistanceKm()).isEqualTo(distances.pathDistanceKm(course.stops()));
+            previous = estimate;
+        }
+    }
+
+    @Test
+    void upperBound_isNotBelowAnyExtensionEstimate() {
+        Random random = new Random(11);
+        List<CandidatePlace> candidates = candidates(60, random);
+        CandidateDistanceMatrix distances = CandidateDistanceMatrix.of(ORIGIN, DESTINATION, candidates);
+        CourseScoreCalculator.CourseEstimator estimator =
+            calculator.estimator(ORIGIN, DESTINATION, preference, 3, routeMetrics);
+
+        for (int trial = 0; trial < 200; trial++) {
+            List<CandidatePlace> course = new ArrayList<>();
+            while (course.size() < 4) {
+                CandidatePlace next = candidates.get(random.nextInt(candidates.size()));
+                if (!course.contains(next)) {
+                    course.add(next);
+                }
+            }
+            List<CandidatePlace> prefix = course.subList(0, 1 + random.nextInt(3));
+            double bound = estimator.upperBound(
+                prefix.stream().map(estimator::stop).toList(),
+                distances.pathDistanceKm(prefix),
+                4
+            );
+            for (int size = prefix.size() + 1; size <= 4; size++) {
+                List<CandidatePlace> extended = course.subList(0, size);
+                double estimate = estimator.estimate(
+                    extended.stream().map(estimator::stop).toList(),
+                    distances.pathDistanceKm(extended)
+                );
+                assertThat(estimate).isLessThanOrEqualTo(bound + 1e-9);
+            }
+        }
+    }
+
+    private List<CandidatePlace> candidates(int count, Random random) {
+        List<CandidatePlace> candidates = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            candidates.add(new CandidatePlace(
+                "id" + index,
+                NAMES[random.nextInt(NAMES.length)] + index,
+                "",
+                127.0 + random.nextDouble() * 0.3,
+                37.4 + random.nextDouble() * 0.3,
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                "",
+                "",
+                "",
+                "",
+                CandidateSource.values()[random.nextInt(CandidateSource.values().length)],
+                random.nextBoolean() ? List.of("자연") : List.of()
+            ));
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,134 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.routepickapi.common.error.ApiErrorResponse;
+import io.routepickapi.common.error.ErrorType;
+import io.routepickapi.service.RealtimeStreamService;
+import io.routepickapi.service.recommendation.pipeline.DriveCourseCommand;
+import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
+import io.routepickapi.service.recommendation.pipeline.RecommendationFacade;
+import io.routepickapi.service.recommendation.pipeline.RecommendationProgressListener;
+import io.routepickapi.service.recommendation.pipeline.RecommendationProgressListener.Stage;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class DriveCourseStreamServiceTest {
+
+    private final List<String> events = new ArrayList<>();
+    private final List<Object> payloads = new ArrayList<>();
+
+    private RecommendationFacade facade;
+    private RealtimeStreamService realtimeStreamService;
+    private SseEmitter emitter;
+    private DriveCourseStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        facade = mock(RecommendationFacade.class);
+        realtimeStreamService = mock(RealtimeStreamService.class);
+        emitter = new SseEmitter();
+        when(realtimeStreamService.openRequestStream(anyLong())).thenReturn(emitter);
+        when(realtimeStreamService.send(eq(emitter), anyString(), any())).thenAnswer(invocation -> {
+            events.add(invocation.getArgument(1));
+            payloads.add(invocation.getArgument(2));
+            return true;
+        });
+        // 파이프라인을 호출 스레드에서 바로 돌려 이벤트 순서를 그대로 본다
+        ExternalFanOutExecutor fanOutExecutor = mock(ExternalFanOutExecutor.class);
+        when(fanOutExecutor.submit(any())).thenAnswer(invocation ->
+            CompletableFuture.completedFuture(((Callable<?>) invocation.getArgument(0)).call()));
+        service = new DriveCourseStreamService(facade, realtimeStreamService, fanOutExecutor);
+    }
+
+    @Test
+    void stream_sendsPreviewStagesBeforeResultAndCompletes() {
+        when(facade.recommend(any(DriveCourseCommand.class), any(RecommendationProgressListener.class)))
+            .thenAnswer(invocation -> {
+                RecommendationProgressListener listener = invocation.getArgument(1);
+                listener.onPartialResult(Stage.CURATED, result("curated"));
+                listener.onPartialResult(Stage.ENRICHED, result("enriched"));
+                return result("final");
+            });
+
+        service.stream(command(), Function.identity());
+
+        assertThat(events).containsExactly("curated", "enriched", "result");
+        assertThat(payloads).extracting(payload -> ((DriveCourseResult) payload).requestId())
+            .containsExactly("curated", "enriched", "final");
+        verify(realtimeStreamService).complete(emitter);
+    }
+
+    @Test
+    void stream_sendsErrorAfterPartialWhenPipelineFailsMidStream() {
+        when(facade.recommend(any(DriveCourseCommand.class), any(RecommendationProgressListener.class)))
+            .thenAnswer(invocation -> {
+                RecommendationProgressListener listener = invocation.getArgument(1);
+                listener.onPartialResult(Stage.CURATED, result("curated"));
+                throw new IllegalStateException("routing failed");
+            });
+
+        service.stream(command(), Function.identity());
+
+        assertThat(events).containsExactly("curated", "error");
+        ApiErrorResponse error = (ApiErrorResponse) payloads.get(1);
+        assertThat(error.code()).isEqualTo(ErrorType.COMMON_INTERNAL.code);
+        assertThat(error.requestId()).isEqualTo("req-1");
+        verify(realtimeStreamService).complete(emitter);
+    }
+
+    @Test
+    void stream_stopsSendingOnceClientIsGone() {
+        when(realtimeStreamService.send(eq(emitter), anyString(), any())).thenAnswer(invocation -> {
+            events.add(invocation.getArgument(1));
+            return false;
+        });
+        when(facade.recommend(any(DriveCourseCommand.class), any(RecommendationProgressListener.class)))
+            .thenAnswer(invocation -> {
+                RecommendationProgressListener listener = invocation.getArgument(1);
+                listener.onPartialResult(Stage.CURATED, result("curated"));
+                listener.onPartialResult(Stage.ENRICHED, result("enriched"));
+                return result("final");
+            });
+
+        service.stream(command(), Function.identity());
+
+        assertThat(events).containsExactly("curated");
+        verify(realtimeStreamService).complete(emitter);
+    }
+
+    private DriveCourseCommand command() {
+        return new DriveCourseCommand(
+            "req-1",
+            37.5547,
+            126.9706,
+            37.7519,
+            128.8761,
+            "nature",
+            120,
+            3,
+            LocalDateTime.of(2026, 5, 1, 9, 0),
+            false,
+            List.of()
+        );
+    }
+
+    private DriveCourseResult result(String requestId) {
+        return new DriveCourseResult(requestId, 37.5547, 126.9706, LocalDateTime.of(2026, 5, 1, 9, 0),
+            List.of(), List.of(), LocalDateTime.of(2026, 5, 1, 9, 0));
+    }
+}
@@ -0,0 +1,65 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExternalFanOutExecutorTest {
+
+    private final ExternalFanOutExecutor executor = new ExternalFanOutExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void invokeOrdered_keepsInputOrderRegardlessOfCompletionOrder() {
+        List<Callable<Integer>> tasks = List.of(
+            delayed(1, 80),
+            delayed(2, 10),
+            delayed(3, 40)
+        );
+
+        List<Integer> results = executor.invokeOrdered(
+            "test",
+            3,
+            Instant.now().plus(Duration.ofSeconds(2)),
+            tasks
+        );
+
+        assertThat(results).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void invokeOrdered_fillsNullForFailedOrLateTasks() {
+        List<Callable<Integer>> tasks = List.of(
+            delayed(1, 0),
+            () -> {
+                throw new IllegalStateException("boom");
+            },
+            delayed(3, 2000)
+        );
+
+        List<Integer> results = executor.invokeOrdered(
+            "test-late",
+            3,
+            Instant.now().plus(Duration.ofMillis(200)),
+            tasks
+        );
+
+        assertThat(results).containsExactly(1, null, null);
+    }
+
+    private Callable<Integer> delayed(int value, long delayMillis) {
+        return () -> {
+            Thread.sleep(delayMillis);
+            return value;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class KeywordMatcherTest {
+
+    private static final List<String> KEYWORDS = List.of(
+        "전망대", "전망", "야경", "산", "산책", "산책로", "카페", "뷰카페", "해변", "바다", "he", "she", "hers"
+    );
+
+    @Test
+    void findAll_matchesContainsForEveryKeyword() {
+        KeywordMatcher matcher = KeywordMatcher.of(KEYWORDS);
+        Random random = new Random(11);
+        String alphabet = "전망대야경산책로카페뷰해변바다hers ";
+
+        for (int sample = 0; sample < 2000; sample++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int index = 0; index < length; index++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            List<String> expected = KEYWORDS.stream()
+                .filter(keyword -> text.toString().contains(keyword))
+                .toList();
+
+            assertThat(matcher.findAll(text.toString())).containsExactlyElementsOf(expected);
+            assertThat(matcher.matches(text.toString())).isEqualTo(!expected.isEmpty());
+        }
+    }
+
+    @Test
+    void findFirst_returnsEarliestDeclaredKeyword() {
+        KeywordMatcher brands = KeywordMatcher.of(List.of("스타벅스", "이디야", "투썸"));
+
+        assertThat(brands.findFirst("투썸플레이스 옆 이디야커피")).isEqualTo("이디야");
+        assertThat(brands.findFirst("스타벅스 강릉점")).isEqualTo("스타벅스");
+        assertThat(brands.findFirst("동네 카페")).isNull();
+    }
+
+    @Test
+    void fieldSeparatorPreventsCrossFieldMatches() {
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("전망대"));
+
+        assertThat(matcher.matches("남산전망\n대공원")).isFalse();
+        assertThat(matcher.matches("남산\n전망대")).isTrue();
+    }
+
+    @Test
+    void emptyMatcherNeverMatches() {
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("", ""));
+
+        assertThat(matcher.keywords()).isEmpty();
+        assertThat(matcher.matches("아무 텍스트")).isFalse();
+        assertThat(matcher.findAll(null)).isEmpty();
+    }
+}
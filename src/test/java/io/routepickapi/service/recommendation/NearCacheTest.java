@@ -0,0 +1,41 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void get_returnsStoredValueUntilTtlExpires() {
+        NearCache cache = new NearCache(10, now::get);
+        cache.put("route-metrics-segment:a", "value", Duration.ofSeconds(5));
+
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(cache.get("route-metrics-segment:a")).isEqualTo("value");
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(cache.get("route-metrics-segment:a")).isNull();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedEntryWhenFull() {
+        NearCache cache = new NearCache(2, now::get);
+        cache.put("a", 1, Duration.ofMinutes(1));
+        cache.put("b", 2, Duration.ofMinutes(1));
+        cache.get("a");
+
+        cache.put("c", 3, Duration.ofMinutes(1));
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.routepickapi.dto.recommendation.CandidatePlace;
+import io.routepickapi.dto.recommendation.CandidateSource;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PlaceDeduplicatorTest {
+
+    private final PlaceDeduplicator deduplicator = new PlaceDeduplicator();
+
+    @Test
+    void deduplicate_keepsHigherPrioritySourceWithinRadius() {
+        CandidatePlace kakao = place("1", "경포 전망대", 128.9000, 37.7950, CandidateSource.KAKAO, List.of());
+        CandidatePlace tour = place("2", "경포대 전망", 128.9005, 37.7952, CandidateSource.TOURAPI, List.of());
+        CandidatePlace overpass = place("3", "경포 호수", 128.9008, 37.7949, CandidateSource.OVERPASS, List.of("lake"));
+
+        List<CandidatePlace> result = deduplicator.deduplicate(List.of(kakao, tour, overpass));
+
+        assertThat(result).containsExactly(tour);
+    }
+
+    @Test
+    void deduplicate_prefersMoreTagsAndKeepsResultOrder() {
+        CandidatePlace first = place("1", "안목 해변", 128.9470, 37.7720, CandidateSource.KAKAO, List.of());
+        CandidatePlace far = place("2", "정동진", 129.0340, 37.6900, CandidateSource.KAKAO, List.of());
+        CandidatePlace tagged = place("3", "안목 커피거리", 128.9475, 37.7721, CandidateSource.KAKAO, List.of("cafe"));
+        CandidatePlace sameName = place("4", "정 동진", 129.1000, 37.6000, CandidateSource.TOURAPI, List.of());
+
+        List<CandidatePlace> result = deduplicator.deduplicate(List.of(first, far, tagged, sameName));
+
+        // 이름이 같은 장소는 먼저 합쳐지고, 교체된 장소는 결과 맨 뒤로 간다.
+        assertThat(result).containsExactly(sameName, tagged);
+    }
+
+    @Test
+    void deduplicate_detectsNeighborsAcrossGridCells() {
+        List<CandidatePlace> places = new ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            // 약 100m 간격으로 한 줄로 놓아 이웃 칸 경계를 여러 번 넘긴다.
+            places.add(place(String.valueOf(index), "장소" + index, 127.0 + index * 0.0011, 37.5,
+                CandidateSource.KAKAO, List.of()));
+        }
+
+        List<CandidatePlace> result = deduplicator.deduplicate(places);
+
+        // 앞에서부터 남긴 장소와 150m 안이면 버려지므로 하나 건너 하나만 남는다.
+        assertThat(result).hasSize(20);
+        assertThat(result).extracting(CandidatePlace::id).startsWith("0", "2", "4");
+    }
+
+    private CandidatePlace place(
+        String id,
+        String name,
+        double x,
+        double y,
+        CandidateSource source,
+        List<String> tags
+    ) {
+        return new CandidatePlace(id, name, "", x, y, "관광명소", "", "", "", "", source, tags);
+    }
+}
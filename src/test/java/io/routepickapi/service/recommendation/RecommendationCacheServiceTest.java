@@ -0,0 +1,226 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
+import io.routepickapi.service.recommendation.pipeline.DriveCourseResult;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RecommendationCacheServiceTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final Map<String, byte[]> stored = new HashMap<>();
+    private final Map<String, Expiration> expirations = new HashMap<>();
+    private final Map<String, Long> remainingMillis = new HashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private RecommendationCacheService cacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands commands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(commands);
+        when(commands.get(any(byte[].class)))
+            .thenAnswer(invocation -> stored.get(key(invocation.getArgument(0))));
+        when(commands.set(any(byte[].class), any(byte[].class), any(Expiration.class), any(SetOption.class)))
+            .thenAnswer(invocation -> {
+                String key = key(invocation.getArgument(0));
+                stored.put(key, invocation.getArgument(1));
+                expirations.put(key, invocation.getArgument(2));
+                return true;
+            });
+        when(redisTemplate.execute(any(RedisCallback.class)))
+            .thenAnswer(invocation -> ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection));
+        stubPipeline();
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cacheService = new RecommendationCacheService(redisTemplate, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cacheService, "routeMetricsFormat", "json");
+        ReflectionTestUtils.setField(cacheService, "searchFormat", "json");
+        ReflectionTestUtils.setField(cacheService, "candidateBundleFormat", "json");
+        ReflectionTestUtils.setField(cacheService, "resultFormat", "smile");
+        ReflectionTestUtils.setField(cacheService, "staleWhileRevalidate", true);
+        ReflectionTestUtils.setField(cacheService, "resultStaleSeconds", 300L);
+        ReflectionTestUtils.setField(cacheService, "refreshLockSeconds", 30L);
+        cacheService.init();
+    }
+
+    @Test
+    void putDriveCourseResult_keepsEntryForFreshPlusStaleWindow() {
+        cacheService.putDriveCourseResult("drive-course:a", result(), Duration.ofSeconds(60));
+
+        RecommendationCacheService.ResultEntry entry = cacheService.getDriveCourseResult("drive-course:a");
+
+        assertThat(expirations.get("drive-course:a").getExpirationTimeInSeconds()).isEqualTo(360);
+        assertThat(entry.result().requestId()).isEqualTo("req-1");
+        assertThat(entry.isStale(System.currentTimeMillis())).isFalse();
+        assertThat(entry.isStale(System.currentTimeMillis() + Duration.ofSeconds(61).toMillis())).isTrue();
+    }
+
+    @Test
+    void putDriveCourseResult_withoutStaleWindowExpiresAtFreshTtl() {
+        cacheService.putDriveCourseResult("drive-course:b", result(), Duration.ofSeconds(10), Duration.ZERO);
+
+        assertThat(expirations.get("drive-course:b").getExpirationTimeInSeconds()).isEqualTo(10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryLockResultRefresh_grantsOnlyFirstCaller() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(eq("refresh-lock:drive-course:a"), eq("1"), eq(Duration.ofSeconds(30))))
+            .thenReturn(true, false);
+
+        assertThat(cacheService.tryLockResultRefresh("drive-course:a")).isTrue();
+        assertThat(cacheService.tryLockResultRefresh("drive-course:a")).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getKakaoPlaces_returnsHitsOfMixedBatchFromOneRead() {
+        cacheService.putKakaoPlaces(Map.of("poi-search:a", List.of(document("a"))));
+
+        Map<String, List<KakaoPlaceDocument>> found =
+            cacheService.getKakaoPlaces(List.of("poi-search:a", "poi-search:b"));
+
+        assertThat(found).containsOnlyKeys("poi-search:a");
+        assertThat(found.get("poi-search:a")).extracting(KakaoPlaceDocument::id).containsExactly("a");
+        assertThat(expirations.get("poi-search:a").getExpirationTimeInSeconds()).isEqualTo(300);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class), isNull());
+    }
+
+    @Test
+    void putKakaoPlaces_fillsNearCacheSoRepeatedBatchSkipsRedis() {
+        enableNearCache();
+        cacheService.putKakaoPlaces(Map.of("poi-search:a", List.of(document("a"))));
+        stored.clear();
+
+        assertThat(cacheService.getKakaoPlaces(List.of("poi-search:a"))).containsOnlyKeys("poi-search:a");
+    }
+
+    @Test
+    void putKakaoPlaces_keepsNearEntrySafeFromCallerAndReaderMutation() {
+        enableNearCache();
+        List<KakaoPlaceDocument> documents = new ArrayList<>(List.of(document("a")));
+        cacheService.putKakaoPlaces(Map.of("poi-search:a", documents));
+        stored.clear();
+
+        // 넘긴 목록을 나중에 바꿔도 near cache 의 값은 그대로이고, 꺼낸 값은 바꿀 수 없다
+        documents.add(document("b"));
+        List<KakaoPlaceDocument> cached = cacheService.getKakaoPlaces(List.of("poi-search:a")).get("poi-search:a");
+
+        assertThat(cached).extracting(KakaoPlaceDocument::id).containsExactly("a");
+        assertThatThrownBy(() -> cached.add(document("c"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void getRouteMetrics_keepsNearEntryNoLongerThanRedisTtl() {
+        cacheService.putRouteMetrics("route:a", new RouteMetricsService.RouteLegMetrics(5.0, 12.0, true));
+        enableNearCache();
+        remainingMillis.put("route:a", 2_000L);
+
+        assertThat(cacheService.getRouteMetrics("route:a")).isNotNull();
+        stored.remove("route:a");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cacheService.getRouteMetrics("route:a")).isNotNull();
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(cacheService.getRouteMetrics("route:a")).isNull();
+    }
+
+    /**
+     * 파이프라인 안의 명령은 응답을 모아 두었다가 executePipelined 의 반환값으로 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubPipeline() {
+        List<Object> replies = new ArrayList<>();
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands commands = mock(RedisStringCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.stringCommands()).thenReturn(commands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(commands.get(any(byte[].class))).thenAnswer(invocation -> {
+            replies.add(stored.get(key(invocation.getArgument(0))));
+            return null;
+        });
+        when(commands.mGet(any(byte[][].class))).thenAnswer(invocation -> {
+            List<byte[]> values = new ArrayList<>();
+            for (byte[] rawKey : (byte[][]) invocation.getRawArguments()[0]) {
+                values.add(stored.get(key(rawKey)));
+            }
+            replies.add(values);
+            return null;
+        });
+        when(commands.set(any(byte[].class), any(byte[].class), any(Expiration.class), any(SetOption.class)))
+            .thenAnswer(invocation -> {
+                String key = key(invocation.getArgument(0));
+                stored.put(key, invocation.getArgument(1));
+                expirations.put(key, invocation.getArgument(2));
+                replies.add(true);
+                return null;
+            });
+        when(keyCommands.pTtl(any(byte[].class))).thenAnswer(invocation -> {
+            String key = key(invocation.getArgument(0));
+            replies.add(stored.containsKey(key) ? remainingMillis.getOrDefault(key, -1L) : -2L);
+            return null;
+        });
+        Answer<List<Object>> pipeline = invocation -> {
+            replies.clear();
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return new ArrayList<>(replies);
+        };
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(pipeline);
+        when(redisTemplate.executePipelined(any(RedisCallback.class), isNull())).thenAnswer(pipeline);
+    }
+
+    private void enableNearCache() {
+        ReflectionTestUtils.setField(cacheService, "nearCacheEnabled", true);
+        ReflectionTestUtils.setField(cacheService, "nearCacheTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cacheService, "nearCache", new NearCache(100, clock::get));
+    }
+
+    private KakaoPlaceDocument document(String id) {
+        return new KakaoPlaceDocument(id, "장소 " + id, "여행 > 카페", "CE7", "카페", null,
+            "강원", "강원", null, "127.5", "37.6", null);
+    }
+
+    private DriveCourseResult result() {
+        return new DriveCourseResult("req-1", 37.5547, 126.9706, LocalDateTime.of(2026, 5, 1, 9, 0),
+            List.of(), List.of(), LocalDateTime.of(2026, 5, 1, 9, 0));
+    }
+
+    private String key(byte[] raw) {
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+}
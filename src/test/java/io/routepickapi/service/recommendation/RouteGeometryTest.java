@@ -0,0 +1,64 @@
+package io.routepickapi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.routepickapi.dto.recommendation.GeoPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RouteGeometryTest {
+
+    @Test
+    void locate_matchesSegmentScanDistance() {
+        List<GeoPoint> path = seoulToGangneung();
+        RouteGeometry geometry = RouteGeometry.of(path);
+        Random random = new Random(7);
+
+        for (int sample = 0; sample < 300; sample++) {
+            GeoPoint point = new GeoPoint(126.8 + random.nextDouble() * 2.2, 37.2 + random.nextDouble() * 0.9);
+            double expected = Double.MAX_VALUE;
+            for (int index = 1; index < path.size(); index++) {
+                expected = Math.min(expected,
+                    GeoUtils.distancePointToSegmentKm(path.get(index - 1), path.get(index), point));
+            }
+
+            assertThat(geometry.locate(point).distanceKm()).isCloseTo(expected, within(0.01 * expected + 0.05));
+        }
+    }
+
+    @Test
+    void locate_reportsProgressAlongPath() {
+        List<GeoPoint> path = seoulToGangneung();
+        RouteGeometry geometry = RouteGeometry.of(path);
+
+        assertThat(geometry.locate(path.get(0)).progressRatio()).isCloseTo(0.0, within(1e-9));
+        assertThat(geometry.locate(path.get(path.size() - 1)).progressRatio()).isCloseTo(1.0, within(1e-9));
+        assertThat(geometry.locate(path.get(path.size() / 2)).progressRatio()).isCloseTo(0.5, within(0.05));
+        assertThat(geometry.totalDistanceKm()).isCloseTo(new RoutePath(path, true).totalDistanceKm(), within(1e-9));
+    }
+
+    @Test
+    void locate_returnsZeroForDegeneratePaths() {
+        GeoPoint seoul = new GeoPoint(126.9780, 37.5665);
+
+        assertThat(RouteGeometry.of(List.of()).locate(seoul)).isEqualTo(new RouteGeometry.Location(0.0, 0.0));
+        assertThat(RouteGeometry.of(List.of(seoul)).locate(seoul)).isEqualTo(new RouteGeometry.Location(0.0, 0.0));
+        assertThat(RouteGeometry.of(List.of(seoul, seoul)).locate(new GeoPoint(127.0, 37.5665)).progressRatio())
+            .isZero();
+    }
+
+    private List<GeoPoint> seoulToGangneung() {
+        List<GeoPoint> points = new ArrayList<>();
+        int count = 120;
+        for (int index = 0; index <= count; index++) {
+            double ratio = index / (double) count;
+            double lng = 126.9780 + (128.8761 - 126.9780) * ratio;
+            double lat = 37.5665 + (37.7519 - 37.5665) * ratio + 0.08 * Math.sin(ratio * Math.PI * 3);
+            points.add(new GeoPoint(lng, lat));
+        }
+        return points;
+    }
+}
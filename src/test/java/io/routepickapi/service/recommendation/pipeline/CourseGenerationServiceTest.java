@@ -0,0 +1,211 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.GeoUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CourseGenerationServiceTest {
+
+    private static final GeoPoint ORIGIN = new GeoPoint(127.00, 37.50);
+    private static final GeoPoint DESTINATION = new GeoPoint(127.40, 37.80);
+    private static final String[] TYPES = {"viewpoint", "park", "cafe", "museum", "beach"};
+
+    private final CourseGenerationService service = new CourseGenerationService();
+
+    @Test
+    void generate_returnsDiversePlansWithinLimit() {
+        List<CoursePlan> plans = service.generate(pois(40), 3, 10);
+
+        assertThat(plans).hasSize(10);
+        for (int left = 0; left < plans.size(); left++) {
+            assertThat(plans.get(left).stops()).hasSizeBetween(2, 3);
+            for (int right = left + 1; right < plans.size(); right++) {
+                assertThat(overlapRatio(plans.get(left), plans.get(right))).isLessThan(0.6);
+            }
+        }
+    }
+
+    @Test
+    void generate_picksHighestScoredCombinationFirst() {
+        List<Poi> pois = pois(20);
+        Poi best = pois.get(7);
+        Poi second = pois.get(13);
+        CourseGenerationService.SearchSpec spec = new CourseGenerationService.SearchSpec(
+            null,
+            null,
+            null,
+            poi -> poi == best ? 10.0 : poi == second ? 9.0 : 1.0
+        );
+
+        List<CoursePlan> plans = service.generate(pois, List.of(), 2, 5, spec);
+
+        assertThat(plans.getFirst().stops()).containsExactlyInAnyOrder(best, second);
+    }
+
+    @Test
+    void generate_ordersStopsAlongRouteAndRespectsDurationBound() {
+        CourseGenerationService.SearchSpec spec = new CourseGenerationService.SearchSpec(
+            ORIGIN,
+            DESTINATION,
+            120,
+            null
+        );
+
+        List<CoursePlan> plans = service.generate(pois(40), List.of(), 4, 10, spec);
+
+        assertThat(plans).isNotEmpty();
+        long maxMinutes = 120 + 72 + 20;
+        for (CoursePlan plan : plans) {
+            assertThat(estimateMinutes(plan)).isLessThanOrEqualTo(maxMinutes);
+            List<Poi> stops = plan.stops();
+            for (int index = 1; index < stops.size(); index++) {
+                assertThat(progress(stops.get(index))).isGreaterThanOrEqualTo(progress(stops.get(index - 1)));
+            }
+        }
+    }
+
+    @Test
+    void generate_keepsLongHighwayCourseThatRoutedDurationAccepts() {
+        // 서울 → 강릉 직선 약 165km. 40km/h 로 환산하면 248분이지만 실제 경로는 150분 안팎이다.
+        GeoPoint seoul = new GeoPoint(126.9780, 37.5665);
+        GeoPoint gangneung = new GeoPoint(128.8761, 37.7519);
+        Poi longStayA = alongRoute("a", seoul, gangneung, 0.3, 60);
+        Poi longStayB = alongRoute("b", seoul, gangneung, 0.6, 60);
+        Poi shortStayC = alongRoute("c", seoul, gangneung, 0.4, 10);
+        Poi shortStayD = alongRoute("d", seoul, gangneung, 0.7, 10);
+        CourseGenerationService.SearchSpec spec = new CourseGenerationService.SearchSpec(
+            seoul,
+            gangneung,
+            200,
+            poi -> poi == longStayA || poi == longStayB ? 10.0 : 1.0
+        );
+
+        List<CoursePlan> plans = service.generate(
+            List.of(longStayA, longStayB, shortStayC, shortStayD),
+            List.of(),
+            2,
+            5,
+            spec
+        );
+
+        // 경로 150분 + 체류 120분 = 270분은 최종 컷(200 + 120분) 안이므로 살아남아야 한다.
+        assertThat(plans.getFirst().stops()).containsExactly(longStayA, longStayB);
+    }
+
+    @Test
+    void generate_keepsFixedStopsInEveryPlan() {
+        List<Poi> pois = pois(20);
+        Poi fixed = pois.get(3);
+
+        List<CoursePlan> plans = service.generate(pois, List.of(fixed), 3, 10);
+
+        assertThat(plans).isNotEmpty();
+        assertThat(plans).allSatisfy(plan -> {
+            assertThat(plan.stops()).contains(fixed);
+            assertThat(plan.stops().stream().filter(stop -> stop == fixed)).hasSize(1);
+        });
+    }
+
+    @Test
+    void generate_keepsFixedStopsFirstInGivenOrderAndOrdersOnlyFreeStops() {
+        List<Poi> pois = pois(20);
+        Poi nearDestination = alongRoute("fixed-late", ORIGIN, DESTINATION, 0.9, 20);
+        Poi nearOrigin = alongRoute("fixed-early", ORIGIN, DESTINATION, 0.1, 20);
+        CourseGenerationService.SearchSpec spec = new CourseGenerationService.SearchSpec(
+            ORIGIN,
+            DESTINATION,
+            240,
+            null
+        );
+
+        List<CoursePlan> plans = service.generate(pois, List.of(nearDestination, nearOrigin), 4, 10, spec);
+
+        // 진행 방향과 반대로 준 고정 경유지도 받은 순서대로 앞에 남는다
+        assertThat(plans).isNotEmpty();
+        assertThat(plans).allSatisfy(plan -> {
+            List<Poi> stops = plan.stops();
+            assertThat(stops.subList(0, 2)).containsExactly(nearDestination, nearOrigin);
+            for (int index = 3; index < stops.size(); index++) {
+                assertThat(progress(stops.get(index))).isGreaterThanOrEqualTo(progress(stops.get(index - 1)));
+            }
+        });
+    }
+
+    private List<Poi> pois(int count) {
+        List<Poi> pois = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            // 경로 주변에 고르게 흩어 놓되 점수는 인덱스마다 다르게 준다.
+            double ratio = (index * 7 % count) / (double) count;
+            double offset = (index % 3 - 1) * 0.02;
+            pois.add(new Poi(
+                "KAKAO",
+                String.valueOf(index),
+                "장소 " + index,
+                37.50 + 0.30 * ratio + offset,
+                127.00 + 0.40 * ratio - offset,
+                TYPES[index % TYPES.length],
+                Set.of(),
+                true,
+                0.3 + (index * 13 % 10) / 20.0,
+                0.2,
+                Duration.ofMinutes(20 + index % 4 * 10),
+                0.5
+            ));
+        }
+        return pois;
+    }
+
+    private Poi alongRoute(String id, GeoPoint from, GeoPoint to, double ratio, int stayMinutes) {
+        return new Poi(
+            "KAKAO",
+            id,
+            "장소 " + id,
+            from.y() + (to.y() - from.y()) * ratio,
+            from.x() + (to.x() - from.x()) * ratio,
+            "viewpoint",
+            Set.of(),
+            true,
+            0.5,
+            0.2,
+            Duration.ofMinutes(stayMinutes),
+            0.5
+        );
+    }
+
+    private double overlapRatio(CoursePlan left, CoursePlan right) {
+        Set<Poi> shared = new HashSet<>(left.stops());
+        shared.retainAll(right.stops());
+        return shared.size() / (double) Math.min(left.stops().size(), right.stops().size());
+    }
+
+    private long estimateMinutes(CoursePlan plan) {
+        double distanceKm = 0.0;
+        long stays = 0L;
+        GeoPoint previous = ORIGIN;
+        for (Poi stop : plan.stops()) {
+            GeoPoint point = new GeoPoint(stop.lng(), stop.lat());
+            distanceKm += GeoUtils.distanceKm(previous, point);
+            stays += stop.stayDuration().toMinutes();
+            previous = point;
+        }
+        distanceKm += GeoUtils.distanceKm(previous, DESTINATION);
+        return CourseGenerationService.optimisticMinutes(distanceKm) + stays;
+    }
+
+    private double progress(Poi poi) {
+        double cosLat = Math.cos(Math.toRadians((ORIGIN.y() + DESTINATION.y()) / 2.0));
+        double dx = (DESTINATION.x() - ORIGIN.x()) * cosLat;
+        double dy = DESTINATION.y() - ORIGIN.y();
+        double px = (poi.lng() - ORIGIN.x()) * cosLat;
+        double py = poi.lat() - ORIGIN.y();
+        return (px * dx + py * dy) / (dx * dx + dy * dy);
+    }
+}
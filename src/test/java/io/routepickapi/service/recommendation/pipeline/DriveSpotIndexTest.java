@@ -0,0 +1,77 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.GeoUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DriveSpotIndexTest {
+
+    private static final GeoPoint SEOUL = new GeoPoint(126.9780, 37.5665);
+    private static final GeoPoint GANGNEUNG = new GeoPoint(128.8761, 37.7519);
+
+    @Test
+    void withinCorridor_matchesLinearScanAndKeepsRankOrder() {
+        List<Poi> spots = randomSpots(500);
+        DriveSpotIndex index = DriveSpotIndex.of(spots);
+
+        for (double radiusKm : new double[] {0.5, 5.0, 20.0, 60.0}) {
+            List<Poi> expected = spots.stream()
+                .filter(spot -> GeoUtils.distancePointToSegmentKm(
+                    SEOUL, GANGNEUNG, new GeoPoint(spot.lng(), spot.lat())) <= radiusKm)
+                .toList();
+
+            assertThat(index.withinCorridor(SEOUL, GANGNEUNG, radiusKm)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void withinCorridor_returnsEmptyForEmptyIndex() {
+        assertThat(DriveSpotIndex.empty().withinCorridor(SEOUL, GANGNEUNG, 10.0)).isEmpty();
+        assertThat(DriveSpotIndex.of(List.of()).size()).isZero();
+    }
+
+    @Test
+    void withinCorridor_handlesSamePointRoute() {
+        Poi near = spot(0, 37.5700, 126.9800);
+        Poi far = spot(1, 37.9000, 127.5000);
+        DriveSpotIndex index = DriveSpotIndex.of(List.of(near, far));
+
+        assertThat(index.withinCorridor(SEOUL, SEOUL, 2.0)).containsExactly(near);
+    }
+
+    private List<Poi> randomSpots(int count) {
+        Random random = new Random(42);
+        List<Poi> spots = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            double lat = 37.0 + random.nextDouble() * 1.4;
+            double lng = 126.5 + random.nextDouble() * 2.8;
+            spots.add(spot(index, lat, lng));
+        }
+        return spots;
+    }
+
+    private Poi spot(int index, double lat, double lng) {
+        return new Poi(
+            "CURATED",
+            String.valueOf(index),
+            "드라이브 스팟 " + index,
+            lat,
+            lng,
+            "viewpoint",
+            Set.of("curated"),
+            false,
+            0.7,
+            0.2,
+            Duration.ofMinutes(40),
+            0.8
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.routepickapi.entity.drive.DriveSpot;
+import io.routepickapi.repository.DriveSpotRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DriveSpotServiceTest {
+
+    private DriveSpotRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private DriveSpotService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DriveSpotRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DriveSpotService(repository, meterRegistry);
+        service.registerMetrics();
+    }
+
+    @Test
+    void fetchStats_loadsSnapshotOnFirstUseAndServesLaterCallsFromIt() {
+        when(repository.count()).thenReturn(3L);
+        when(repository.findByIsActiveTrue()).thenReturn(List.of(spot(1L, "nature,sea"), spot(2L, "cafe")));
+
+        // 첫 갱신 전에는 게이지가 값을 내지 않고, 첫 요청이 snapshot 을 만든다
+        assertThat(gauge("total")).isNaN();
+        DriveSpotService.DriveSpotStats first = service.fetchStats("nature");
+        DriveSpotService.DriveSpotStats second = service.fetchStats("nature");
+
+        assertThat(first).isEqualTo(new DriveSpotService.DriveSpotStats(3, 2, 1));
+        assertThat(second).isEqualTo(first);
+        assertThat(gauge("total")).isEqualTo(3.0);
+        verify(repository, times(1)).count();
+        verify(repository, times(1)).findByIsActiveTrue();
+    }
+
+    @Test
+    void refresh_replacesStatsAndKeepsPreviousSnapshotWhenLoadFails() {
+        when(repository.count()).thenReturn(3L, 4L, 5L);
+        when(repository.findByIsActiveTrue())
+            .thenReturn(List.of(spot(1L, "nature")))
+            .thenReturn(List.of(spot(1L, "nature"), spot(2L, "Nature,forest"), spot(3L, "cafe")))
+            .thenThrow(new IllegalStateException("db down"));
+
+        service.refresh();
+        assertThat(service.fetchStats("nature")).isEqualTo(new DriveSpotService.DriveSpotStats(3, 1, 1));
+
+        service.refresh();
+        assertThat(service.fetchStats("nature")).isEqualTo(new DriveSpotService.DriveSpotStats(4, 3, 2));
+        assertThat(service.activeSpotCount()).isEqualTo(3);
+
+        service.refresh();
+        assertThat(service.fetchStats("nature")).isEqualTo(new DriveSpotService.DriveSpotStats(4, 3, 2));
+    }
+
+    private double gauge(String state) {
+        return meterRegistry.get("recommendation.drive-spots").tag("state", state).gauge().value();
+    }
+
+    private DriveSpot spot(Long id, String themes) {
+        DriveSpot spot = mock(DriveSpot.class);
+        when(spot.getId()).thenReturn(id);
+        when(spot.getName()).thenReturn("스팟 " + id);
+        when(spot.getLat()).thenReturn(37.5 + id * 0.01);
+        when(spot.getLng()).thenReturn(127.0 + id * 0.01);
+        when(spot.getSpotType()).thenReturn("viewpoint");
+        when(spot.getThemes()).thenReturn(themes);
+        when(spot.getViewScore()).thenReturn(0.8);
+        when(spot.getDriveSuitability()).thenReturn(0.6);
+        when(spot.getStayMinutes()).thenReturn(30);
+        return spot;
+    }
+}
@@ -0,0 +1,153 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse;
+import io.routepickapi.dto.place.KakaoPlaceSearchResponse.KakaoPlaceDocument;
+import io.routepickapi.infrastructure.client.kakao.KakaoLocalClient;
+import io.routepickapi.infrastructure.client.tour.TourApiClient;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
+import io.routepickapi.service.recommendation.ExternalFanOutExecutor;
+import io.routepickapi.service.recommendation.RecommendationCacheService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PoiCollectorServiceTest {
+
+    private KakaoLocalClient kakaoLocalClient;
+    private TourApiClient tourApiClient;
+    private RecommendationCacheService cacheService;
+    private ExternalFanOutExecutor fanOutExecutor;
+    private PoiCollectorService service;
+
+    @BeforeEach
+    void setUp() {
+        kakaoLocalClient = mock(KakaoLocalClient.class);
+        tourApiClient = mock(TourApiClient.class);
+        cacheService = mock(RecommendationCacheService.class);
+        fanOutExecutor = new ExternalFanOutExecutor();
+        CacheCellPolicy cacheCellPolicy = new CacheCellPolicy();
+        ReflectionTestUtils.setField(cacheCellPolicy, "enabled", true);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortMaxMinutes", 60);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumMaxMinutes", 180);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortPrecision", 7);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumPrecision", 6);
+        ReflectionTestUtils.setField(cacheCellPolicy, "longPrecision", 5);
+        service = new PoiCollectorService(
+            kakaoLocalClient,
+            tourApiClient,
+            cacheService,
+            fanOutExecutor,
+            cacheCellPolicy
+        );
+        ReflectionTestUtils.setField(service, "kakaoCap", 100);
+        ReflectionTestUtils.setField(service, "tourCap", 20);
+        ReflectionTestUtils.setField(service, "concurrentCollect", true);
+        ReflectionTestUtils.setField(service, "collectDeadlineMillis", 3000L);
+        ReflectionTestUtils.setField(service, "kakaoConcurrency", 4);
+        ReflectionTestUtils.setField(service, "tourConcurrency", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collect_searchesOnlyMissedKeysAndWritesThemBack() {
+        List<String> requestedKeys = new ArrayList<>();
+        when(cacheService.getKakaoPlaces(anyCollection())).thenAnswer(invocation -> {
+            requestedKeys.addAll(invocation.<Collection<String>>getArgument(0));
+            return Map.of(requestedKeys.getFirst(), List.of(document("cached")));
+        });
+        when(cacheService.getTourItems(anyCollection())).thenReturn(Map.of());
+        when(kakaoLocalClient.searchKeywordByLocation(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt()))
+            .thenAnswer(invocation -> new KakaoPlaceSearchResponse(
+                new KakaoPlaceSearchResponse.KakaoMeta(true, 1, 1),
+                List.of(document("fetched-" + invocation.getArgument(0)))
+            ));
+
+        RawPoiBundle bundle = service.collect(new PoiCollectionRequest(
+            37.5547,
+            126.9706,
+            37.7519,
+            128.8761,
+            5000,
+            120,
+            List.of("카페", "전망대"),
+            List.of()
+        ));
+
+        // 검색 지점 3곳 × 키워드 2개 = 6개 key 를 한 번에 조회하고, 적중한 1개는 검색하지 않는다
+        assertThat(requestedKeys).hasSize(6);
+        verify(kakaoLocalClient, times(5))
+            .searchKeywordByLocation(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt());
+        assertThat(bundle.kakaoPlaces()).extracting(KakaoPlaceDocument::id).contains("cached");
+
+        ArgumentCaptor<Map<String, List<KakaoPlaceDocument>>> written = ArgumentCaptor.forClass(Map.class);
+        verify(cacheService).putKakaoPlaces(written.capture());
+        assertThat(written.getValue().keySet())
+            .hasSize(5)
+            .doesNotContain(requestedKeys.getFirst())
+            .allMatch(requestedKeys::contains);
+        verify(cacheService).putPoiBundle(anyString(), eq(bundle), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void collect_keepsIncompleteBundleOnlyForDefaultTtlButWritesFinishedSearches() {
+        when(cacheService.getKakaoPlaces(anyCollection())).thenReturn(Map.of());
+        when(cacheService.getTourItems(anyCollection())).thenReturn(Map.of());
+        when(kakaoLocalClient.searchKeywordByLocation(anyString(), anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt()))
+            .thenAnswer(invocation -> new KakaoPlaceSearchResponse(
+                new KakaoPlaceSearchResponse.KakaoMeta(true, 1, 1),
+                List.of(document("fetched-" + invocation.getArgument(0)))
+            ));
+        when(tourApiClient.fetchLocationBased(anyDouble(), anyDouble(), anyInt(), anyInt(), anyInt(), anyString()))
+            .thenThrow(new IllegalStateException("tour down"));
+
+        RawPoiBundle bundle = service.collect(new PoiCollectionRequest(
+            37.5547,
+            126.9706,
+            37.7519,
+            128.8761,
+            5000,
+            120,
+            List.of("카페", "전망대"),
+            null
+        ), Duration.ofHours(6));
+
+        // TourAPI 가 실패한 번들은 예열 TTL 로 두지 않지만, 끝난 Kakao 검색 결과는 그대로 쓴다
+        assertThat(bundle.tourItems()).isEmpty();
+        verify(cacheService, never()).putPoiBundle(anyString(), any(), eq(Duration.ofHours(6)));
+        verify(cacheService).putPoiBundle(anyString(), eq(bundle));
+        ArgumentCaptor<Map<String, List<KakaoPlaceDocument>>> written = ArgumentCaptor.forClass(Map.class);
+        verify(cacheService).putKakaoPlaces(written.capture());
+        assertThat(written.getValue()).hasSize(6);
+    }
+
+    private KakaoPlaceDocument document(String id) {
+        return new KakaoPlaceDocument(id, "장소 " + id, "여행 > 카페", "CE7", "카페", null,
+            "강원", "강원", null, "127.5", "37.6", null);
+    }
+}
@@ -0,0 +1,77 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.service.recommendation.RoutePath;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PoiFeatureTableTest {
+
+    private final PoiThemePolicy themePolicy = new PoiThemePolicy();
+    private final PoiFilterService filterService = new PoiFilterService(themePolicy);
+
+    @Test
+    void get_computesFeaturesOncePerPoi() {
+        RoutePath routePath = new RoutePath(
+            List.of(new GeoPoint(126.9780, 37.5665), new GeoPoint(128.8961, 37.7519)),
+            true
+        );
+        PoiFeatureTable table = new PoiFeatureTable(DriveTheme.NATURE, routePath, themePolicy);
+        Poi poi = poi("KAKAO", "1", "양평 두물머리 전망대", "관광명소", Set.of("전망대"));
+
+        PoiFeatureTable.Features first = table.get(poi);
+
+        assertThat(table.get(poi)).isSameAs(first);
+        assertThat(first.searchText()).isEqualTo("양평두물머리전망대\n관광명소\n전망대");
+        assertThat(first.allowlisted()).isTrue();
+        assertThat(first.blacklisted()).isFalse();
+        assertThat(first.themeMatch().allowed()).isTrue();
+        assertThat(first.themeMatch().score()).isEqualTo(themePolicy.themeScore(poi, DriveTheme.NATURE));
+        assertThat(first.location()).isNotNull();
+        assertThat(first.location().progressRatio()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    void filter_withSharedTableMatchesStandaloneFilter() {
+        List<Poi> pois = List.of(
+            poi("KAKAO", "1", "강릉 경포 해변", "관광명소", Set.of("해변")),
+            poi("KAKAO", "2", "강릉 중앙 약국", "약국", Set.of()),
+            poi("KAKAO", "3", "경포 카페거리 카페", "카페", Set.of("카페")),
+            poi("TOURAPI", "4", "경복궁 광화문", "관광명소", Set.of("궁")),
+            poi("TOURAPI", "5", "경복궁 근정전", "관광명소", Set.of("궁")),
+            poi("CURATED", "6", "대관령 숲길", "관광명소", Set.of("숲", "자연"))
+        );
+        PoiFeatureTable table = new PoiFeatureTable(DriveTheme.NATURE, null, themePolicy);
+
+        assertThat(filterService.filter(pois, DriveTheme.NATURE, "req", table))
+            .isEqualTo(filterService.filter(pois, DriveTheme.NATURE, "req"));
+        assertThat(filterService.filterRelaxed(pois, DriveTheme.NATURE, "req", table))
+            .isEqualTo(filterService.filterRelaxed(pois, DriveTheme.NATURE, "req"));
+        assertThat(filterService.filter(pois, DriveTheme.DEFAULT, "req", table))
+            .isEqualTo(filterService.filter(pois, DriveTheme.DEFAULT, "req"));
+        assertThat(filterService.filter(pois, DriveTheme.CAFE, "req", table))
+            .isEqualTo(filterService.filter(pois, DriveTheme.CAFE, "req"));
+    }
+
+    private Poi poi(String source, String id, String name, String type, Set<String> tags) {
+        return new Poi(
+            source,
+            id,
+            name,
+            37.7 + Integer.parseInt(id) * 0.01,
+            128.8 + Integer.parseInt(id) * 0.01,
+            type,
+            tags,
+            false,
+            0.7,
+            0.2,
+            Duration.ofMinutes(40),
+            0.8
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.routepickapi.entity.course.CourseRecommendationSave;
+import io.routepickapi.repository.CourseRecommendationSaveRepository;
+import io.routepickapi.service.recommendation.CacheCellPolicy;
+import io.routepickapi.service.recommendation.RecommendationCacheService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RecommendationCacheWarmerTest {
+
+    @Test
+    void popularTargets_groupsNearbySavesAndOrdersByCount() {
+        CacheCellPolicy cacheCellPolicy = new CacheCellPolicy();
+        ReflectionTestUtils.setField(cacheCellPolicy, "enabled", true);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortMaxMinutes", 60);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumMaxMinutes", 180);
+        ReflectionTestUtils.setField(cacheCellPolicy, "shortPrecision", 7);
+        ReflectionTestUtils.setField(cacheCellPolicy, "mediumPrecision", 6);
+        ReflectionTestUtils.setField(cacheCellPolicy, "longPrecision", 5);
+        RecommendationCacheWarmer warmer = new RecommendationCacheWarmer(
+            mock(CourseRecommendationSaveRepository.class),
+            mock(RecommendationFacade.class),
+            mock(RecommendationCacheService.class),
+            cacheCellPolicy
+        );
+        // 최근 저장 순서. 서울역 → 강릉 구간은 좌표가 조금씩 달라도 같은 칸이다.
+        List<CourseRecommendationSave> saves = List.of(
+            save(37.5660, 126.9780, 35.1587, 129.1604, "nature", 120),
+            save(37.55470, 126.97060, 37.7519, 128.8761, "nature", 120),
+            save(37.55490, 126.97100, 37.7521, 128.8765, "nature", 120),
+            save(37.55470, 126.97060, 37.7519, 128.8761, "cafe", 120),
+            save(37.55480, 126.97080, 37.7520, 128.8762, "nature", 120)
+        );
+
+        List<RecommendationCacheWarmer.WarmupTarget> targets = warmer.popularTargets(saves, 2);
+
+        assertThat(targets).hasSize(2);
+        assertThat(targets.get(0).saves()).isEqualTo(3);
+        assertThat(targets.get(0).theme()).isEqualTo("nature");
+        assertThat(targets.get(0).originLat()).isEqualTo(37.55470);
+        assertThat(targets.get(1).saves()).isEqualTo(1);
+        assertThat(targets.get(1).destinationLat()).isEqualTo(35.1587);
+    }
+
+    private CourseRecommendationSave save(
+        double originLat,
+        double originLng,
+        double destinationLat,
+        double destinationLng,
+        String theme,
+        int durationMinutes
+    ) {
+        CourseRecommendationSave save = mock(CourseRecommendationSave.class);
+        when(save.getOriginLat()).thenReturn(originLat);
+        when(save.getOriginLng()).thenReturn(originLng);
+        when(save.getDestinationLat()).thenReturn(destinationLat);
+        when(save.getDestinationLng()).thenReturn(destinationLng);
+        when(save.getTheme()).thenReturn(theme);
+        when(save.getDurationMinutes()).thenReturn(durationMinutes);
+        when(save.getMaxStops()).thenReturn(3);
+        return save;
+    }
+}
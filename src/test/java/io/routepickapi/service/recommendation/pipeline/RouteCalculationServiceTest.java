@@ -0,0 +1,134 @@
+package io.routepickapi.service.recommendation.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.routepickapi.domain.course.Course;
+import io.routepickapi.domain.poi.Poi;
+import io.routepickapi.dto.recommendation.GeoPoint;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.SegmentResult;
+import io.routepickapi.infrastructure.client.routing.KakaoRoutingClient.WaypointResult;
+import io.routepickapi.infrastructure.client.routing.dto.Coordinate;
+import io.routepickapi.service.recommendation.ExternalFanOutExecutor;
+import io.routepickapi.service.recommendation.RecommendationCacheService;
+import io.routepickapi.service.recommendation.RouteMetricsService.RouteLegMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RouteCalculationServiceTest {
+
+    private static final GeoPoint ORIGIN = new GeoPoint(126.9780, 37.5665);
+    private static final GeoPoint DESTINATION = new GeoPoint(127.2000, 37.6500);
+
+    private KakaoRoutingClient routingClient;
+    private RecommendationCacheService cacheService;
+    private RouteCalculationService service;
+
+    @BeforeEach
+    void setUp() {
+        routingClient = mock(KakaoRoutingClient.class);
+        cacheService = mock(RecommendationCacheService.class);
+        service = new RouteCalculationService(routingClient, cacheService, new ExternalFanOutExecutor());
+        ReflectionTestUtils.setField(service, "concurrentRouting", true);
+        ReflectionTestUtils.setField(service, "routingDeadlineMillis", 4000L);
+        ReflectionTestUtils.setField(service, "routingConcurrency", 4);
+        ReflectionTestUtils.setField(service, "waypointRouting", true);
+    }
+
+    @Test
+    void calculate_routesWholeCourseWithOneWaypointCallAndWarmsLegCache() {
+        when(routingClient.fetchWaypointSections(any(Coordinate.class), anyList(), any(Coordinate.class)))
+            .thenReturn(new WaypointResult(List.of(
+                new SegmentResult(5.0, 12.0, true, null),
+                new SegmentResult(7.0, 15.0, true, null),
+                new SegmentResult(9.0, 20.0, true, null)
+            ), null));
+
+        List<Course> courses = service.calculate(plans(), ORIGIN, DESTINATION, "서울", "nature");
+
+        assertThat(courses).hasSize(1);
+        assertThat(courses.getFirst().totalDistanceKm()).isEqualTo(21.0);
+        assertThat(courses.getFirst().stops()).noneMatch(stop -> stop.routingEstimated());
+        verify(routingClient, never()).fetchSegmentMetrics(any(), any());
+        verify(cacheService, times(3)).putRouteMetrics(anyString(), any(RouteLegMetrics.class));
+    }
+
+    @Test
+    void calculate_fallsBackToPerLegCallsWhenWaypointRoutingFails() {
+        when(routingClient.fetchWaypointSections(any(Coordinate.class), anyList(), any(Coordinate.class)))
+            .thenReturn(new WaypointResult(List.of(), null));
+        when(routingClient.fetchSegmentMetrics(any(), any()))
+            .thenReturn(new SegmentResult(6.0, 14.0, true, null));
+
+        List<Course> courses = service.calculate(plans(), ORIGIN, DESTINATION, "서울", "nature");
+
+        assertThat(courses).hasSize(1);
+        assertThat(courses.getFirst().totalDistanceKm()).isEqualTo(18.0);
+        verify(routingClient, times(3)).fetchSegmentMetrics(any(), any());
+    }
+
+    @Test
+    void calculate_routesLegSharedByCoursesOnlyOnce() {
+        ReflectionTestUtils.setField(service, "waypointRouting", false);
+        when(routingClient.fetchSegmentMetrics(any(), any()))
+            .thenReturn(new SegmentResult(6.0, 14.0, true, null));
+        Poi shared = poi("1", 37.5800, 127.0200);
+        List<CoursePlan> plans = List.of(
+            new CoursePlan(List.of(shared, poi("2", 37.6100, 127.1000))),
+            new CoursePlan(List.of(shared, poi("3", 37.6000, 127.1500)))
+        );
+
+        List<Course> courses = service.calculate(plans, ORIGIN, DESTINATION, "서울", "nature");
+
+        assertThat(courses).hasSize(2);
+        // 출발지 → 1 구간은 두 코스가 함께 쓴다: 6개 구간 중 5개만 조회
+        verify(routingClient, times(5)).fetchSegmentMetrics(any(), any());
+    }
+
+    @Test
+    void calculate_skipsLegsNotYetStartedAfterThrottledLeg() {
+        ReflectionTestUtils.setField(service, "waypointRouting", false);
+        ReflectionTestUtils.setField(service, "routingConcurrency", 1);
+        when(routingClient.fetchSegmentMetrics(any(), any()))
+            .thenReturn(new SegmentResult(0.0, 0.0, false, 429));
+
+        List<Course> courses = service.calculate(plans(), ORIGIN, DESTINATION, "서울", "nature");
+
+        verify(routingClient, times(1)).fetchSegmentMetrics(any(), any());
+        assertThat(courses).hasSize(1);
+        assertThat(courses.getFirst().stops()).allMatch(stop -> stop.routingEstimated());
+    }
+
+    private List<CoursePlan> plans() {
+        return List.of(new CoursePlan(List.of(poi("1", 37.5800, 127.0200), poi("2", 37.6100, 127.1000))));
+    }
+
+    private Poi poi(String id, double lat, double lng) {
+        return new Poi(
+            "KAKAO",
+            id,
+            "장소 " + id,
+            lat,
+            lng,
+            "cafe",
+            Set.of(),
+            true,
+            0.5,
+            0.2,
+            Duration.ofMinutes(30),
+            0.5
+        );
+    }
+}